@@ -0,0 +1,59 @@
+package nl.smith.mathematics.functions;
+
+import nl.smith.mathematics.number.NumberOperations;
+
+/**
+ * Immutable result of a series evaluated up to a tolerance: the value, an upper bound of the absolute error of the value and the number of terms summed.
+ *
+ * @author M. Smith
+ */
+public class Approximation<T extends NumberOperations<T>> {
+
+	private final T value;
+
+	private final T errorBound;
+
+	private final int numberOfTerms;
+
+	public Approximation(T value, T errorBound, int numberOfTerms) {
+		if (value == null || errorBound == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		if (errorBound.isNegative()) {
+			throw new IllegalArgumentException("\nThe error bound can not be negative");
+		}
+
+		this.value = value;
+		this.errorBound = errorBound;
+		this.numberOfTerms = numberOfTerms;
+	}
+
+	public T getValue() {
+		return value;
+	}
+
+	/** Returns an upper bound of |exact value - {@link #getValue()}| */
+	public T getErrorBound() {
+		return errorBound;
+	}
+
+	public int getNumberOfTerms() {
+		return numberOfTerms;
+	}
+
+	/** Returns the approximation of the negated value. The error bound is unchanged */
+	public Approximation<T> negate() {
+		return new Approximation<>(value.negate(), errorBound, numberOfTerms);
+	}
+
+	/** Returns the approximation of which the error bound is increased by an additional error */
+	public Approximation<T> addError(T additionalError) {
+		return new Approximation<>(value, errorBound.add(additionalError.abs()), numberOfTerms);
+	}
+
+	@Override
+	public String toString() {
+		return "Approximation [value=" + value + ", errorBound=" + errorBound + ", numberOfTerms=" + numberOfTerms + "]";
+	}
+}
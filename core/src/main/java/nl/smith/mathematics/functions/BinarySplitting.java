@@ -0,0 +1,206 @@
+package nl.smith.mathematics.functions;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import nl.smith.mathematics.number.ParallelMultiplication;
+import nl.smith.mathematics.number.RationalNumber;
+import nl.smith.mathematics.number.RationalSummation;
+
+/**
+ * Stateless utility class for calculating partial sums of {@link HypergeometricSeries hypergeometric series} using binary splitting.<br>
+ * For a range of terms [n1, n2) the integers P = p(n1)...p(n2 - 1), Q = q(n1)...q(n2 - 1), B = b(n1)...b(n2 - 1) and T are calculated, such that the sum of
+ * the terms in the range divided by the product of the term ratios preceding the range equals T / (B * Q). The values of a range are combined from the
+ * values of its left and right half:<br>
+ * P = Pl * Pr, Q = Ql * Qr, B = Bl * Br and T = Br * Qr * Tl + Bl * Pl * Tr<br>
+ * Instead of summing terms of which numerators and denominators grow with every term, the terms are multiplied in a balanced tree. The large products at
+ * the top of the tree are calculated with fast multiplication. See: {@link ParallelMultiplication}. Ranges of at least the threshold number of terms are
+ * split on a {@link ForkJoinPool}.<br>
+ * A {@link PartialSum} keeps the values of the range of its terms, so it can be extended with further terms by combining these values with the values of the
+ * range of the additional terms.
+ *
+ * @author M. Smith
+ */
+public final class BinarySplitting {
+
+	/** Default number of terms from which a range is split in parallel */
+	public static final int DEFAULT_THRESHOLD = 256;
+
+	private BinarySplitting() {
+
+	}
+
+	/** Returns the sum of the first n terms T(0) ... T(n - 1) of the series. Ranges of at least {@link #DEFAULT_THRESHOLD} terms are split in parallel */
+	public static RationalNumber sum(HypergeometricSeries series, int numberOfTerms) {
+		return sum(series, numberOfTerms, RationalSummation.getForkJoinPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Returns the sum of the first n terms T(0) ... T(n - 1) of the series.
+	 *
+	 * @param forkJoinPool
+	 *            The pool on which ranges are split in parallel. If the calling thread is a worker of a pool, the ranges are split on the pool of the calling
+	 *            thread
+	 * @param threshold
+	 *            Number of terms from which a range is split in parallel
+	 */
+	public static RationalNumber sum(HypergeometricSeries series, int numberOfTerms, ForkJoinPool forkJoinPool, int threshold) {
+		if (series == null || forkJoinPool == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		checkNumberOfTerms(numberOfTerms);
+
+		return calculate(series, 0, numberOfTerms, forkJoinPool, threshold).getValue();
+	}
+
+	/** Returns the partial sum of the first n terms T(0) ... T(n - 1) of the series. See: {@link PartialSum#extend(int)} */
+	public static PartialSum partialSum(HypergeometricSeries series, int numberOfTerms) {
+		if (series == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		checkNumberOfTerms(numberOfTerms);
+
+		return new PartialSum(series, numberOfTerms, calculate(series, 0, numberOfTerms, RationalSummation.getForkJoinPool(), DEFAULT_THRESHOLD));
+	}
+
+	private static void checkNumberOfTerms(int numberOfTerms) {
+		if (numberOfTerms < 1) {
+			throw new IllegalArgumentException(String.format("\nThe number of terms %d is not positive", numberOfTerms));
+		}
+	}
+
+	/** Returns the values of the range [from, to). Ranges of at least the threshold number of terms are split in parallel */
+	private static Range calculate(HypergeometricSeries series, int from, int to, ForkJoinPool forkJoinPool, int threshold) {
+		int splitThreshold = Math.max(2, threshold);
+		SplitTask task = new SplitTask(series, from, to, splitThreshold);
+
+		return to - from < splitThreshold ? task.compute() : ForkJoinTask.inForkJoinPool() ? task.invoke() : forkJoinPool.invoke(task);
+	}
+
+	/**
+	 * Immutable partial sum of the first terms of a series. The values of the range of the summed terms are kept, so the partial sum is extended by
+	 * calculating the values of the additional terms only.
+	 */
+	public static final class PartialSum {
+
+		private final HypergeometricSeries series;
+
+		private final int numberOfTerms;
+
+		private final Range range;
+
+		private PartialSum(HypergeometricSeries series, int numberOfTerms, Range range) {
+			this.series = series;
+			this.numberOfTerms = numberOfTerms;
+			this.range = range;
+		}
+
+		public int getNumberOfTerms() {
+			return numberOfTerms;
+		}
+
+		public RationalNumber getValue() {
+			return range.getValue();
+		}
+
+		/** Returns the partial sum of the first n terms or this partial sum if it has at least n terms */
+		public PartialSum extend(int numberOfTerms) {
+			if (numberOfTerms <= this.numberOfTerms) {
+				return this;
+			}
+
+			Range additionalTerms = calculate(series, this.numberOfTerms, numberOfTerms, RationalSummation.getForkJoinPool(), DEFAULT_THRESHOLD);
+
+			return new PartialSum(series, numberOfTerms, range.combine(additionalTerms));
+		}
+	}
+
+	/** The values P, Q, B and T of a range of terms */
+	private static class Range {
+		private final BigInteger p;
+
+		private final BigInteger q;
+
+		private final BigInteger b;
+
+		private final BigInteger t;
+
+		private Range(BigInteger p, BigInteger q, BigInteger b, BigInteger t) {
+			this.p = p;
+			this.q = q;
+			this.b = b;
+			this.t = t;
+		}
+
+		/** Returns the values of the single term k. The product of the term ratios of the first term is one */
+		private static Range of(HypergeometricSeries series, int k) {
+			BigInteger p = k == 0 ? BigInteger.ONE : series.p(k);
+			BigInteger q = k == 0 ? BigInteger.ONE : series.q(k);
+
+			return new Range(p, q, series.b(k), series.a(k).multiply(p));
+		}
+
+		/** Returns the sum T / (B * Q) of the terms of a range starting with the first term */
+		private RationalNumber getValue() {
+			return new RationalNumber(t, ParallelMultiplication.multiply(b, q));
+		}
+
+		/** Returns the values of the range followed by the adjacent range */
+		private Range combine(Range right) {
+			BigInteger t = ParallelMultiplication.multiply(ParallelMultiplication.multiply(right.b, right.q), this.t).add(
+					ParallelMultiplication.multiply(ParallelMultiplication.multiply(b, p), right.t));
+
+			return new Range(ParallelMultiplication.multiply(p, right.p), ParallelMultiplication.multiply(q, right.q), ParallelMultiplication.multiply(b, right.b), t);
+		}
+	}
+
+	/** Calculates the values of the range [from, to) */
+	private static class SplitTask extends RecursiveTask<Range> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final HypergeometricSeries series;
+
+		private final int from;
+
+		private final int to;
+
+		private final int threshold;
+
+		private SplitTask(HypergeometricSeries series, int from, int to, int threshold) {
+			this.series = series;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected Range compute() {
+			if (to - from < threshold) {
+				return split(from, to);
+			}
+
+			int middle = (from + to) >>> 1;
+			SplitTask left = new SplitTask(series, from, middle, threshold);
+			left.fork();
+			Range right = new SplitTask(series, middle, to, threshold).compute();
+
+			return left.join().combine(right);
+		}
+
+		/** Sequential binary splitting of the range [from, to) */
+		private Range split(int from, int to) {
+			if (to - from == 1) {
+				return Range.of(series, from);
+			}
+
+			int middle = (from + to) >>> 1;
+
+			return split(from, middle).combine(split(middle, to));
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package nl.smith.mathematics.functions;
+
+import java.math.BigInteger;
+
+import nl.smith.mathematics.number.RationalNumber;
+
+/**
+ * Series of which the terms are described by rational term ratios (Haible and Papanikolaou):<br>
+ * S = Sum(a(k)/b(k) * p(1)...p(k) / (q(1)...q(k))) k = 0, 1, 2 ...<br>
+ * The partial sums of these series are calculated using {@link BinarySplitting}. The factories create the series of the exponential, sine, cosine,
+ * inverse hyperbolic tangent and arctangent functions of a rational argument x = u/v.
+ *
+ * @author M. Smith
+ */
+public abstract class HypergeometricSeries {
+
+	/** Returns the numerator of the ratio of the terms T(k) / T(k - 1). Only called for k > 0 */
+	public abstract BigInteger p(int k);
+
+	/** Returns the denominator of the ratio of the terms T(k) / T(k - 1). Only called for k > 0 */
+	public abstract BigInteger q(int k);
+
+	/** Returns the numerator of the factor a(k)/b(k) of the term T(k). The default factor is one */
+	public BigInteger a(int k) {
+		return BigInteger.ONE;
+	}
+
+	/** Returns the positive denominator of the factor a(k)/b(k) of the term T(k). The default factor is one */
+	public BigInteger b(int k) {
+		return BigInteger.ONE;
+	}
+
+	/** Returns the series exp(x) = Sum(x^k/k!): p(k) = u, q(k) = k * v */
+	public static HypergeometricSeries exponential(RationalNumber x) {
+		final BigInteger u = x.getNumerator();
+		final BigInteger v = x.getDenominator();
+
+		return new HypergeometricSeries() {
+
+			@Override
+			public BigInteger p(int k) {
+				return u;
+			}
+
+			@Override
+			public BigInteger q(int k) {
+				return v.multiply(BigInteger.valueOf(k));
+			}
+		};
+	}
+
+	/** Returns the series sin(x)/x = Sum((-x^2)^k/(2k + 1)!): p(k) = -u^2, q(k) = 2k * (2k + 1) * v^2 */
+	public static HypergeometricSeries sine(RationalNumber x) {
+		final BigInteger p = x.getNumerator().pow(2).negate();
+		final BigInteger squareV = x.getDenominator().pow(2);
+
+		return new HypergeometricSeries() {
+
+			@Override
+			public BigInteger p(int k) {
+				return p;
+			}
+
+			@Override
+			public BigInteger q(int k) {
+				return squareV.multiply(BigInteger.valueOf(2L * k * (2 * k + 1)));
+			}
+		};
+	}
+
+	/** Returns the series cos(x) = Sum((-x^2)^k/(2k)!): p(k) = -u^2, q(k) = (2k - 1) * 2k * v^2 */
+	public static HypergeometricSeries cosine(RationalNumber x) {
+		final BigInteger p = x.getNumerator().pow(2).negate();
+		final BigInteger squareV = x.getDenominator().pow(2);
+
+		return new HypergeometricSeries() {
+
+			@Override
+			public BigInteger p(int k) {
+				return p;
+			}
+
+			@Override
+			public BigInteger q(int k) {
+				return squareV.multiply(BigInteger.valueOf(2L * k * (2 * k - 1)));
+			}
+		};
+	}
+
+	/** Returns the series atanh(x)/x = Sum(x^2k/(2k + 1)): p(k) = u^2, q(k) = v^2, b(k) = 2k + 1 */
+	public static HypergeometricSeries inverseHyperbolicTangent(RationalNumber x) {
+		final BigInteger p = x.getNumerator().pow(2);
+		final BigInteger q = x.getDenominator().pow(2);
+
+		return new HypergeometricSeries() {
+
+			@Override
+			public BigInteger p(int k) {
+				return p;
+			}
+
+			@Override
+			public BigInteger q(int k) {
+				return q;
+			}
+
+			@Override
+			public BigInteger b(int k) {
+				return BigInteger.valueOf(2L * k + 1);
+			}
+		};
+	}
+
+	/** Returns the series arctan(x)/x = Sum((-x^2)^k/(2k + 1)): p(k) = -u^2, q(k) = v^2, b(k) = 2k + 1 */
+	public static HypergeometricSeries arctangent(RationalNumber x) {
+		final BigInteger p = x.getNumerator().pow(2).negate();
+		final BigInteger q = x.getDenominator().pow(2);
+
+		return new HypergeometricSeries() {
+
+			@Override
+			public BigInteger p(int k) {
+				return p;
+			}
+
+			@Override
+			public BigInteger q(int k) {
+				return q;
+			}
+
+			@Override
+			public BigInteger b(int k) {
+				return BigInteger.valueOf(2L * k + 1);
+			}
+		};
+	}
+}
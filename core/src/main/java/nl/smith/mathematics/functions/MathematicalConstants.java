@@ -0,0 +1,223 @@
+package nl.smith.mathematics.functions;
+
+import java.math.BigInteger;
+
+import nl.smith.mathematics.functions.BinarySplitting.PartialSum;
+import nl.smith.mathematics.number.RationalNumber;
+
+/**
+ * Utility class for calculating the constants pi, e and ln(2) up to any tolerance:<br>
+ * pi = 16 * atan(1/5) - 4 * atan(1/239) (Machin), e = Sum(1/k!) and ln(2) = 2 * atanh(1/3)<br>
+ * The partial sums of the series are calculated using {@link BinarySplitting}. The most accurate approximation calculated so far is cached, the
+ * approximations returned are rounded to the requested tolerance. If a more accurate approximation is requested, the cached partial sums are extended
+ * with the additional terms only. Concurrent requests for a more accurate approximation are handled one at a time, so a request waiting for another
+ * request extends the result of that request instead of starting from scratch.
+ *
+ * @author M. Smith
+ */
+public final class MathematicalConstants {
+
+	/** Number of significant bits of the error bounds. See: {@link RationalNumber#roundUp(int)} */
+	private static final int BOUND_BITS = 32;
+
+	private static final double LOG10_TWO = Math.log10(2);
+
+	private static final Constant PI = new Constant(Component.arctangent(16, 5), Component.arctangent(-4, 239));
+
+	private static final Constant E = new Constant(Component.exponential());
+
+	private static final Constant LN2 = new Constant(Component.inverseHyperbolicTangent(2, 3));
+
+	private MathematicalConstants() {
+
+	}
+
+	/** Returns pi with an error bound smaller than the tolerance */
+	public static Approximation<RationalNumber> getPi(RationalNumber tolerance) {
+		return PI.get(tolerance);
+	}
+
+	/** Returns e with an error bound smaller than the tolerance */
+	public static Approximation<RationalNumber> getE(RationalNumber tolerance) {
+		return E.get(tolerance);
+	}
+
+	/** Returns ln(2) with an error bound smaller than the tolerance */
+	public static Approximation<RationalNumber> getLn2(RationalNumber tolerance) {
+		return LN2.get(tolerance);
+	}
+
+	/** Constant c1 * S1 + c2 * S2 ... where S1, S2 ... are the cached partial sums of the series of the components */
+	private static class Constant {
+
+		private final Component[] components;
+
+		/** The partial sums of the components of the cached approximation. Guarded by this constant */
+		private final PartialSum[] partialSums;
+
+		private volatile Approximation<RationalNumber> approximation;
+
+		private Constant(Component... components) {
+			this.components = components;
+			this.partialSums = new PartialSum[components.length];
+		}
+
+		/**
+		 * Returns the cached approximation rounded to the tolerance. The cached approximation is extended first if its error bound is not smaller than the
+		 * half of the tolerance. The rounding error, smaller than a quarter of the tolerance, is added to the error bound of the approximation returned.
+		 */
+		private Approximation<RationalNumber> get(RationalNumber tolerance) {
+			if (tolerance == null || !tolerance.isPositive()) {
+				throw new IllegalArgumentException("\nThe tolerance should be a positive number");
+			}
+
+			RationalNumber halfTolerance = tolerance.divide(2);
+			Approximation<RationalNumber> approximation = this.approximation;
+			if (approximation == null || approximation.getErrorBound().compareTo(halfTolerance) >= 0) {
+				approximation = extend(halfTolerance);
+			}
+
+			int decimalDigits = getDecimalDigits(halfTolerance);
+			RationalNumber roundingError = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(decimalDigits).shiftLeft(1));
+
+			return new Approximation<>(approximation.getValue().approximate(decimalDigits), approximation.getErrorBound().add(roundingError).roundUp(
+					BOUND_BITS), approximation.getNumberOfTerms());
+		}
+
+		/** Returns the smallest number of decimal digits d for which 10^-d is smaller than the tolerance */
+		private static int getDecimalDigits(RationalNumber tolerance) {
+			// The tolerance is larger than 2^-(bit length of the denominator - bit length of the numerator + 1)
+			int decimalDigits = Math.max(0, (int) ((tolerance.getDenominator().bitLength() - tolerance.getNumerator().bitLength() - 1) * LOG10_TWO));
+			while (tolerance.multiply(BigInteger.TEN.pow(decimalDigits)).compareTo(RationalNumber.ONE) <= 0) {
+				decimalDigits++;
+			}
+
+			return decimalDigits;
+		}
+
+		/**
+		 * Extends the partial sums until the sum of the remainder bounds is smaller than the tolerance. The remainder bound of each component is kept
+		 * below the half of its share of the tolerance, so the rounded up error bound is smaller than the tolerance as well.
+		 */
+		private synchronized Approximation<RationalNumber> extend(RationalNumber tolerance) {
+			Approximation<RationalNumber> approximation = this.approximation;
+			if (approximation != null && approximation.getErrorBound().compareTo(tolerance) < 0) {
+				return approximation;
+			}
+
+			RationalNumber componentTolerance = tolerance.divide(2L * components.length);
+			RationalNumber value = RationalNumber.ZERO;
+			RationalNumber errorBound = RationalNumber.ZERO;
+			int numberOfTerms = 0;
+			for (int i = 0; i < components.length; i++) {
+				Component component = components[i];
+				int n = component.getNumberOfTerms(componentTolerance, partialSums[i] == null ? 1 : partialSums[i].getNumberOfTerms());
+				partialSums[i] = partialSums[i] == null ? BinarySplitting.partialSum(component.series, n) : partialSums[i].extend(n);
+
+				value = value.add(component.factor.multiply(partialSums[i].getValue()));
+				errorBound = errorBound.add(component.getRemainderBound(n));
+				numberOfTerms += n;
+			}
+
+			approximation = new Approximation<>(value, errorBound.roundUp(BOUND_BITS), numberOfTerms);
+			this.approximation = approximation;
+
+			return approximation;
+		}
+	}
+
+	/** Component factor * S(n) of a constant, where S(n) is the partial sum of the first n terms of a series */
+	private abstract static class Component {
+
+		private final RationalNumber factor;
+
+		private final HypergeometricSeries series;
+
+		private Component(RationalNumber factor, HypergeometricSeries series) {
+			this.factor = factor;
+			this.series = series;
+		}
+
+		/** Returns an upper bound of the absolute value of the factor times the remainder of the series after n terms */
+		protected abstract RationalNumber getRemainderBound(int numberOfTerms);
+
+		/**
+		 * Returns the smallest number of terms of at least the given minimum of which the remainder bound is smaller than the tolerance. The number of terms
+		 * is doubled until the remainder bound is small enough, and then bisected.
+		 */
+		private int getNumberOfTerms(RationalNumber tolerance, int minimum) {
+			int lower = minimum;
+			if (getRemainderBound(lower).compareTo(tolerance) < 0) {
+				return lower;
+			}
+
+			int upper = 2 * lower;
+			while (getRemainderBound(upper).compareTo(tolerance) >= 0) {
+				lower = upper;
+				upper *= 2;
+			}
+
+			// The remainder bound of lower terms is not small enough, the remainder bound of upper terms is
+			while (upper - lower > 1) {
+				int middle = (lower + upper) >>> 1;
+				if (getRemainderBound(middle).compareTo(tolerance) < 0) {
+					upper = middle;
+				} else {
+					lower = middle;
+				}
+			}
+
+			return upper;
+		}
+
+		/**
+		 * Returns the component c * atan(1/v) = c/v * Sum((-1/v^2)^k/(2k + 1)). The series alternates with decreasing terms, so the remainder is at most the
+		 * first omitted term: |c| / ((2n + 1) * v^(2n + 1)).
+		 */
+		private static Component arctangent(final long coefficient, final long v) {
+			return new Component(RationalNumber.of(coefficient, v), HypergeometricSeries.arctangent(RationalNumber.of(1, v))) {
+
+				@Override
+				protected RationalNumber getRemainderBound(int numberOfTerms) {
+					return new RationalNumber(BigInteger.valueOf(Math.abs(coefficient)), BigInteger.valueOf(v).pow(2 * numberOfTerms + 1).multiply(
+							BigInteger.valueOf(2L * numberOfTerms + 1)));
+				}
+			};
+		}
+
+		/**
+		 * Returns the component c * atanh(1/v) = c/v * Sum((1/v^2)^k/(2k + 1)). The remaining terms decrease geometrically with a ratio of at most 1/v^2, so
+		 * the remainder is at most |c| * v^2 / ((2n + 1) * (v^2 - 1) * v^(2n + 1)).
+		 */
+		private static Component inverseHyperbolicTangent(final long coefficient, final long v) {
+			return new Component(RationalNumber.of(coefficient, v), HypergeometricSeries.inverseHyperbolicTangent(RationalNumber.of(1, v))) {
+
+				@Override
+				protected RationalNumber getRemainderBound(int numberOfTerms) {
+					BigInteger vSquare = BigInteger.valueOf(v).pow(2);
+
+					return new RationalNumber(BigInteger.valueOf(Math.abs(coefficient)).multiply(vSquare), BigInteger.valueOf(v).pow(2 * numberOfTerms + 1)
+							.multiply(BigInteger.valueOf(2L * numberOfTerms + 1)).multiply(vSquare.subtract(BigInteger.ONE)));
+				}
+			};
+		}
+
+		/**
+		 * Returns the component e = Sum(1/k!). The remainder after n terms is 1/n! * (1 + 1/(n + 1) + 1/(n + 1)^2 ...), so it is at most (n + 1) / (n * n!)
+		 */
+		private static Component exponential() {
+			return new Component(RationalNumber.ONE, HypergeometricSeries.exponential(RationalNumber.ONE)) {
+
+				@Override
+				protected RationalNumber getRemainderBound(int numberOfTerms) {
+					BigInteger factorial = BigInteger.ONE;
+					for (int i = 2; i <= numberOfTerms; i++) {
+						factorial = factorial.multiply(BigInteger.valueOf(i));
+					}
+
+					return new RationalNumber(BigInteger.valueOf(numberOfTerms + 1L), factorial.multiply(BigInteger.valueOf(numberOfTerms)));
+				}
+			};
+		}
+	}
+}
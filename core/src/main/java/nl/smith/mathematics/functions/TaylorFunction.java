@@ -1,5 +1,6 @@
 package nl.smith.mathematics.functions;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import nl.smith.mathematics.functions.annotation.FunctionProperty;
@@ -8,8 +9,19 @@ public abstract class TaylorFunction<T extends AbstractFunction<?>> extends Abst
 	@FunctionProperty
 	private final BigInteger TAYLORNUMBER = null;
 
+	/**
+	 * Tolerance of the absolute error of the series. If specified, implementations that support a tolerance sum the terms of a series until a rigorous bound
+	 * of the remainder is smaller than the tolerance instead of summing {@link #TAYLORNUMBER} terms. Null if the number of terms is fixed
+	 */
+	@FunctionProperty(nullable = true)
+	private final BigDecimal TOLERANCE = null;
+
 	public BigInteger getTAYLORNUMBER() {
 		return TAYLORNUMBER;
 	}
 
+	public BigDecimal getTOLERANCE() {
+		return TOLERANCE;
+	}
+
 }
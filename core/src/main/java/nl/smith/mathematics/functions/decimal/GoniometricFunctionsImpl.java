@@ -1,9 +1,17 @@
 package nl.smith.mathematics.functions.decimal;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
 import nl.smith.mathematics.functions.AngleType;
 import nl.smith.mathematics.functions.GoniometricFunctions;
+import nl.smith.mathematics.functions.MathematicalConstants;
 import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
 import nl.smith.mathematics.number.DecimalNumber;
+import nl.smith.mathematics.number.RationalNumber;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,15 +22,23 @@ public class GoniometricFunctionsImpl extends GoniometricFunctions<DecimalNumber
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(GoniometricFunctionsImpl.class);
 
+	/** Number of digits added to the precision of the {@link #MATHCONTEXT} when reducing an angle */
+	private static final int GUARD_DIGITS = 5;
+
 	@FunctionProperty
 	private final AngleType ANGELTYPE = null;
 
-	@FunctionProperty
+	/** Pi returned by {@link #getPI()}. Null if pi is calculated. See: {@link MathematicalConstants#getPi(RationalNumber)} */
+	@FunctionProperty(nullable = true)
 	private final DecimalNumber PI = null;
 
+	/** Precision and rounding mode of the terms and partial sums of the Taylor series. Example value: precision=50 roundingMode=HALF_EVEN */
+	@FunctionProperty
+	private final MathContext MATHCONTEXT = DecimalNumber.DEFAULT_MATH_CONTEXT;
+
 	/** Spring instantiated bean */
 	public GoniometricFunctionsImpl() {
-		super();
+		setFunctionProperties();
 	}
 
 	/** Constructor for instantiating proxy */
@@ -33,37 +49,118 @@ public class GoniometricFunctionsImpl extends GoniometricFunctions<DecimalNumber
 
 	@Override
 	public AngleType getANGELTYPE() {
-		// TODO Auto-generated method stub
 		return ANGELTYPE;
 	}
 
+	/** Returns the factor by which an angle of the first type is multiplied to convert it to an angle of the second type */
 	@Override
 	public DecimalNumber convertAngle(AngleType from, AngleType to) {
-		// TODO Auto-generated method stub
-		return null;
+		if (from == null || to == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		return getFullTurn(to).divide(getFullTurn(from));
 	}
 
+	/** Returns the angle 360, 2 * pi or 400 of a full turn */
+	private DecimalNumber getFullTurn(AngleType angleType) {
+		switch (angleType) {
+		case DEG:
+			return new DecimalNumber(BigDecimal.valueOf(360), MATHCONTEXT);
+		case GRAD:
+			return new DecimalNumber(BigDecimal.valueOf(400), MATHCONTEXT);
+		default:
+			return getPI().withMathContext(MATHCONTEXT).multiply(2);
+		}
+	}
+
+	/** Returns the specified {@link #PI} or pi rounded according to the {@link #MATHCONTEXT} */
 	@Override
 	public DecimalNumber getPI() {
-		// TODO Auto-generated method stub
-		return PI;
+		return getPI(MATHCONTEXT);
 	}
 
+	/** Returns the specified {@link #PI} or pi rounded according to the math context */
+	private DecimalNumber getPI(MathContext mathContext) {
+		if (PI != null) {
+			return PI.withMathContext(mathContext);
+		}
+
+		RationalNumber tolerance = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(mathContext.getPrecision() + 2));
+
+		return DecimalNumber.valueOf(MathematicalConstants.getPi(tolerance).getValue(), mathContext);
+	}
+
+	public MathContext getMATHCONTEXT() {
+		return MATHCONTEXT;
+	}
+
+	/**
+	 * Taylor series: Sin(x) = 0 + x - x^3/3! + x^5/5! - x^7/7! + ... Sum(T(i)) T(0) = x T(i) = -x^2/((2i +1)* 2i)<br>
+	 * The angle is reduced to [-pi, pi] first. See: {@link #reduce(DecimalNumber)}
+	 */
 	@Override
+	@MathematicalFunction(methodNameAlias = "sin")
 	public DecimalNumber sin(DecimalNumber angle) {
-		// TODO Auto-generated method stub
-		return null;
+		DecimalNumber x = reduce(angle);
+		DecimalNumber t = x;
+		DecimalNumber sum = t;
+		DecimalNumber squareX = x.multiply(x);
+		boolean subtract = true;
+
+		for (long i = 2; i <= getTAYLORNUMBER().longValue(); i++) {
+			long j = 2 * i - 1;
+			t = t.multiply(squareX).divide(j * (j - 1));
+			sum = subtract ? sum.subtract(t) : sum.add(t);
+			subtract = !subtract;
+		}
+
+		return sum;
 	}
 
+	/**
+	 * Taylor series: Cos(x) = 1 - x^2/2! + x^4/4! - x^6/6! + ...<br>
+	 * The angle is reduced to [-pi, pi] first. See: {@link #reduce(DecimalNumber)}
+	 */
 	@Override
+	@MathematicalFunction
 	public DecimalNumber cos(DecimalNumber angle) {
-		// TODO Auto-generated method stub
-		return null;
+		DecimalNumber x = reduce(angle);
+		DecimalNumber t = new DecimalNumber(BigDecimal.ONE, MATHCONTEXT);
+		DecimalNumber sum = t;
+		DecimalNumber squareX = x.multiply(x);
+		boolean subtract = true;
+
+		for (long i = 1; i < getTAYLORNUMBER().longValue(); i++) {
+			long j = 2 * i;
+			t = t.multiply(squareX).divide(j * (j - 1));
+			sum = subtract ? sum.subtract(t) : sum.add(t);
+			subtract = !subtract;
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Returns the angle x - k * 2 * pi in [-pi, pi] rounded according to the {@link #MATHCONTEXT}. The digits of k * 2 * pi before the decimal point cancel
+	 * out, so the reduction is calculated with pi having as many additional digits plus {@link #GUARD_DIGITS}.
+	 */
+	private DecimalNumber reduce(DecimalNumber angle) {
+		BigDecimal x = angle.withMathContext(MATHCONTEXT).getBigDecimal();
+		int integerDigits = Math.max(0, x.precision() - x.scale());
+		MathContext mathContext = new MathContext(MATHCONTEXT.getPrecision() + integerDigits + GUARD_DIGITS, MATHCONTEXT.getRoundingMode());
+		BigDecimal twoPi = getPI(mathContext).getBigDecimal().multiply(BigDecimal.valueOf(2), mathContext);
+		BigDecimal k = x.divide(twoPi, mathContext).setScale(0, RoundingMode.HALF_EVEN);
+		if (k.signum() == 0) {
+			return new DecimalNumber(x, MATHCONTEXT);
+		}
+
+		return new DecimalNumber(x.subtract(k.multiply(twoPi), mathContext).round(MATHCONTEXT), MATHCONTEXT);
 	}
 
 	@Override
 	public String toString() {
-		return "GoniometricFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", ANGELTYPE=" + getANGELTYPE() + ", PI=" + getPI() + "]";
+		return "GoniometricFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", ANGELTYPE=" + getANGELTYPE() + ", PI=" + getPI() + ", MATHCONTEXT=" + MATHCONTEXT + "]";
 	}
 
 }
@@ -1,8 +1,15 @@
 package nl.smith.mathematics.functions.decimal;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
 import nl.smith.mathematics.functions.LogarithmicFunctions;
+import nl.smith.mathematics.functions.MathematicalConstants;
 import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
 import nl.smith.mathematics.number.DecimalNumber;
+import nl.smith.mathematics.number.RationalNumber;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,8 +20,16 @@ public class LogarithmicFunctionsImpl extends LogarithmicFunctions<DecimalNumber
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(LogarithmicFunctionsImpl.class);
 
+	/** log2(10), used for estimating the binary logarithm of a number from its unscaled value and scale */
+	private static final double LOG2_TEN = Math.log(10) / Math.log(2);
+
+	/** Euler's number returned by {@link #getEulersNumber()}. Null if e is calculated. See: {@link MathematicalConstants#getE(RationalNumber)} */
+	@FunctionProperty(nullable = true)
+	private final DecimalNumber eulersNumber = null;
+
+	/** Precision and rounding mode of the terms and partial sums of the Taylor series. Example value: precision=50 roundingMode=HALF_EVEN */
 	@FunctionProperty
-	private DecimalNumber eulersNumber;
+	private final MathContext MATHCONTEXT = DecimalNumber.DEFAULT_MATH_CONTEXT;
 
 	/** Spring instantiated bean */
 	public LogarithmicFunctionsImpl() {
@@ -27,24 +42,91 @@ public class LogarithmicFunctionsImpl extends LogarithmicFunctions<DecimalNumber
 		setFunctionProperties(baseObject);
 	}
 
+	/** Returns the specified {@link #eulersNumber} or e rounded according to the {@link #MATHCONTEXT} */
 	public DecimalNumber getEulersNumber() {
-		return eulersNumber;
+		if (eulersNumber != null) {
+			return eulersNumber.withMathContext(MATHCONTEXT);
+		}
+
+		return DecimalNumber.valueOf(MathematicalConstants.getE(getConstantTolerance()).getValue(), MATHCONTEXT);
 	}
 
+	public MathContext getMATHCONTEXT() {
+		return MATHCONTEXT;
+	}
+
+	/**
+	 * Taylor series: exp(x) = 1 + x + x^2/2! + x^3/3! + ...
+	 */
 	@Override
+	@MathematicalFunction
 	public DecimalNumber exp(DecimalNumber number) {
-		// TODO Auto-generated method stub
-		return null;
+		DecimalNumber x = number.withMathContext(MATHCONTEXT);
+		DecimalNumber t = new DecimalNumber(BigDecimal.ONE, MATHCONTEXT);
+		DecimalNumber sum = t;
+		for (long i = 1; i < getTAYLORNUMBER().longValue(); i++) {
+			t = t.multiply(x).divide(i);
+			sum = sum.add(t);
+		}
+
+		return sum;
 	}
 
+	/**
+	 * ln(number) = ln(m * 2^k) = ln(m) + k * ln(2) with m in [2/3, 4/3].<br>
+	 * ln(m) = 2 * atanh(y) = 2 * (y + y^3/3 + y^5/5 ...) with y = (m - 1)/(m + 1) and |y| <= 1/5, so every term adds more than a decimal digit.<br>
+	 * ln(2) is calculated up to the precision of the {@link #MATHCONTEXT}. See: {@link MathematicalConstants#getLn2(RationalNumber)}
+	 *
+	 * @throws ArithmeticException
+	 *             If the number is not positive
+	 */
 	@Override
+	@MathematicalFunction
 	public DecimalNumber ln(DecimalNumber number) {
-		// TODO Auto-generated method stub
-		return null;
+		if (!number.isPositive()) {
+			throw new ArithmeticException(String.format("\nThe logarithm of %s is not defined. The number should be positive", number));
+		}
+
+		DecimalNumber m = number.withMathContext(MATHCONTEXT);
+		// Estimate of log2(number), which is off by at most two
+		int k = m.getBigDecimal().unscaledValue().bitLength() - (int) Math.round(m.getBigDecimal().scale() * LOG2_TEN);
+		m = k >= 0 ? m.divide(BigInteger.ONE.shiftLeft(k)) : m.multiply(BigInteger.ONE.shiftLeft(-k));
+		while (m.multiply(3).compareTo(new DecimalNumber(4)) > 0) {
+			m = m.divide(2);
+			k++;
+		}
+
+		while (m.multiply(3).compareTo(new DecimalNumber(2)) < 0) {
+			m = m.multiply(2);
+			k--;
+		}
+
+		DecimalNumber y = m.subtract(1).divide(m.add(1));
+		DecimalNumber squareY = y.multiply(y);
+		DecimalNumber t = y;
+		DecimalNumber sum = t;
+		for (long i = 1; i < getTAYLORNUMBER().longValue(); i++) {
+			t = t.multiply(squareY);
+			sum = sum.add(t.divide(2 * i + 1));
+		}
+
+		DecimalNumber ln = sum.multiply(2);
+
+		return k == 0 ? ln : ln.add(getLn2().multiply(k));
+	}
+
+	/** Returns ln(2) rounded according to the {@link #MATHCONTEXT} */
+	private DecimalNumber getLn2() {
+		return DecimalNumber.valueOf(MathematicalConstants.getLn2(getConstantTolerance()).getValue(), MATHCONTEXT);
+	}
+
+	/** Returns the tolerance 10^-(precision + 2) of the constants, where precision is the precision of the {@link #MATHCONTEXT} */
+	private RationalNumber getConstantTolerance() {
+		return new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(MATHCONTEXT.getPrecision() + 2));
 	}
 
 	@Override
 	public String toString() {
-		return "LogarithmicFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", eulersNumber=" + eulersNumber + "]";
+		return "LogarithmicFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", eulersNumber=" + eulersNumber + ", MATHCONTEXT=" + MATHCONTEXT + "]";
 	}
 }
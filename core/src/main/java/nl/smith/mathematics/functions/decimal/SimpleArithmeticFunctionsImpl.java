@@ -3,13 +3,17 @@ package nl.smith.mathematics.functions.decimal;
 import static java.math.BigInteger.ONE;
 import static java.math.BigInteger.ZERO;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
 import java.util.List;
 
 import nl.smith.mathematics.constraint.annotation.AssertIsInteger;
 import nl.smith.mathematics.constraint.annotation.AssertIsPositive;
 import nl.smith.mathematics.constraint.annotation.AssertIsSmaller;
 import nl.smith.mathematics.functions.SimpleArithmeticFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
 import nl.smith.mathematics.number.DecimalNumber;
 
 import org.slf4j.Logger;
@@ -21,6 +25,10 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Dec
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SimpleArithmeticFunctionsImpl.class);
 
+	/** Precision and rounding mode of the results and partial sums. Example value: precision=50 roundingMode=HALF_EVEN */
+	@FunctionProperty
+	private final MathContext MATHCONTEXT = DecimalNumber.DEFAULT_MATH_CONTEXT;
+
 	/** Spring instantiated bean */
 	public SimpleArithmeticFunctionsImpl() {
 		setFunctionProperties();
@@ -32,18 +40,17 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Dec
 		setFunctionProperties(baseObject);
 	}
 
+	public MathContext getMATHCONTEXT() {
+		return MATHCONTEXT;
+	}
+
 	@Override
 	public DecimalNumber sum(DecimalNumber... numbers) {
 		if (numbers == null || numbers.length == 0) {
 			throw new IllegalArgumentException("No numbers specified");
 		}
 
-		DecimalNumber sum = new DecimalNumber(ZERO);
-		for (DecimalNumber number : numbers) {
-			sum = sum.add(number);
-		}
-
-		return sum;
+		return sum(Arrays.asList(numbers));
 	}
 
 	@Override
@@ -52,7 +59,7 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Dec
 			throw new IllegalArgumentException("No numbers specified");
 		}
 
-		DecimalNumber sum = new DecimalNumber(ZERO);
+		DecimalNumber sum = new DecimalNumber(BigDecimal.ZERO, MATHCONTEXT);
 		for (DecimalNumber number : numbers) {
 			sum = sum.add(number);
 		}
@@ -74,11 +81,11 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Dec
 			naturalNumber = naturalNumber.subtract(ONE);
 		}
 
-		return new DecimalNumber(product);
+		return new DecimalNumber(new BigDecimal(product, MATHCONTEXT), MATHCONTEXT);
 	}
 
 	@Override
 	public String toString() {
-		return "SimpleArithmeticFunctionsImpl []";
+		return "SimpleArithmeticFunctionsImpl [MATHCONTEXT=" + MATHCONTEXT + "]";
 	}
 }
@@ -1,7 +1,6 @@
 package nl.smith.mathematics.functions.decimal;
 
-import static java.math.BigInteger.ZERO;
-
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 
@@ -11,8 +10,10 @@ import nl.smith.mathematics.number.DecimalNumber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
 
-//@Component
+/** The results are calculated using the math context of the {@link SimpleArithmeticFunctionsImpl} */
+@Component
 public class StatisticalFunctionsImpl extends StatisticalFunctions<DecimalNumber> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(StatisticalFunctionsImpl.class);
@@ -50,7 +51,7 @@ public class StatisticalFunctionsImpl extends StatisticalFunctions<DecimalNumber
 
 		DecimalNumber average = average(numbers);
 
-		DecimalNumber sum = new DecimalNumber(ZERO);
+		DecimalNumber sum = new DecimalNumber(BigDecimal.ZERO, simpleArithmeticFunctionsImpl.getMATHCONTEXT());
 		for (DecimalNumber number : numbers) {
 			DecimalNumber delta = number.subtract(average);
 			sum = sum.add(delta.multiply(delta));
@@ -0,0 +1,138 @@
+package nl.smith.mathematics.functions.doubledouble;
+
+import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.functions.GoniometricFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.DoubleDoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Goniometric functions calculated with double-double precision (about 32 significant digits).<br>
+ * The angle is reduced to the interval [-PI, PI] by subtracting the nearest multiple n of 2 * PI. 2 * PI is held as the sum of three doubles (Cody-Waite), so
+ * the error of the reduced angle is about |n| * 10^-48 plus the relative double-double precision. The results are accurate to about 10^-30 for angles up to
+ * 2^52 in absolute value. The Taylor series is summed until a term no longer changes the sum or {@link #getTAYLORNUMBER() Taylor number} terms have been
+ * summed.
+ */
+@Component
+public class GoniometricFunctionsImpl extends GoniometricFunctions<DoubleDoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GoniometricFunctionsImpl.class);
+
+	/** 2 * PI = TWO_PI_1 + TWO_PI_2 + TWO_PI_3 with an error of about 10^-48. The products of these doubles and an integer are exact double-doubles */
+	private static final double TWO_PI_1 = 6.283185307179586;
+
+	private static final double TWO_PI_2 = 2.4492935982947064e-16;
+
+	private static final double TWO_PI_3 = -5.989539619436679e-33;
+
+	@FunctionProperty
+	private final AngleType ANGELTYPE = null;
+
+	@FunctionProperty
+	private final DoubleDoubleNumber PI = new DoubleDoubleNumber(3.141592653589793, 1.2246467991473532e-16);
+
+	/** Spring instantiated bean */
+	public GoniometricFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public GoniometricFunctionsImpl(GoniometricFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	public AngleType getANGELTYPE() {
+		return ANGELTYPE;
+	}
+
+	/** Returns the factor by which an angle of the first type is multiplied to convert it to an angle of the second type */
+	@Override
+	public DoubleDoubleNumber convertAngle(AngleType from, AngleType to) {
+		if (from == null || to == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		return getFullTurn(to).divide(getFullTurn(from));
+	}
+
+	/** Returns the angle 360, 2 * pi or 400 of a full turn */
+	private DoubleDoubleNumber getFullTurn(AngleType angleType) {
+		switch (angleType) {
+		case DEG:
+			return new DoubleDoubleNumber(360);
+		case GRAD:
+			return new DoubleDoubleNumber(400);
+		default:
+			return getPI().multiply(2);
+		}
+	}
+
+	@Override
+	public DoubleDoubleNumber getPI() {
+		return PI;
+	}
+
+	/**
+	 * Taylor series: sin(x) = x - x^3/3! + x^5/5! - x^7/7! ...
+	 */
+	@Override
+	@MathematicalFunction(methodNameAlias = "sin")
+	public DoubleDoubleNumber sin(DoubleDoubleNumber angle) {
+		DoubleDoubleNumber x = reduce(angle);
+		DoubleDoubleNumber squareX = x.multiply(x).negate();
+		DoubleDoubleNumber t = x;
+		DoubleDoubleNumber sum = t;
+		for (long i = 1; i < getTAYLORNUMBER().longValue() && !isNegligible(t, sum); i++) {
+			t = t.multiply(squareX).divide((2 * i) * (2 * i + 1));
+			sum = sum.add(t);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Taylor series: cos(x) = 1 - x^2/2! + x^4/4! - x^6/6! ...
+	 */
+	@Override
+	@MathematicalFunction
+	public DoubleDoubleNumber cos(DoubleDoubleNumber angle) {
+		DoubleDoubleNumber x = reduce(angle);
+		DoubleDoubleNumber squareX = x.multiply(x).negate();
+		DoubleDoubleNumber t = DoubleDoubleNumber.ONE;
+		DoubleDoubleNumber sum = t;
+		for (long i = 1; i < getTAYLORNUMBER().longValue() && !isNegligible(t, sum); i++) {
+			t = t.multiply(squareX).divide((2 * i - 1) * (2 * i));
+			sum = sum.add(t);
+		}
+
+		return sum;
+	}
+
+	/** Returns the angle minus the nearest multiple of 2 * PI. The three parts of 2 * PI times the multiple are subtracted one after another */
+	private static DoubleDoubleNumber reduce(DoubleDoubleNumber angle) {
+		double multiple = Math.rint(angle.doubleValue() / TWO_PI_1);
+		if (multiple == 0) {
+			return angle;
+		}
+
+		return angle.subtract(new DoubleDoubleNumber(TWO_PI_1).multiply(multiple)).subtract(new DoubleDoubleNumber(TWO_PI_2).multiply(multiple)).subtract(
+				new DoubleDoubleNumber(TWO_PI_3).multiply(multiple));
+	}
+
+	/** Returns true if the term is too small to change the sum */
+	static boolean isNegligible(DoubleDoubleNumber term, DoubleDoubleNumber sum) {
+		return Math.abs(term.doubleValue()) <= DoubleDoubleNumber.EPSILON * Math.abs(sum.doubleValue());
+	}
+
+	@Override
+	public String toString() {
+		return "GoniometricFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", ANGELTYPE=" + getANGELTYPE() + ", PI=" + getPI() + "]";
+	}
+
+}
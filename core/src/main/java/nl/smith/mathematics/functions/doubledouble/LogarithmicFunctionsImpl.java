@@ -0,0 +1,88 @@
+package nl.smith.mathematics.functions.doubledouble;
+
+import nl.smith.mathematics.functions.LogarithmicFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.DoubleDoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/** Logarithmic functions calculated with double-double precision (about 32 significant digits) */
+@Component
+public class LogarithmicFunctionsImpl extends LogarithmicFunctions<DoubleDoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogarithmicFunctionsImpl.class);
+
+	private static final DoubleDoubleNumber LN2 = new DoubleDoubleNumber(0.6931471805599453, 2.3190468138462996e-17);
+
+	/** exp(r) is calculated as exp(r / 2^SCALE)^(2^SCALE) to speed up the convergence of the Taylor series */
+	private static final int SCALE = 9;
+
+	@FunctionProperty
+	private final DoubleDoubleNumber eulersNumber = new DoubleDoubleNumber(2.718281828459045, 1.4456468917292502e-16);
+
+	/** Spring instantiated bean */
+	public LogarithmicFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public LogarithmicFunctionsImpl(LogarithmicFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	public DoubleDoubleNumber getEulersNumber() {
+		return eulersNumber;
+	}
+
+	/**
+	 * exp(x) = 2^k * exp(r) with r = x - k * ln(2) and |r| <= ln(2) / 2.<br>
+	 * exp(r) - 1 is calculated using the Taylor series r/1! + r^2/2! + r^3/3! ... of r / 2^9 and squared 9 times using (1 + s)^2 - 1 = 2s + s^2. Calculating
+	 * exp(r) - 1 instead of exp(r) prevents the loss of precision when squaring.
+	 */
+	@Override
+	@MathematicalFunction
+	public DoubleDoubleNumber exp(DoubleDoubleNumber number) {
+		double k = Math.rint(number.doubleValue() / LN2.doubleValue());
+		if (Double.isNaN(k) || Math.abs(k) > Integer.MAX_VALUE) {
+			return new DoubleDoubleNumber(Math.exp(number.doubleValue()));
+		}
+
+		DoubleDoubleNumber r = number.subtract(LN2.multiply(k)).scalb(-SCALE);
+		DoubleDoubleNumber t = r;
+		DoubleDoubleNumber s = t;
+		for (long i = 2; i < getTAYLORNUMBER().longValue() && !GoniometricFunctionsImpl.isNegligible(t, s); i++) {
+			t = t.multiply(r).divide(i);
+			s = s.add(t);
+		}
+
+		for (int i = 0; i < SCALE; i++) {
+			s = s.scalb(1).add(s.multiply(s));
+		}
+
+		return s.add(1).scalb((int) k);
+	}
+
+	/**
+	 * One Newton iteration y = y0 + x * exp(-y0) - 1 for the root of exp(y) - x, starting with the double precision logarithm y0. The iteration doubles the
+	 * number of correct digits.
+	 */
+	@Override
+	@MathematicalFunction
+	public DoubleDoubleNumber ln(DoubleDoubleNumber number) {
+		double y0 = Math.log(number.doubleValue());
+		if (Double.isNaN(y0) || Double.isInfinite(y0)) {
+			return new DoubleDoubleNumber(y0);
+		}
+
+		return number.multiply(exp(new DoubleDoubleNumber(-y0))).subtract(1).add(y0);
+	}
+
+	@Override
+	public String toString() {
+		return "LogarithmicFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", eulersNumber=" + eulersNumber + "]";
+	}
+}
@@ -0,0 +1,69 @@
+package nl.smith.mathematics.functions.doubledouble;
+
+import java.util.Arrays;
+import java.util.List;
+
+import nl.smith.mathematics.constraint.annotation.AssertIsInteger;
+import nl.smith.mathematics.constraint.annotation.AssertIsPositive;
+import nl.smith.mathematics.constraint.annotation.AssertIsSmaller;
+import nl.smith.mathematics.functions.SimpleArithmeticFunctions;
+import nl.smith.mathematics.number.DoubleDoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<DoubleDoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SimpleArithmeticFunctionsImpl.class);
+
+	/** Spring instantiated bean */
+	public SimpleArithmeticFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public SimpleArithmeticFunctionsImpl(SimpleArithmeticFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	public DoubleDoubleNumber sum(DoubleDoubleNumber... numbers) {
+		if (numbers == null || numbers.length == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		return sum(Arrays.asList(numbers));
+	}
+
+	@Override
+	public DoubleDoubleNumber sum(List<DoubleDoubleNumber> numbers) {
+		if (numbers == null || numbers.size() == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		return DoubleDoubleNumber.sum(numbers);
+	}
+
+	@Override
+	public DoubleDoubleNumber faculty(
+			@AssertIsInteger @AssertIsPositive(errorFormat = "De aanname dat het getal {} positief is is niet correct") @AssertIsSmaller(value = "100") DoubleDoubleNumber number) {
+		if (number == null || !number.isNaturalNumber() || number.isNegative()) {
+			throw new IllegalArgumentException("Error in argument in faculty function. Argument must be a not negative natural number");
+		}
+
+		DoubleDoubleNumber product = DoubleDoubleNumber.ONE;
+		for (double factor = number.doubleValue(); factor > 1; factor--) {
+			product = product.multiply(factor);
+		}
+
+		return product;
+	}
+
+	@Override
+	public String toString() {
+		return "SimpleArithmeticFunctionsImpl []";
+	}
+}
@@ -0,0 +1,70 @@
+package nl.smith.mathematics.functions.doubledouble;
+
+import java.util.Arrays;
+import java.util.List;
+
+import nl.smith.mathematics.functions.StatisticalFunctions;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.DoubleDoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatisticalFunctionsImpl extends StatisticalFunctions<DoubleDoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StatisticalFunctionsImpl.class);
+
+	private SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl;
+
+	/** Spring instantiated bean */
+	@Autowired
+	public StatisticalFunctionsImpl(SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl) {
+		this.simpleArithmeticFunctionsImpl = simpleArithmeticFunctionsImpl;
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public StatisticalFunctionsImpl(StatisticalFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde")
+	public DoubleDoubleNumber average(DoubleDoubleNumber... numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.length);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde_2")
+	public DoubleDoubleNumber average(List<DoubleDoubleNumber> numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.size());
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "deviatie")
+	public DoubleDoubleNumber deviation(DoubleDoubleNumber... numbers) {
+		if (numbers == null || numbers.length == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		DoubleDoubleNumber average = average(Arrays.asList(numbers));
+
+		DoubleDoubleNumber sum = DoubleDoubleNumber.ZERO;
+		for (DoubleDoubleNumber number : numbers) {
+			DoubleDoubleNumber delta = number.subtract(average);
+			sum = sum.add(delta.multiply(delta));
+		}
+
+		return sum.divide(numbers.length);
+	}
+
+	@Override
+	public String toString() {
+		return "StatisticalFunctionsImpl [simpleArithmeticFunctionsImpl=" + simpleArithmeticFunctionsImpl.toString() + "]";
+	}
+
+}
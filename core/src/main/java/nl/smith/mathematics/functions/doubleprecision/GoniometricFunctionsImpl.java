@@ -0,0 +1,85 @@
+package nl.smith.mathematics.functions.doubleprecision;
+
+import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.functions.GoniometricFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.DoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/** Goniometric functions calculated by {@link Math}. The {@link #getTAYLORNUMBER() Taylor number} is not used */
+@Component
+public class GoniometricFunctionsImpl extends GoniometricFunctions<DoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GoniometricFunctionsImpl.class);
+
+	@FunctionProperty
+	private final AngleType ANGELTYPE = null;
+
+	@FunctionProperty
+	private final DoubleNumber PI = new DoubleNumber(Math.PI);
+
+	/** Spring instantiated bean */
+	public GoniometricFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public GoniometricFunctionsImpl(GoniometricFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	public AngleType getANGELTYPE() {
+		return ANGELTYPE;
+	}
+
+	/** Returns the factor by which an angle of the first type is multiplied to convert it to an angle of the second type */
+	@Override
+	public DoubleNumber convertAngle(AngleType from, AngleType to) {
+		if (from == null || to == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		return getFullTurn(to).divide(getFullTurn(from));
+	}
+
+	/** Returns the angle 360, 2 * pi or 400 of a full turn */
+	private DoubleNumber getFullTurn(AngleType angleType) {
+		switch (angleType) {
+		case DEG:
+			return new DoubleNumber(360);
+		case GRAD:
+			return new DoubleNumber(400);
+		default:
+			return getPI().multiply(2);
+		}
+	}
+
+	@Override
+	public DoubleNumber getPI() {
+		return PI;
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "sin")
+	public DoubleNumber sin(DoubleNumber angle) {
+		return new DoubleNumber(Math.sin(angle.doubleValue()));
+	}
+
+	@Override
+	@MathematicalFunction
+	public DoubleNumber cos(DoubleNumber angle) {
+		return new DoubleNumber(Math.cos(angle.doubleValue()));
+	}
+
+	@Override
+	public String toString() {
+		return "GoniometricFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", ANGELTYPE=" + getANGELTYPE() + ", PI=" + getPI() + "]";
+	}
+
+}
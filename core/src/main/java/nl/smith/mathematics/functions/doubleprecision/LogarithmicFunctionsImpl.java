@@ -0,0 +1,52 @@
+package nl.smith.mathematics.functions.doubleprecision;
+
+import nl.smith.mathematics.functions.LogarithmicFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.DoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/** Logarithmic functions calculated by {@link Math}. The {@link #getTAYLORNUMBER() Taylor number} is not used */
+@Component
+public class LogarithmicFunctionsImpl extends LogarithmicFunctions<DoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogarithmicFunctionsImpl.class);
+
+	@FunctionProperty
+	private final DoubleNumber eulersNumber = new DoubleNumber(Math.E);
+
+	/** Spring instantiated bean */
+	public LogarithmicFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public LogarithmicFunctionsImpl(LogarithmicFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	public DoubleNumber getEulersNumber() {
+		return eulersNumber;
+	}
+
+	@Override
+	@MathematicalFunction
+	public DoubleNumber exp(DoubleNumber number) {
+		return new DoubleNumber(Math.exp(number.doubleValue()));
+	}
+
+	@Override
+	@MathematicalFunction
+	public DoubleNumber ln(DoubleNumber number) {
+		return new DoubleNumber(Math.log(number.doubleValue()));
+	}
+
+	@Override
+	public String toString() {
+		return "LogarithmicFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", eulersNumber=" + eulersNumber + "]";
+	}
+}
@@ -0,0 +1,74 @@
+package nl.smith.mathematics.functions.doubleprecision;
+
+import java.util.Arrays;
+import java.util.List;
+
+import nl.smith.mathematics.constraint.annotation.AssertIsInteger;
+import nl.smith.mathematics.constraint.annotation.AssertIsPositive;
+import nl.smith.mathematics.constraint.annotation.AssertIsSmaller;
+import nl.smith.mathematics.functions.SimpleArithmeticFunctions;
+import nl.smith.mathematics.number.DoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<DoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SimpleArithmeticFunctionsImpl.class);
+
+	/** Spring instantiated bean */
+	public SimpleArithmeticFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public SimpleArithmeticFunctionsImpl(SimpleArithmeticFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	public DoubleNumber sum(DoubleNumber... numbers) {
+		if (numbers == null || numbers.length == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		return sum(Arrays.asList(numbers));
+	}
+
+	@Override
+	public DoubleNumber sum(List<DoubleNumber> numbers) {
+		if (numbers == null || numbers.size() == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		double sum = 0;
+		for (DoubleNumber number : numbers) {
+			sum += number.doubleValue();
+		}
+
+		return new DoubleNumber(sum);
+	}
+
+	@Override
+	public DoubleNumber faculty(
+			@AssertIsInteger @AssertIsPositive(errorFormat = "De aanname dat het getal {} positief is is niet correct") @AssertIsSmaller(value = "100") DoubleNumber number) {
+		if (number == null || !number.isNaturalNumber() || number.isNegative()) {
+			throw new IllegalArgumentException("Error in argument in faculty function. Argument must be a not negative natural number");
+		}
+
+		double product = 1;
+		for (double factor = number.doubleValue(); factor > 1; factor--) {
+			product *= factor;
+		}
+
+		return new DoubleNumber(product);
+	}
+
+	@Override
+	public String toString() {
+		return "SimpleArithmeticFunctionsImpl []";
+	}
+}
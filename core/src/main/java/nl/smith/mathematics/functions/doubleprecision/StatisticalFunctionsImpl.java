@@ -0,0 +1,70 @@
+package nl.smith.mathematics.functions.doubleprecision;
+
+import java.util.Arrays;
+import java.util.List;
+
+import nl.smith.mathematics.functions.StatisticalFunctions;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.DoubleNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatisticalFunctionsImpl extends StatisticalFunctions<DoubleNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StatisticalFunctionsImpl.class);
+
+	private SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl;
+
+	/** Spring instantiated bean */
+	@Autowired
+	public StatisticalFunctionsImpl(SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl) {
+		this.simpleArithmeticFunctionsImpl = simpleArithmeticFunctionsImpl;
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public StatisticalFunctionsImpl(StatisticalFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde")
+	public DoubleNumber average(DoubleNumber... numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.length);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde_2")
+	public DoubleNumber average(List<DoubleNumber> numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.size());
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "deviatie")
+	public DoubleNumber deviation(DoubleNumber... numbers) {
+		if (numbers == null || numbers.length == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		double average = average(Arrays.asList(numbers)).doubleValue();
+
+		double sum = 0;
+		for (DoubleNumber number : numbers) {
+			double delta = number.doubleValue() - average;
+			sum += delta * delta;
+		}
+
+		return new DoubleNumber(sum / numbers.length);
+	}
+
+	@Override
+	public String toString() {
+		return "StatisticalFunctionsImpl [simpleArithmeticFunctionsImpl=" + simpleArithmeticFunctionsImpl.toString() + "]";
+	}
+
+}
@@ -0,0 +1,165 @@
+package nl.smith.mathematics.functions.interval;
+
+import java.math.BigInteger;
+
+import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.functions.GoniometricFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.RationalInterval;
+import nl.smith.mathematics.number.RationalNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Goniometric functions returning enclosures: the partial sum of {@link #getTAYLORNUMBER() Taylor number} terms of the Taylor series is calculated using
+ * interval arithmetic and widened by the bound of the Taylor remainder. The angle is reduced by a multiple of an enclosure of 2 * pi first.
+ */
+@Component
+public class GoniometricFunctionsImpl extends GoniometricFunctions<RationalInterval> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GoniometricFunctionsImpl.class);
+
+	private static final RationalInterval MINUS_ONE_ONE = new RationalInterval(RationalNumber.MINUS_ONE, RationalNumber.ONE);
+
+	private static final RationalNumber HALF = RationalNumber.of(1, 2);
+
+	@FunctionProperty
+	private final AngleType ANGELTYPE = null;
+
+	@FunctionProperty
+	private final RationalInterval PI = RationalInterval.valueOf("[3.1415926535897932384626433832795028841, 3.1415926535897932384626433832795028842]");
+
+	/** The maximum denominator of the bounds of the terms and partial sums of the Taylor series. Null if the bounds are not rounded */
+	@FunctionProperty(nullable = true)
+	private final BigInteger MAXIMUMDENOMINATOR = RationalInterval.DEFAULT_MAXIMUM_DENOMINATOR;
+
+	/** Spring instantiated bean */
+	public GoniometricFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public GoniometricFunctionsImpl(GoniometricFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	public AngleType getANGELTYPE() {
+		return ANGELTYPE;
+	}
+
+	/**
+	 * Returns an enclosure of the factor by which an angle of the first type is multiplied to convert it to an angle of the second type. The factor is exact
+	 * unless exactly one of the types is {@link AngleType#RAD}.
+	 */
+	@Override
+	public RationalInterval convertAngle(AngleType from, AngleType to) {
+		if (from == null || to == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		return from == to ? RationalInterval.ONE : getFullTurn(to).divide(getFullTurn(from));
+	}
+
+	/** Returns an enclosure of the angle 360, 2 * pi or 400 of a full turn */
+	private RationalInterval getFullTurn(AngleType angleType) {
+		switch (angleType) {
+		case DEG:
+			return new RationalInterval(360);
+		case GRAD:
+			return new RationalInterval(400);
+		default:
+			return getPI().multiply(2);
+		}
+	}
+
+	@Override
+	public RationalInterval getPI() {
+		return PI;
+	}
+
+	public BigInteger getMAXIMUMDENOMINATOR() {
+		return MAXIMUMDENOMINATOR;
+	}
+
+	/**
+	 * Taylor series: sin(x) = x - x^3/3! + x^5/5! - x^7/7! ...<br>
+	 * The remainder after n terms is at most |x|^(2n+1)/(2n+1)!, the absolute value of the next term. See: {@link #reduce(RationalInterval)}
+	 */
+	@Override
+	@MathematicalFunction(methodNameAlias = "sin")
+	public RationalInterval sin(RationalInterval angle) {
+		RationalInterval x = reduce(angle.withMaximumDenominator(MAXIMUMDENOMINATOR));
+		RationalInterval squareX = x.pow(2).negate();
+		RationalInterval t = x;
+		RationalInterval sum = t;
+		long n = getTAYLORNUMBER().longValue();
+		for (long i = 1; i < n; i++) {
+			t = t.multiply(squareX).divide((2 * i) * (2 * i + 1));
+			sum = sum.add(t);
+		}
+
+		RationalInterval remainder = t.multiply(squareX).divide((2 * n) * (2 * n + 1));
+
+		return addRemainder(sum, remainder).intersect(MINUS_ONE_ONE);
+	}
+
+	/**
+	 * Taylor series: cos(x) = 1 - x^2/2! + x^4/4! - x^6/6! ...<br>
+	 * The remainder after n terms is at most |x|^(2n)/(2n)!, the absolute value of the next term. See: {@link #reduce(RationalInterval)}
+	 */
+	@Override
+	@MathematicalFunction
+	public RationalInterval cos(RationalInterval angle) {
+		RationalInterval x = reduce(angle.withMaximumDenominator(MAXIMUMDENOMINATOR));
+		RationalInterval squareX = x.pow(2).negate();
+		RationalInterval t = new RationalInterval(RationalNumber.ONE, RationalNumber.ONE, MAXIMUMDENOMINATOR);
+		RationalInterval sum = t;
+		long n = getTAYLORNUMBER().longValue();
+		for (long i = 1; i < n; i++) {
+			t = t.multiply(squareX).divide((2 * i - 1) * (2 * i));
+			sum = sum.add(t);
+		}
+
+		RationalInterval remainder = t.multiply(squareX).divide((2 * n - 1) * (2 * n));
+
+		return addRemainder(sum, remainder).intersect(MINUS_ONE_ONE);
+	}
+
+	/**
+	 * Returns the angle x - k * 2 * pi, with k the multiple of 2 * pi nearest to the midpoint of x. Since the multiple is subtracted using the enclosure of
+	 * 2 * pi, the result encloses x - k * 2 * pi for the exact value of pi. For intervals not wider than 2 * pi the result lies within about [-2 * pi, 2 * pi].
+	 */
+	private RationalInterval reduce(RationalInterval x) {
+		RationalInterval twoPi = getPI().multiply(2);
+		RationalNumber midpoint = x.getLowerBound().add(x.getUpperBound()).divide(2);
+		BigInteger k = round(midpoint.divide(twoPi.getLowerBound()));
+
+		return k.signum() == 0 ? x : x.subtract(twoPi.multiply(k));
+	}
+
+	/** Returns the integer nearest to the number. Halves are rounded away from zero */
+	static BigInteger round(RationalNumber number) {
+		BigInteger integer = number.abs().add(HALF).getIntegerPartAsBigInteger();
+
+		return number.isNegative() ? integer.negate() : integer;
+	}
+
+	/** Returns the sum widened by the largest absolute value of the remainder */
+	static RationalInterval addRemainder(RationalInterval sum, RationalInterval remainder) {
+		RationalNumber bound = remainder.abs().getUpperBound();
+
+		return sum.add(new RationalInterval(bound.negate(), bound));
+	}
+
+	@Override
+	public String toString() {
+		return "GoniometricFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", ANGELTYPE=" + getANGELTYPE() + ", PI=" + getPI() + ", MAXIMUMDENOMINATOR="
+				+ MAXIMUMDENOMINATOR + "]";
+	}
+
+}
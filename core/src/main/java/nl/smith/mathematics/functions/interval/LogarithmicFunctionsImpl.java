@@ -0,0 +1,185 @@
+package nl.smith.mathematics.functions.interval;
+
+import java.math.BigInteger;
+
+import nl.smith.mathematics.functions.LogarithmicFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.RationalInterval;
+import nl.smith.mathematics.number.RationalNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logarithmic functions returning enclosures: the partial sum of {@link #getTAYLORNUMBER() Taylor number} terms of the Taylor series is calculated using
+ * interval arithmetic and widened by the bound of the Taylor remainder. The argument of exp is reduced by a multiple of ln(2) and the argument of ln by a
+ * power of two first.
+ */
+@Component
+public class LogarithmicFunctionsImpl extends LogarithmicFunctions<RationalInterval> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogarithmicFunctionsImpl.class);
+
+	/** Upper bound of Euler's number */
+	private static final RationalNumber THREE = RationalNumber.of(3);
+
+	private static final RationalNumber ONE_THIRD = RationalNumber.of(1, 3);
+
+	private static final RationalNumber TWO_THIRDS = RationalNumber.of(2, 3);
+
+	private static final RationalNumber FOUR_THIRDS = RationalNumber.of(4, 3);
+
+	@FunctionProperty
+	private final RationalInterval eulersNumber = RationalInterval.valueOf("[2.7182818284590452353602874713526624977, 2.7182818284590452353602874713526624978]");
+
+	/** The maximum denominator of the bounds of the terms and partial sums of the Taylor series. Null if the bounds are not rounded */
+	@FunctionProperty(nullable = true)
+	private final BigInteger MAXIMUMDENOMINATOR = RationalInterval.DEFAULT_MAXIMUM_DENOMINATOR;
+
+	/** Spring instantiated bean */
+	public LogarithmicFunctionsImpl() {
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public LogarithmicFunctionsImpl(LogarithmicFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	public RationalInterval getEulersNumber() {
+		return eulersNumber;
+	}
+
+	public BigInteger getMAXIMUMDENOMINATOR() {
+		return MAXIMUMDENOMINATOR;
+	}
+
+	/**
+	 * exp(number) = exp(r) * 2^k with r = number - k * ln(2) in about [-ln(2)/2, ln(2)/2] and ln(2) = 2 * atanh(1/3).<br>
+	 * exp(r) = 1 + r/1! + r^2/2! + r^3/3! + r^4/4! ...<br>
+	 * The remainder after n terms is exp(y) * r^n/n! for some y between 0 and r. It is bounded using exp(y) <= 3^m with m the smallest natural number not
+	 * smaller than r.<br>
+	 * Since exp is increasing, the enclosure is bounded by the enclosures of the exponentials of the bounds of the number.
+	 *
+	 * @throws ArithmeticException
+	 *             If 2^k can not be represented, that is k does not fit in an int
+	 */
+	@Override
+	@MathematicalFunction
+	public RationalInterval exp(RationalInterval number) {
+		RationalInterval x = number.withMaximumDenominator(MAXIMUMDENOMINATOR);
+		RationalInterval ln2 = getLn2();
+		RationalInterval expLowerBound = exp(x.getLowerBound(), ln2);
+		RationalInterval expUpperBound = x.getUpperBound().equals(x.getLowerBound()) ? expLowerBound : exp(x.getUpperBound(), ln2);
+
+		return new RationalInterval(expLowerBound.getLowerBound(), expUpperBound.getUpperBound(), MAXIMUMDENOMINATOR);
+	}
+
+	/** Returns an enclosure of the exponential of a number, given an enclosure of ln(2) */
+	private RationalInterval exp(RationalNumber number, RationalInterval ln2) {
+		BigInteger k = GoniometricFunctionsImpl.round(number.divide(ln2.getLowerBound()));
+		if (MAXIMUMDENOMINATOR != null && k.negate().compareTo(BigInteger.valueOf(MAXIMUMDENOMINATOR.bitLength() + 1)) >= 0) {
+			// exp(number) < 2^(k + 1) <= 1/MAXIMUMDENOMINATOR
+			return new RationalInterval(RationalNumber.ZERO, new RationalNumber(BigInteger.ONE, MAXIMUMDENOMINATOR), MAXIMUMDENOMINATOR);
+		}
+
+		if (k.abs().compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) > 0) {
+			throw new ArithmeticException(String.format("\nThe exponential of %s can not be represented", number));
+		}
+
+		RationalInterval x = new RationalInterval(number, number, MAXIMUMDENOMINATOR).subtract(ln2.multiply(k));
+		RationalInterval t = new RationalInterval(RationalNumber.ONE, RationalNumber.ONE, MAXIMUMDENOMINATOR);
+		RationalInterval sum = t;
+		long n = getTAYLORNUMBER().longValue();
+		for (long i = 1; i < n; i++) {
+			t = t.multiply(x).divide(i);
+			sum = sum.add(t);
+		}
+
+		RationalInterval remainder = t.multiply(x).divide(n);
+		RationalNumber upperBound = x.getUpperBound();
+		if (upperBound.isPositive()) {
+			BigInteger m = upperBound.getIntegerPartAsBigInteger();
+			remainder = remainder.multiply(new RationalInterval(THREE.pow(upperBound.isNaturalNumber() ? m : m.add(BigInteger.ONE))));
+		}
+
+		RationalInterval enclosure = GoniometricFunctionsImpl.addRemainder(sum, remainder);
+		if (enclosure.getLowerBound().isNegative()) {
+			enclosure = new RationalInterval(RationalNumber.ZERO, enclosure.getUpperBound(), MAXIMUMDENOMINATOR);
+		}
+
+		BigInteger powerOfTwo = BigInteger.ONE.shiftLeft(k.abs().intValue());
+
+		return k.signum() >= 0 ? enclosure.multiply(powerOfTwo) : enclosure.divide(powerOfTwo);
+	}
+
+	/**
+	 * ln(number) = ln(m * 2^k) = ln(m) + k * ln(2) with m in [2/3, 4/3] and ln(2) = 2 * atanh(1/3).<br>
+	 * ln(m) = 2 * atanh(y) = 2 * (y + y^3/3 + y^5/5 ...) with y = (m - 1)/(m + 1) and |y| <= 1/5. See: {@link #twiceAtanh(RationalNumber)}<br>
+	 * Since ln is increasing, the enclosure is bounded by the enclosures of the logarithms of the bounds of the number.
+	 */
+	@Override
+	@MathematicalFunction
+	public RationalInterval ln(RationalInterval number) {
+		if (!number.isPositive()) {
+			throw new ArithmeticException(String.format("\nThe logarithm of %s is not defined", number));
+		}
+
+		RationalInterval x = number.withMaximumDenominator(MAXIMUMDENOMINATOR);
+		RationalInterval lnLowerBound = ln(x.getLowerBound());
+		RationalInterval lnUpperBound = x.getUpperBound().equals(x.getLowerBound()) ? lnLowerBound : ln(x.getUpperBound());
+
+		return new RationalInterval(lnLowerBound.getLowerBound(), lnUpperBound.getUpperBound(), MAXIMUMDENOMINATOR);
+	}
+
+	/** Returns an enclosure of the logarithm of a positive number */
+	private RationalInterval ln(RationalNumber number) {
+		// number / 2^k lies in (1/2, 2)
+		int k = number.getNumerator().bitLength() - number.getDenominator().bitLength();
+		RationalNumber m = k >= 0 ? number.divide(BigInteger.ONE.shiftLeft(k)) : number.multiply(BigInteger.ONE.shiftLeft(-k));
+		if (m.compareTo(FOUR_THIRDS) > 0) {
+			k++;
+			m = m.divide(2);
+		} else if (m.compareTo(TWO_THIRDS) < 0) {
+			k--;
+			m = m.multiply(2);
+		}
+
+		RationalInterval ln = twiceAtanh(m.subtract(1).divide(m.add(1)));
+
+		return k == 0 ? ln : ln.add(getLn2().multiply(k));
+	}
+
+	/** Returns an enclosure of ln(2) = 2 * atanh(1/3) */
+	private RationalInterval getLn2() {
+		return twiceAtanh(ONE_THIRD);
+	}
+
+	/**
+	 * Returns an enclosure of 2 * atanh(y) = 2 * (y + y^3/3 + y^5/5 ...) for |y| <= 1/3.<br>
+	 * The remaining terms after n terms decrease geometrically with a ratio of at most y^2, so the remainder is at most |y|^(2n+1)/((2n+1)(1-y^2)).
+	 */
+	private RationalInterval twiceAtanh(RationalNumber y) {
+		RationalInterval x = new RationalInterval(y, y, MAXIMUMDENOMINATOR);
+		RationalInterval squareX = x.multiply(x);
+		RationalInterval t = x;
+		RationalInterval sum = t;
+		long n = getTAYLORNUMBER().longValue();
+		for (long i = 1; i < n; i++) {
+			t = t.multiply(squareX);
+			sum = sum.add(t.divide(2 * i + 1));
+		}
+
+		RationalInterval remainder = t.multiply(squareX).divide(2 * n + 1).divide(new RationalInterval(RationalNumber.ONE.subtract(y.multiply(y))));
+
+		return GoniometricFunctionsImpl.addRemainder(sum, remainder).multiply(2);
+	}
+
+	@Override
+	public String toString() {
+		return "LogarithmicFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", eulersNumber=" + eulersNumber + ", MAXIMUMDENOMINATOR=" + MAXIMUMDENOMINATOR + "]";
+	}
+}
@@ -0,0 +1,70 @@
+package nl.smith.mathematics.functions.interval;
+
+import java.util.Arrays;
+import java.util.List;
+
+import nl.smith.mathematics.functions.StatisticalFunctions;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.RationalInterval;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatisticalFunctionsImpl extends StatisticalFunctions<RationalInterval> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StatisticalFunctionsImpl.class);
+
+	private SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl;
+
+	/** Spring instantiated bean */
+	@Autowired
+	public StatisticalFunctionsImpl(SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl) {
+		this.simpleArithmeticFunctionsImpl = simpleArithmeticFunctionsImpl;
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public StatisticalFunctionsImpl(StatisticalFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde")
+	public RationalInterval average(RationalInterval... numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.length);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde_2")
+	public RationalInterval average(List<RationalInterval> numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.size());
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "deviatie")
+	public RationalInterval deviation(RationalInterval... numbers) {
+		if (numbers == null || numbers.length == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		RationalInterval average = average(Arrays.asList(numbers));
+
+		RationalInterval sum = RationalInterval.ZERO;
+		for (RationalInterval number : numbers) {
+			RationalInterval delta = number.subtract(average);
+			sum = sum.add(delta.pow(2));
+		}
+
+		return sum.divide(numbers.length);
+	}
+
+	@Override
+	public String toString() {
+		return "StatisticalFunctionsImpl [simpleArithmeticFunctionsImpl=" + simpleArithmeticFunctionsImpl.toString() + "]";
+	}
+
+}
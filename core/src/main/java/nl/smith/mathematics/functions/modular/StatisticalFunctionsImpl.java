@@ -0,0 +1,72 @@
+package nl.smith.mathematics.functions.modular;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import nl.smith.mathematics.functions.StatisticalFunctions;
+import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.ModularNumber;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/** Statistical functions modulo a prime: division by the number of numbers is multiplication by its reciprocal value modulo the prime */
+@Component
+public class StatisticalFunctionsImpl extends StatisticalFunctions<ModularNumber> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StatisticalFunctionsImpl.class);
+
+	private SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl;
+
+	/** Spring instantiated bean */
+	@Autowired
+	public StatisticalFunctionsImpl(SimpleArithmeticFunctionsImpl simpleArithmeticFunctionsImpl) {
+		this.simpleArithmeticFunctionsImpl = simpleArithmeticFunctionsImpl;
+		setFunctionProperties();
+	}
+
+	/** Constructor for instantiating proxy */
+	public StatisticalFunctionsImpl(StatisticalFunctionsImpl baseObject) {
+		LOGGER.info("Create instance proxy instance of class {} using {}", this.getClass().getCanonicalName(), baseObject.toString());
+		setFunctionProperties(baseObject);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde")
+	public ModularNumber average(ModularNumber... numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.length);
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "gemiddelde_2")
+	public ModularNumber average(List<ModularNumber> numbers) {
+		return simpleArithmeticFunctionsImpl.sum(numbers).divide(numbers.size());
+	}
+
+	@Override
+	@MathematicalFunction(methodNameAlias = "deviatie")
+	public ModularNumber deviation(ModularNumber... numbers) {
+		if (numbers == null || numbers.length == 0) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		ModularNumber average = average(Arrays.asList(numbers));
+
+		List<ModularNumber> squares = new ArrayList<>(numbers.length);
+		for (ModularNumber number : numbers) {
+			ModularNumber delta = number.subtract(average);
+			squares.add(delta.multiply(delta));
+		}
+
+		return ModularNumber.sum(squares).divide(numbers.length);
+	}
+
+	@Override
+	public String toString() {
+		return "StatisticalFunctionsImpl [simpleArithmeticFunctionsImpl=" + simpleArithmeticFunctionsImpl.toString() + "]";
+	}
+
+}
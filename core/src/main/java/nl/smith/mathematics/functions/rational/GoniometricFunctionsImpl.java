@@ -1,14 +1,18 @@
 package nl.smith.mathematics.functions.rational;
 
-import static java.math.BigInteger.ONE;
-import static java.math.BigInteger.ZERO;
-
 import java.math.BigInteger;
 
 import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.functions.Approximation;
+import nl.smith.mathematics.functions.BinarySplitting;
 import nl.smith.mathematics.functions.GoniometricFunctions;
+import nl.smith.mathematics.functions.HypergeometricSeries;
+import nl.smith.mathematics.functions.MathematicalConstants;
 import nl.smith.mathematics.functions.annotation.FunctionProperty;
 import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.NormalizationPolicy;
+import nl.smith.mathematics.number.PowerCache;
+import nl.smith.mathematics.number.RationalAccumulator;
 import nl.smith.mathematics.number.RationalNumber;
 
 import org.slf4j.Logger;
@@ -20,15 +24,51 @@ public class GoniometricFunctionsImpl extends GoniometricFunctions<RationalNumbe
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(GoniometricFunctionsImpl.class);
 
-	private static final BigInteger TWO = BigInteger.valueOf(2);
-
 	private static final BigInteger FOUR = BigInteger.valueOf(4);
 
+	private static final RationalNumber HALF = RationalNumber.of(1, 2);
+
+	/** Number of significant bits of the error bounds. See: {@link RationalNumber#roundUp(int)} */
+	private static final int BOUND_BITS = 32;
+
+	/**
+	 * Upper bound of the error of pi if no {@link #getTOLERANCE() tolerance} is specified: 10^-200. The error of a reduced argument is kept below this bound
+	 * as well. See: {@link #getReductionPi(RationalNumber, RationalNumber)}
+	 */
+	private static final RationalNumber CONSTANT_TOLERANCE = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(200));
+
 	@FunctionProperty
 	private final AngleType ANGELTYPE = null;
 
+	/** Pi returned by {@link #getPI()}. Null if pi is calculated. See: {@link MathematicalConstants#getPi(RationalNumber)} */
+	@FunctionProperty(nullable = true)
+	private final RationalNumber PI = null;
+
+	/** Policy used for normalizing the intermediate results of the Taylor series */
+	@FunctionProperty
+	private final NormalizationPolicy NORMALIZATIONPOLICY = NormalizationPolicy.EAGER;
+
+	/** Bit length above which intermediate results are normalized if the {@link #NORMALIZATIONPOLICY} is {@link NormalizationPolicy#LAZY} */
 	@FunctionProperty
-	private final RationalNumber PI = new RationalNumber(314, 100);
+	private final Integer NORMALIZATIONTHRESHOLD = 512;
+
+	/**
+	 * Number of decimal digits after the decimal point to which the terms and partial sums of the Taylor series are approximated (see:
+	 * {@link RationalNumber#approximate(int)}). The error introduced is at most the number of terms times 10^-INTERMEDIATEPRECISION. Null if the series is
+	 * calculated exactly
+	 */
+	@FunctionProperty(nullable = true)
+	private final Integer INTERMEDIATEPRECISION = null;
+
+	/**
+	 * Number of times the reduced argument is halved before the Taylor series are calculated. The results are doubled again using sin(2a) = 2sin(a)cos(a) and
+	 * cos(2a) = 1 - 2sin(a)^2. Each halving speeds up the convergence of the series at the cost of calculating both series
+	 */
+	@FunctionProperty
+	private final Integer ANGLEHALVINGS = 0;
+
+	/** Powers of the most recent argument of {@link #sin(RationalNumber)} and {@link #cos(RationalNumber)} */
+	private volatile PowerCache<RationalNumber> powerCache;
 
 	/** Spring instantiated bean */
 	public GoniometricFunctionsImpl() {
@@ -46,84 +86,396 @@ public class GoniometricFunctionsImpl extends GoniometricFunctions<RationalNumbe
 		return ANGELTYPE;
 	}
 
+	/** Returns the factor by which an angle of the first type is multiplied to convert it to an angle of the second type */
 	@Override
 	public RationalNumber convertAngle(AngleType from, AngleType to) {
-		// TODO
-		return null;
+		if (from == null || to == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		return getFullTurn(to).divide(getFullTurn(from));
+	}
+
+	/** Returns the angle 360, 2 * pi or 400 of a full turn */
+	private RationalNumber getFullTurn(AngleType angleType) {
+		switch (angleType) {
+		case DEG:
+			return RationalNumber.of(360);
+		case GRAD:
+			return RationalNumber.of(400);
+		default:
+			return getPI().multiply(2);
+		}
 	}
 
+	/** Returns the specified {@link #PI} or pi calculated up to the {@link #getTOLERANCE() tolerance} or else up to 10^-200 */
 	@Override
 	public RationalNumber getPI() {
-		return PI;
+		if (PI != null) {
+			return PI;
+		}
+
+		RationalNumber tolerance = getTolerance();
+
+		return MathematicalConstants.getPi(tolerance == null ? CONSTANT_TOLERANCE : tolerance).getValue();
+	}
+
+	public NormalizationPolicy getNORMALIZATIONPOLICY() {
+		return NORMALIZATIONPOLICY;
+	}
+
+	public Integer getNORMALIZATIONTHRESHOLD() {
+		return NORMALIZATIONTHRESHOLD;
+	}
+
+	public Integer getINTERMEDIATEPRECISION() {
+		return INTERMEDIATEPRECISION;
+	}
+
+	public Integer getANGLEHALVINGS() {
+		return ANGLEHALVINGS;
+	}
+
+	/** Returns the number approximated to {@link #INTERMEDIATEPRECISION} decimal digits or the number itself if no precision is specified */
+	private RationalNumber approximate(RationalNumber number) {
+		return INTERMEDIATEPRECISION == null ? number : number.approximate(INTERMEDIATEPRECISION);
 	}
 
-	@SuppressWarnings("unused")
-	private RationalNumber calculatePi() {
-		BigInteger i = ONE;
-		RationalNumber PI = new RationalNumber(BigInteger.valueOf(3));
-		boolean substact = false;
-		while (i.compareTo(getTAYLORNUMBER()) < 0) {
-			BigInteger offset = TWO.multiply(i);
-			BigInteger denominator = offset.multiply(offset.add(ONE)).multiply(offset.add(TWO));
-			PI = substact ? PI.subtract(new RationalNumber(FOUR, denominator)) : PI.add(new RationalNumber(FOUR, denominator));
-			substact = !substact;
-			i = i.add(ONE);
+	/** Approximates the accumulated value to {@link #INTERMEDIATEPRECISION} decimal digits if a precision is specified */
+	private void approximate(RationalAccumulator accumulator) {
+		if (INTERMEDIATEPRECISION != null) {
+			accumulator.approximate(INTERMEDIATEPRECISION);
 		}
+	}
+
+	/** Returns the cached powers of x. The cache is replaced if x differs from the base of the cache */
+	private PowerCache<RationalNumber> getPowerCache(RationalNumber x) {
+		PowerCache<RationalNumber> powerCache = this.powerCache;
+		if (powerCache == null || !powerCache.isCacheOf(x)) {
+			powerCache = new PowerCache<>(x);
+			this.powerCache = powerCache;
+		}
+
+		return powerCache;
+	}
+
+	/**
+	 * Returns pi for reducing a not negative angle. The error of k * pi/2 is smaller than 10^-200 or a hundredth of the tolerance if that is smaller. Since
+	 * the quadrant k is smaller than |x| + 1, pi is calculated up to this bound divided by |x| + 1.
+	 */
+	private static Approximation<RationalNumber> getReductionPi(RationalNumber absX, RationalNumber tolerance) {
+		RationalNumber reductionTolerance = tolerance == null || tolerance.divide(100).compareTo(CONSTANT_TOLERANCE) >= 0 ? CONSTANT_TOLERANCE : tolerance
+				.divide(100);
+
+		return MathematicalConstants.getPi(reductionTolerance.divide(absX.add(1)));
+	}
+
+	/** Returns the nearest multiple k of pi/2 of a not negative angle. The reduced angle x - k * pi/2 lies in [-pi/4, pi/4] */
+	private static BigInteger getQuadrant(RationalNumber absX, RationalNumber halfPi) {
+		return absX.divide(halfPi).add(HALF).getIntegerPartAsBigInteger();
+	}
 
-		return PI;
+	/** Returns the {@link #getTOLERANCE() tolerance} as rational number or null if the number of terms is fixed */
+	private RationalNumber getTolerance() {
+		return getTOLERANCE() == null ? null : RationalNumber.valueOf(getTOLERANCE());
+	}
+
+	private static void checkTolerance(RationalNumber tolerance) {
+		if (tolerance == null || !tolerance.isPositive()) {
+			throw new IllegalArgumentException("\nThe tolerance should be a positive number");
+		}
 	}
 
 	/**
-	 * Taylor series: Sin(x) = 0 + x - x^3/3! + x^5/5! - x^7/7! + ... Sum(T(i)) T(0) = x T(i) = -x^2/((2i +1)* 2i)
+	 * Arguments outside [-pi/4, pi/4] are reduced to r = |x| - k * pi/2 in [-pi/4, pi/4] with k the nearest multiple of pi/2.<br>
+	 * Sin(|x|) is sin(r), cos(r), -sin(r) or -cos(r) for k mod 4 equals 0, 1, 2 or 3 and sin(x) = -sin(-x). See: {@link #getReductionPi(RationalNumber, RationalNumber)}<br>
+	 * If a {@link #getTOLERANCE() tolerance} is specified the terms are summed until the remainder bound is smaller than the tolerance.
 	 */
 	@Override
 	@MathematicalFunction(methodNameAlias = "sin")
 	public RationalNumber sin(RationalNumber x) {
-		BigInteger i = ONE;
-		RationalNumber t = x;
-		RationalNumber sum = t;
-		RationalNumber squareX = x.multiply(x);
-		boolean subtract = true;
-
-		while (i.compareTo(getTAYLORNUMBER()) < 0) {
-			i = i.add(ONE);
-			BigInteger j = i.multiply(TWO).subtract(ONE);
-			BigInteger k = j.subtract(ONE);
-			t = t.multiply(squareX).divide(j).divide(k);
-			sum = subtract ? sum.subtract(t) : sum.add(t);
-			sum = sum.getNormalizedRationalNumber();
-			subtract = !subtract;
-		}
-		return sum;
+		return sinApproximation(x, getTolerance()).getValue();
 	}
 
 	/**
-	 * Taylor series: Cos(x) = 1 - x^2/2! + x^4/4! - x^6/6! + ...
+	 * Arguments outside [-pi/4, pi/4] are reduced to r = |x| - k * pi/2 in [-pi/4, pi/4] with k the nearest multiple of pi/2.<br>
+	 * Cos(x) = cos(|x|) is cos(r), -sin(r), -cos(r) or sin(r) for k mod 4 equals 0, 1, 2 or 3. See: {@link #getReductionPi(RationalNumber, RationalNumber)}<br>
+	 * If a {@link #getTOLERANCE() tolerance} is specified the terms are summed until the remainder bound is smaller than the tolerance.
 	 */
 	@Override
 	@MathematicalFunction
 	public RationalNumber cos(RationalNumber x) {
-		BigInteger i = ZERO;
-		RationalNumber t = new RationalNumber(ONE);
-		RationalNumber sum = new RationalNumber(ONE);
-		RationalNumber squareX = x.multiply(x);
-		boolean subtract = true;
-		BigInteger times = getTAYLORNUMBER().subtract(ONE);
-		while (i.compareTo(times) < 0) {
-			i = i.add(ONE);
-			BigInteger j = i.multiply(TWO);
-			BigInteger k = j.subtract(ONE);
-			t = t.multiply(squareX).divide(j).divide(k);
-			sum = subtract ? sum.subtract(t) : sum.add(t);
-			sum = sum.getNormalizedRationalNumber();
-			subtract = !subtract;
-		}
-		return sum;
+		return cosApproximation(x, getTolerance()).getValue();
+	}
+
+	/**
+	 * Returns sin(x) summing the terms until the remainder bound is smaller than the tolerance. The error bound of the result also includes the error of the
+	 * argument reduction and of the {@link #INTERMEDIATEPRECISION}, so it only exceeds the tolerance if the tolerance is smaller than these errors.
+	 */
+	public Approximation<RationalNumber> sin(RationalNumber x, RationalNumber tolerance) {
+		checkTolerance(tolerance);
+
+		return sinApproximation(x, tolerance);
+	}
+
+	/**
+	 * Returns cos(x) summing the terms until the remainder bound is smaller than the tolerance. The error bound of the result also includes the error of the
+	 * argument reduction and of the {@link #INTERMEDIATEPRECISION}, so it only exceeds the tolerance if the tolerance is smaller than these errors.
+	 */
+	public Approximation<RationalNumber> cos(RationalNumber x, RationalNumber tolerance) {
+		checkTolerance(tolerance);
+
+		return cosApproximation(x, tolerance);
+	}
+
+	/** Returns sin(x) using {@link #TAYLORNUMBER} terms if the tolerance is null */
+	private Approximation<RationalNumber> sinApproximation(RationalNumber x, RationalNumber tolerance) {
+		RationalNumber absX = x.abs();
+		Approximation<RationalNumber> pi = getReductionPi(absX, tolerance);
+		RationalNumber halfPi = pi.getValue().divide(2);
+		BigInteger k = getQuadrant(absX, halfPi);
+		if (k.signum() == 0) {
+			return reducedSin(x, tolerance);
+		}
+
+		RationalNumber r = absX.subtract(halfPi.multiply(k));
+		Approximation<RationalNumber> sin;
+		switch (k.mod(FOUR).intValue()) {
+		case 0:
+			sin = reducedSin(r, tolerance);
+			break;
+		case 1:
+			sin = reducedCos(r, tolerance);
+			break;
+		case 2:
+			sin = reducedSin(r, tolerance).negate();
+			break;
+		default:
+			sin = reducedCos(r, tolerance).negate();
+		}
+
+		sin = sin.addError(getReductionError(pi, k));
+
+		return x.isNegative() ? sin.negate() : sin;
+	}
+
+	/** Returns cos(x) using {@link #TAYLORNUMBER} terms if the tolerance is null */
+	private Approximation<RationalNumber> cosApproximation(RationalNumber x, RationalNumber tolerance) {
+		RationalNumber absX = x.abs();
+		Approximation<RationalNumber> pi = getReductionPi(absX, tolerance);
+		RationalNumber halfPi = pi.getValue().divide(2);
+		BigInteger k = getQuadrant(absX, halfPi);
+		if (k.signum() == 0) {
+			return reducedCos(x, tolerance);
+		}
+
+		RationalNumber r = absX.subtract(halfPi.multiply(k));
+		Approximation<RationalNumber> cos;
+		switch (k.mod(FOUR).intValue()) {
+		case 0:
+			cos = reducedCos(r, tolerance);
+			break;
+		case 1:
+			cos = reducedSin(r, tolerance).negate();
+			break;
+		case 2:
+			cos = reducedCos(r, tolerance).negate();
+			break;
+		default:
+			cos = reducedSin(r, tolerance);
+		}
+
+		return cos.addError(getReductionError(pi, k));
+	}
+
+	/** Returns the upper bound k * e / 2 of the error of k * pi/2 where e is the error bound of pi */
+	private static RationalNumber getReductionError(Approximation<RationalNumber> pi, BigInteger k) {
+		return pi.getErrorBound().multiply(k).divide(2).roundUp(BOUND_BITS);
+	}
+
+	/** Returns sin(r) of a reduced angle r in [-pi/4, pi/4] using {@link #ANGLEHALVINGS} halvings */
+	private Approximation<RationalNumber> reducedSin(RationalNumber r, RationalNumber tolerance) {
+		return ANGLEHALVINGS <= 0 ? sinSeries(r, tolerance) : sinCos(r, tolerance).sin;
+	}
+
+	/** Returns cos(r) of a reduced angle r in [-pi/4, pi/4] using {@link #ANGLEHALVINGS} halvings */
+	private Approximation<RationalNumber> reducedCos(RationalNumber r, RationalNumber tolerance) {
+		return ANGLEHALVINGS <= 0 ? cosSeries(r, tolerance) : sinCos(r, tolerance).cos;
+	}
+
+	/**
+	 * Returns sin(r) and cos(r) calculated from the Taylor series of r / 2^ANGLEHALVINGS.<br>
+	 * If the errors of s = sin(a) and c = cos(a) are at most eS and eC, the errors of 2sc and 1 - 2s^2 are at most 2(eS + eC + eS * eC) and 2(2eS + eS^2).
+	 * Each doubling therefore multiplies an error e <= 1/2 by at most 5, so the series are summed up to the tolerance divided by 5^ANGLEHALVINGS.
+	 */
+	private SinCos sinCos(RationalNumber r, RationalNumber tolerance) {
+		RationalNumber a = r.divide(BigInteger.ONE.shiftLeft(ANGLEHALVINGS));
+		RationalNumber seriesTolerance = tolerance == null ? null : (tolerance.compareTo(HALF) < 0 ? tolerance : HALF).divide(BigInteger.valueOf(5).pow(ANGLEHALVINGS));
+		Approximation<RationalNumber> sinSeries = sinSeries(a, seriesTolerance);
+		Approximation<RationalNumber> cosSeries = cosSeries(a, seriesTolerance);
+		RationalNumber sin = sinSeries.getValue();
+		RationalNumber cos = cosSeries.getValue();
+		RationalNumber sinError = sinSeries.getErrorBound();
+		RationalNumber cosError = cosSeries.getErrorBound();
+		for (int i = 0; i < ANGLEHALVINGS; i++) {
+			RationalNumber doubledSin = approximate(sin.multiply(cos).multiply(2));
+			cos = approximate(RationalNumber.ONE.subtract(sin.multiply(sin).multiply(2)));
+			sin = doubledSin;
+
+			RationalNumber doubledSinError = sinError.add(cosError).add(sinError.multiply(cosError)).multiply(2).add(getIntermediatePrecisionError(1)).roundUp(BOUND_BITS);
+			cosError = sinError.multiply(2).add(sinError.multiply(sinError)).multiply(2).add(getIntermediatePrecisionError(1)).roundUp(BOUND_BITS);
+			sinError = doubledSinError;
+		}
+
+		int numberOfTerms = sinSeries.getNumberOfTerms() + cosSeries.getNumberOfTerms();
+
+		return new SinCos(new Approximation<>(sin, sinError, numberOfTerms), new Approximation<>(cos, cosError, numberOfTerms));
+	}
+
+	/** Returns the error introduced by the given number of approximations to {@link #INTERMEDIATEPRECISION} decimal digits */
+	private RationalNumber getIntermediatePrecisionError(int numberOfApproximations) {
+		return INTERMEDIATEPRECISION == null ? RationalNumber.ZERO : new RationalNumber(BigInteger.valueOf(numberOfApproximations), BigInteger.TEN.pow(INTERMEDIATEPRECISION));
+	}
+
+	/**
+	 * Returns the approximation of a series of which the error bound is the remainder bound plus the error introduced by approximating the terms and partial
+	 * sums. An error of a term propagates into the next terms, but at most doubles since the terms at least halve
+	 */
+	private Approximation<RationalNumber> toApproximation(RationalNumber value, RationalNumber remainderBound, int numberOfTerms) {
+		return new Approximation<>(value, remainderBound.add(getIntermediatePrecisionError(3 * numberOfTerms + 1)).roundUp(BOUND_BITS), numberOfTerms);
+	}
+
+	/** Returns the bound |T(n - 1)| * x^2 / (2n * (2n + 1)) >= |T(n)| of the remainder of the sine series after n terms, given an upper bound of x^2 */
+	private static RationalNumber getSinRemainderBound(RationalNumber t, RationalNumber squareXBound, int n) {
+		return t.abs().roundUp(BOUND_BITS).multiply(squareXBound).divide(2L * n * (2 * n + 1)).roundUp(BOUND_BITS);
+	}
+
+	/** Returns the bound |T(n - 1)| * x^2 / ((2n - 1) * 2n) >= |T(n)| of the remainder of the cosine series after n terms, given an upper bound of x^2 */
+	private static RationalNumber getCosRemainderBound(RationalNumber t, RationalNumber squareXBound, int n) {
+		return t.abs().roundUp(BOUND_BITS).multiply(squareXBound).divide(2L * n * (2 * n - 1)).roundUp(BOUND_BITS);
+	}
+
+	/**
+	 * Taylor series: Sin(x) = 0 + x - x^3/3! + x^5/5! - x^7/7! + ... Sum(T(i)) T(0) = x T(i) = -x^2/((2i +1)* 2i)<br>
+	 * Sums {@link #TAYLORNUMBER} terms or, if a tolerance is specified, the terms until the remainder bound is smaller than the tolerance. For |x| <= 1 the
+	 * series alternates with decreasing terms, so after n terms the remainder is at most |T(n)|. See: {@link #getSinRemainderBound(RationalNumber, RationalNumber, int)}<br>
+	 * If the series is calculated exactly the partial sum is calculated using binary splitting. See: {@link #sinSeriesBinarySplitting(RationalNumber, RationalNumber)}
+	 */
+	private Approximation<RationalNumber> sinSeries(RationalNumber x, RationalNumber tolerance) {
+		if (INTERMEDIATEPRECISION == null) {
+			return sinSeriesBinarySplitting(x, tolerance);
+		}
+
+		int n = 1;
+		RationalNumber t = x;
+		RationalAccumulator sum = new RationalAccumulator(NORMALIZATIONPOLICY, NORMALIZATIONTHRESHOLD).add(t);
+		RationalNumber squareX = getPowerCache(x).get(2);
+		RationalNumber squareXBound = x.abs().roundUp(BOUND_BITS).pow(2);
+		int numberOfTerms = getTAYLORNUMBER().intValue();
+
+		while (tolerance == null ? n < numberOfTerms : getSinRemainderBound(t, squareXBound, n).compareTo(tolerance) >= 0) {
+			t = approximate(t.multiply(squareX).divide(2 * n + 1).divide(2 * n));
+			if (n % 2 == 1) {
+				sum.subtract(t);
+			} else {
+				sum.add(t);
+			}
+			approximate(sum);
+			n++;
+		}
+
+		return toApproximation(approximate(sum.toRationalNumber()), getSinRemainderBound(t, squareXBound, n), n);
+	}
+
+	/**
+	 * Taylor series: Cos(x) = 1 - x^2/2! + x^4/4! - x^6/6! + ...<br>
+	 * Sums {@link #TAYLORNUMBER} terms or, if a tolerance is specified, the terms until the remainder bound is smaller than the tolerance. For |x| <= 1 the
+	 * series alternates with decreasing terms, so after n terms the remainder is at most |T(n)|. See: {@link #getCosRemainderBound(RationalNumber, RationalNumber, int)}<br>
+	 * If the series is calculated exactly the partial sum is calculated using binary splitting. See: {@link #cosSeriesBinarySplitting(RationalNumber, RationalNumber)}
+	 */
+	private Approximation<RationalNumber> cosSeries(RationalNumber x, RationalNumber tolerance) {
+		if (INTERMEDIATEPRECISION == null) {
+			return cosSeriesBinarySplitting(x, tolerance);
+		}
+
+		int n = 1;
+		RationalNumber t = RationalNumber.ONE;
+		RationalAccumulator sum = new RationalAccumulator(NORMALIZATIONPOLICY, NORMALIZATIONTHRESHOLD).add(t);
+		RationalNumber squareX = getPowerCache(x).get(2);
+		RationalNumber squareXBound = x.abs().roundUp(BOUND_BITS).pow(2);
+		int numberOfTerms = getTAYLORNUMBER().intValue();
+
+		while (tolerance == null ? n < numberOfTerms : getCosRemainderBound(t, squareXBound, n).compareTo(tolerance) >= 0) {
+			t = approximate(t.multiply(squareX).divide(2 * n).divide(2 * n - 1));
+			if (n % 2 == 1) {
+				sum.subtract(t);
+			} else {
+				sum.add(t);
+			}
+			approximate(sum);
+			n++;
+		}
+
+		return toApproximation(approximate(sum.toRationalNumber()), getCosRemainderBound(t, squareXBound, n), n);
+	}
+
+	/**
+	 * Returns the exact partial sum x * Sum((-x^2)^k/(2k + 1)!) of the sine series calculated using {@link BinarySplitting}. The number of terms is determined
+	 * beforehand from upper bounds of the terms, which are calculated with a few significant bits only.
+	 */
+	private Approximation<RationalNumber> sinSeriesBinarySplitting(RationalNumber x, RationalNumber tolerance) {
+		int n = 1;
+		RationalNumber termBound = x.abs().roundUp(BOUND_BITS);
+		RationalNumber squareXBound = termBound.pow(2);
+		int numberOfTerms = getTAYLORNUMBER().intValue();
+
+		while (tolerance == null ? n < numberOfTerms : getSinRemainderBound(termBound, squareXBound, n).compareTo(tolerance) >= 0) {
+			termBound = getSinRemainderBound(termBound, squareXBound, n);
+			n++;
+		}
+
+		RationalNumber sum = x.multiply(BinarySplitting.sum(HypergeometricSeries.sine(x), n));
+
+		return toApproximation(sum, getSinRemainderBound(termBound, squareXBound, n), n);
+	}
+
+	/**
+	 * Returns the exact partial sum Sum((-x^2)^k/(2k)!) of the cosine series calculated using {@link BinarySplitting}. The number of terms is determined
+	 * beforehand from upper bounds of the terms, which are calculated with a few significant bits only.
+	 */
+	private Approximation<RationalNumber> cosSeriesBinarySplitting(RationalNumber x, RationalNumber tolerance) {
+		int n = 1;
+		RationalNumber termBound = RationalNumber.ONE;
+		RationalNumber squareXBound = x.abs().roundUp(BOUND_BITS).pow(2);
+		int numberOfTerms = getTAYLORNUMBER().intValue();
+
+		while (tolerance == null ? n < numberOfTerms : getCosRemainderBound(termBound, squareXBound, n).compareTo(tolerance) >= 0) {
+			termBound = getCosRemainderBound(termBound, squareXBound, n);
+			n++;
+		}
+
+		RationalNumber sum = BinarySplitting.sum(HypergeometricSeries.cosine(x), n);
+
+		return toApproximation(sum, getCosRemainderBound(termBound, squareXBound, n), n);
 	}
 
 	@Override
 	public String toString() {
-		return "GoniometricFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", ANGELTYPE=" + getANGELTYPE() + ", PI=" + getPI() + "]";
+		return "GoniometricFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", ANGELTYPE=" + getANGELTYPE() + ", PI=" + PI + ", NORMALIZATIONPOLICY=" + NORMALIZATIONPOLICY + ", NORMALIZATIONTHRESHOLD="
+				+ NORMALIZATIONTHRESHOLD + ", INTERMEDIATEPRECISION=" + INTERMEDIATEPRECISION + ", ANGLEHALVINGS=" + ANGLEHALVINGS + "]";
+	}
+
+	/** The approximations of the sine and cosine of the same angle */
+	private static class SinCos {
+
+		private final Approximation<RationalNumber> sin;
+
+		private final Approximation<RationalNumber> cos;
+
+		private SinCos(Approximation<RationalNumber> sin, Approximation<RationalNumber> cos) {
+			this.sin = sin;
+			this.cos = cos;
+		}
 	}
 
 }
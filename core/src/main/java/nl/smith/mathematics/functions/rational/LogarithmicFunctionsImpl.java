@@ -1,12 +1,16 @@
 package nl.smith.mathematics.functions.rational;
 
-import static java.math.BigInteger.ONE;
-
 import java.math.BigInteger;
 
+import nl.smith.mathematics.functions.Approximation;
+import nl.smith.mathematics.functions.BinarySplitting;
+import nl.smith.mathematics.functions.HypergeometricSeries;
 import nl.smith.mathematics.functions.LogarithmicFunctions;
+import nl.smith.mathematics.functions.MathematicalConstants;
 import nl.smith.mathematics.functions.annotation.FunctionProperty;
 import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.NormalizationPolicy;
+import nl.smith.mathematics.number.RationalAccumulator;
 import nl.smith.mathematics.number.RationalNumber;
 
 import org.slf4j.Logger;
@@ -18,8 +22,31 @@ public class LogarithmicFunctionsImpl extends LogarithmicFunctions<RationalNumbe
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(LogarithmicFunctionsImpl.class);
 
+	/** Number of significant bits of the error bounds. See: {@link RationalNumber#roundUp(int)} */
+	private static final int BOUND_BITS = 32;
+
+	private static final RationalNumber TWO_THIRDS = RationalNumber.of(2, 3);
+
+	private static final RationalNumber FOUR_THIRDS = RationalNumber.of(4, 3);
+
+	/** Upper bound of the error of the constants e and ln(2) if no {@link #getTOLERANCE() tolerance} is specified: 10^-200 */
+	private static final RationalNumber CONSTANT_TOLERANCE = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(200));
+
+	/** Policy used for normalizing the intermediate results of the Taylor series */
 	@FunctionProperty
-	private RationalNumber eulersNumber;
+	private final NormalizationPolicy NORMALIZATIONPOLICY = NormalizationPolicy.EAGER;
+
+	/** Bit length above which intermediate results are normalized if the {@link #NORMALIZATIONPOLICY} is {@link NormalizationPolicy#LAZY} */
+	@FunctionProperty
+	private final Integer NORMALIZATIONTHRESHOLD = 512;
+
+	/**
+	 * Number of decimal digits after the decimal point to which the terms and partial sums of the Taylor series are approximated (see:
+	 * {@link RationalNumber#approximate(int)}). The error introduced is at most the number of terms times 10^-INTERMEDIATEPRECISION. Null if the series is
+	 * calculated exactly
+	 */
+	@FunctionProperty(nullable = true)
+	private final Integer INTERMEDIATEPRECISION = null;
 
 	/** Spring instantiated bean */
 	public LogarithmicFunctionsImpl() {
@@ -32,55 +59,239 @@ public class LogarithmicFunctionsImpl extends LogarithmicFunctions<RationalNumbe
 		setFunctionProperties(baseObject);
 	}
 
+	/** Returns e with an error smaller than the {@link #getTOLERANCE() tolerance}. See: {@link MathematicalConstants#getE(RationalNumber)} */
 	public RationalNumber getEulersNumber() {
-		return eulersNumber;
+		RationalNumber tolerance = getTolerance();
+
+		return MathematicalConstants.getE(tolerance == null ? CONSTANT_TOLERANCE : tolerance).getValue();
+	}
+
+	public NormalizationPolicy getNORMALIZATIONPOLICY() {
+		return NORMALIZATIONPOLICY;
+	}
+
+	public Integer getNORMALIZATIONTHRESHOLD() {
+		return NORMALIZATIONTHRESHOLD;
+	}
+
+	public Integer getINTERMEDIATEPRECISION() {
+		return INTERMEDIATEPRECISION;
+	}
+
+	/** Returns the number approximated to {@link #INTERMEDIATEPRECISION} decimal digits or the number itself if no precision is specified */
+	private RationalNumber approximate(RationalNumber number) {
+		return INTERMEDIATEPRECISION == null ? number : number.approximate(INTERMEDIATEPRECISION);
+	}
+
+	/** Approximates the accumulated value to {@link #INTERMEDIATEPRECISION} decimal digits if a precision is specified */
+	private void approximate(RationalAccumulator accumulator) {
+		if (INTERMEDIATEPRECISION != null) {
+			accumulator.approximate(INTERMEDIATEPRECISION);
+		}
+	}
+
+	/** Returns the {@link #getTOLERANCE() tolerance} as rational number or null if the number of terms is fixed */
+	private RationalNumber getTolerance() {
+		return getTOLERANCE() == null ? null : RationalNumber.valueOf(getTOLERANCE());
+	}
+
+	private static void checkTolerance(RationalNumber tolerance) {
+		if (tolerance == null || !tolerance.isPositive()) {
+			throw new IllegalArgumentException("\nThe tolerance should be a positive number");
+		}
+	}
+
+	/** Returns the error introduced by a single approximation to {@link #INTERMEDIATEPRECISION} decimal digits */
+	private RationalNumber getIntermediatePrecisionError() {
+		return INTERMEDIATEPRECISION == null ? RationalNumber.ZERO : new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(INTERMEDIATEPRECISION));
 	}
 
 	/**
-	 * this.getClass().getCanonicalName(), baseObject.toString()); setFunctionProperties(baseObject); }
-	 * 
-	 * /** exp(x) = 1 + x/1! + x^2/2! + x^3/3! + x^4/4! ... T(i) = x*T(i-1)/i T(0) = 1
+	 * exp(x) = 1 + x/1! + x^2/2! + x^3/3! + x^4/4! ... T(i) = x*T(i-1)/i T(0) = 1<br>
+	 * If a {@link #getTOLERANCE() tolerance} is specified the terms are summed until the remainder bound is smaller than the tolerance.
 	 */
 	@Override
 	@MathematicalFunction
 	public RationalNumber exp(RationalNumber number) {
-		BigInteger i = ONE;
-		RationalNumber sum = new RationalNumber(ONE);
-		RationalNumber t = new RationalNumber(ONE);
-		while (i.compareTo(getTAYLORNUMBER()) < 0) {
-			t = number.multiply(t).divide(i);
-			sum = sum.add(t);
-			sum = sum.getNormalizedRationalNumber();
-			i = i.add(ONE);
+		return expSeries(number, getTolerance()).getValue();
+	}
+
+	/**
+	 * Returns exp(x) summing the terms until the remainder bound is smaller than the tolerance. The error bound of the result also includes the error of the
+	 * {@link #INTERMEDIATEPRECISION}, so it only exceeds the tolerance if the tolerance is smaller than this error.
+	 */
+	public Approximation<RationalNumber> exp(RationalNumber number, RationalNumber tolerance) {
+		checkTolerance(tolerance);
+
+		return expSeries(number, tolerance);
+	}
+
+	/**
+	 * Sums {@link #TAYLORNUMBER} terms of the exponential series or, if a tolerance is specified, the terms until the remainder bound is smaller than the
+	 * tolerance. See: {@link #getExpRemainderBound(RationalNumber, RationalNumber, int)}<br>
+	 * The error of an approximated term T(i) is the error of T(i - 1) times |x|/i plus the error of the approximation itself.<br>
+	 * If the series is calculated exactly the partial sum is calculated using binary splitting. See: {@link #expSeriesBinarySplitting(RationalNumber, RationalNumber)}
+	 */
+	private Approximation<RationalNumber> expSeries(RationalNumber number, RationalNumber tolerance) {
+		if (INTERMEDIATEPRECISION == null) {
+			return expSeriesBinarySplitting(number, tolerance);
+		}
+
+		int n = 1;
+		RationalNumber t = RationalNumber.ONE;
+		RationalAccumulator sum = new RationalAccumulator(NORMALIZATIONPOLICY, NORMALIZATIONTHRESHOLD).add(t);
+		RationalNumber absX = number.abs();
+		RationalNumber delta = getIntermediatePrecisionError();
+		RationalNumber termError = RationalNumber.ZERO;
+		RationalNumber approximationError = delta;
+		int numberOfTerms = getTAYLORNUMBER().intValue();
+		while (tolerance == null ? n < numberOfTerms : getExpRemainderBound(t, absX, n).compareTo(tolerance) >= 0) {
+			t = approximate(number.multiply(t).divide(n));
+			sum.add(t);
+			approximate(sum);
+			termError = termError.multiply(absX).divide(n).add(delta).roundUp(BOUND_BITS);
+			approximationError = approximationError.add(termError).add(delta).roundUp(BOUND_BITS);
+			n++;
+		}
+
+		return new Approximation<>(approximate(sum.toRationalNumber()), getExpRemainderBound(t, absX, n).add(approximationError).roundUp(BOUND_BITS), n);
+	}
+
+	/**
+	 * Returns the exact partial sum Sum(x^k/k!) of the exponential series calculated using {@link BinarySplitting}. The number of terms is determined
+	 * beforehand from upper bounds of the terms, which are calculated with a few significant bits only.
+	 */
+	private Approximation<RationalNumber> expSeriesBinarySplitting(RationalNumber number, RationalNumber tolerance) {
+		int n = 1;
+		RationalNumber termBound = RationalNumber.ONE;
+		RationalNumber absX = number.abs();
+		RationalNumber absXBound = absX.roundUp(BOUND_BITS);
+		int numberOfTerms = getTAYLORNUMBER().intValue();
+		while (tolerance == null ? n < numberOfTerms : getExpRemainderBound(termBound, absX, n).compareTo(tolerance) >= 0) {
+			termBound = termBound.multiply(absXBound).divide(n).roundUp(BOUND_BITS);
+			n++;
 		}
-		return sum;
+
+		return new Approximation<>(BinarySplitting.sum(HypergeometricSeries.exponential(number), n), getExpRemainderBound(termBound, absX, n), n);
 	}
 
 	/**
-	 * ln(1 + x) = 0 + x - x^2/2 + x^3/3 - x^4/4 ...
+	 * Returns a bound of the remainder of the exponential series after n terms, given the last term t = T(n - 1).<br>
+	 * If n + 1 > |x| the absolute values of the remaining terms decrease geometrically with ratio |x|/(n + 1), so the remainder is at most |T(n)| * (n + 1)
+	 * / (n + 1 - |x|). Otherwise the remainder is at most |T(n)| * exp(|x|) <= |T(n)| * 3^(integer part(|x|) + 1).
+	 */
+	private static RationalNumber getExpRemainderBound(RationalNumber t, RationalNumber absX, int n) {
+		RationalNumber nextTerm = t.abs().roundUp(BOUND_BITS).multiply(absX).divide(n);
+		RationalNumber difference = RationalNumber.of(n + 1).subtract(absX);
+		if (difference.isPositive()) {
+			return nextTerm.multiply(n + 1).divide(difference).roundUp(BOUND_BITS);
+		}
+
+		return nextTerm.multiply(BigInteger.valueOf(3).pow(absX.getIntegerPartAsBigInteger().intValue() + 1)).roundUp(BOUND_BITS);
+	}
+
+	/**
+	 * ln(number) = ln(m * 2^k) = ln(m) + k * ln(2) with m in [2/3, 4/3] and k derived from the bit lengths of the numerator and denominator.<br>
+	 * ln(m) = 2 * atanh(y) = 2y * Sum(y^2j/(2j + 1)) with y = (m - 1)/(m + 1) and |y| <= 1/5, so every term adds more than a decimal digit.<br>
+	 * If a {@link #getTOLERANCE() tolerance} is specified the terms are summed until the error bound is smaller than the tolerance.
 	 */
 	@Override
 	@MathematicalFunction
 	public RationalNumber ln(RationalNumber number) {
-		RationalNumber x = number.subtract(1);
-		BigInteger i = ONE;
-		RationalNumber sum = x;
-		RationalNumber t = x;
-		boolean subtract = true;
-		while (i.compareTo(getTAYLORNUMBER()) < 0) {
-			i = i.add(ONE);
-			t = t.multiply(x);
-			RationalNumber augend = t.divide(i);
-			sum = subtract ? sum.subtract(augend) : sum.add(augend);
-			sum = sum.getNormalizedRationalNumber();
-			subtract = !subtract;
+		return lnApproximation(number, getTolerance()).getValue();
+	}
+
+	/**
+	 * Returns ln(number) summing the terms of the atanh series until the error bound is smaller than the tolerance. The error bound of the result also
+	 * includes the error of the {@link #INTERMEDIATEPRECISION}, so it only exceeds the tolerance if the tolerance is smaller than this error.
+	 */
+	public Approximation<RationalNumber> ln(RationalNumber number, RationalNumber tolerance) {
+		checkTolerance(tolerance);
+
+		return lnApproximation(number, tolerance);
+	}
+
+	/**
+	 * Returns ln(number) using {@link #TAYLORNUMBER} terms of the atanh series if the tolerance is null. See: {@link #ln(RationalNumber)}<br>
+	 * If a tolerance is specified ln(m) and k * ln(2) are calculated up to the half of the tolerance. Otherwise k * ln(2) is calculated up to the error bound
+	 * of ln(m). The cached value of ln(2) is retrieved using {@link MathematicalConstants#getLn2(RationalNumber)}.
+	 *
+	 * @throws ArithmeticException
+	 *             If the number is not positive
+	 */
+	private Approximation<RationalNumber> lnApproximation(RationalNumber number, RationalNumber tolerance) {
+		if (!number.isPositive()) {
+			throw new ArithmeticException(String.format("\nThe logarithm of %s is not defined. The number should be positive", number));
 		}
-		return sum;
+
+		// number / 2^k lies in (1/2, 2)
+		int k = number.getNumerator().bitLength() - number.getDenominator().bitLength();
+		RationalNumber m = number.divide(powerOfTwo(k));
+		if (m.compareTo(FOUR_THIRDS) > 0) {
+			k++;
+			m = m.divide(2);
+		} else if (m.compareTo(TWO_THIRDS) < 0) {
+			k--;
+			m = m.multiply(2);
+		}
+
+		int numberOfTerms = getTAYLORNUMBER().intValue();
+		RationalNumber lnTolerance = tolerance == null || k == 0 ? tolerance : tolerance.divide(2);
+		Approximation<RationalNumber> ln = twiceAtanh(m.subtract(1).divide(m.add(1)), lnTolerance, numberOfTerms);
+		if (k != 0) {
+			// Without tolerance ln(2) is calculated as accurate as ln(m), unless ln(m) is exact
+			RationalNumber ln2Tolerance = tolerance != null ? tolerance.divide(2L * Math.abs(k)) : ln.getErrorBound().isPositive() ? ln.getErrorBound().divide(
+					Math.abs(k)) : CONSTANT_TOLERANCE;
+			Approximation<RationalNumber> ln2 = MathematicalConstants.getLn2(ln2Tolerance);
+			ln = new Approximation<>(ln.getValue().add(ln2.getValue().multiply(k)), ln.getErrorBound().add(ln2.getErrorBound().multiply(Math.abs(k))),
+					ln.getNumberOfTerms());
+		}
+
+		if (INTERMEDIATEPRECISION == null) {
+			return ln;
+		}
+
+		return new Approximation<>(approximate(ln.getValue()), ln.getErrorBound().add(getIntermediatePrecisionError()).roundUp(BOUND_BITS), ln.getNumberOfTerms());
+	}
+
+	/** Returns 2^exponent */
+	private static RationalNumber powerOfTwo(int exponent) {
+		return exponent >= 0 ? new RationalNumber(BigInteger.ONE.shiftLeft(exponent)) : new RationalNumber(BigInteger.ONE, BigInteger.ONE.shiftLeft(-exponent));
+	}
+
+	/**
+	 * Returns 2 * atanh(y) = 2y * Sum(y^2j/(2j + 1)) calculated exactly using {@link BinarySplitting}. Precondition: |y| <= 1/3<br>
+	 * Sums the given number of terms or, if a tolerance is specified, the terms until the remainder bound is smaller than the tolerance. See:
+	 * {@link #getAtanhRemainderBound(RationalNumber, RationalNumber, int)}
+	 */
+	private static Approximation<RationalNumber> twiceAtanh(RationalNumber y, RationalNumber tolerance, int numberOfTerms) {
+		int n = 1;
+		RationalNumber absYBound = y.abs().roundUp(BOUND_BITS);
+		RationalNumber squareYBound = absYBound.pow(2).roundUp(BOUND_BITS);
+		// Upper bound of |y|^(2n + 1)
+		RationalNumber powerBound = absYBound.multiply(squareYBound).roundUp(BOUND_BITS);
+		while (tolerance == null ? n < numberOfTerms : getAtanhRemainderBound(powerBound, squareYBound, n).compareTo(tolerance) >= 0) {
+			powerBound = powerBound.multiply(squareYBound).roundUp(BOUND_BITS);
+			n++;
+		}
+
+		RationalNumber value = y.multiply(2).multiply(BinarySplitting.sum(HypergeometricSeries.inverseHyperbolicTangent(y), n));
+
+		return new Approximation<>(value, getAtanhRemainderBound(powerBound, squareYBound, n), n);
+	}
+
+	/**
+	 * Returns the bound 2|y|^(2n + 1) / ((2n + 1)(1 - y^2)) of the remainder of 2y * Sum(y^2j/(2j + 1)) after n terms, given upper bounds of |y|^(2n + 1)
+	 * and y^2. The remaining terms decrease geometrically with a ratio of at most y^2.
+	 */
+	private static RationalNumber getAtanhRemainderBound(RationalNumber powerBound, RationalNumber squareYBound, int n) {
+		return powerBound.multiply(2).divide(RationalNumber.ONE.subtract(squareYBound).multiply(2 * n + 1)).roundUp(BOUND_BITS);
 	}
 
 	@Override
 	public String toString() {
-		return "LogarithmicFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", eulersNumber=" + eulersNumber + "]";
+		return "LogarithmicFunctionsImpl [TAYLORNUMBER=" + getTAYLORNUMBER() + ", NORMALIZATIONPOLICY=" + NORMALIZATIONPOLICY
+				+ ", NORMALIZATIONTHRESHOLD=" + NORMALIZATIONTHRESHOLD + ", INTERMEDIATEPRECISION=" + INTERMEDIATEPRECISION + "]";
 	}
 
 }
@@ -4,6 +4,7 @@ import static java.math.BigInteger.ONE;
 import static java.math.BigInteger.ZERO;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
 
 import nl.smith.mathematics.constraint.annotation.AssertIsInteger;
@@ -11,8 +12,11 @@ import nl.smith.mathematics.constraint.annotation.AssertIsPositive;
 import nl.smith.mathematics.constraint.annotation.AssertIsSmaller;
 import nl.smith.mathematics.constraint.annotation.MethodConstraint;
 import nl.smith.mathematics.functions.SimpleArithmeticFunctions;
+import nl.smith.mathematics.functions.annotation.FunctionProperty;
 import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.RationalAccumulator;
 import nl.smith.mathematics.number.RationalNumber;
+import nl.smith.mathematics.number.RationalSummation;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +28,14 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Rat
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SimpleArithmeticFunctionsImpl.class);
 
+	/** Number of numbers above which a sum is calculated using binary splitting instead of from left to right */
+	@FunctionProperty
+	private final Integer BINARYSPLITTINGTHRESHOLD = 64;
+
+	/** Number of numbers above which the halves of a binary splitting sum are calculated in parallel */
+	@FunctionProperty
+	private final Integer PARALLELTHRESHOLD = 8192;
+
 	/** Spring instantiated bean */
 	public SimpleArithmeticFunctionsImpl() {
 		setFunctionProperties();
@@ -35,6 +47,14 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Rat
 		setFunctionProperties(baseObject);
 	}
 
+	public Integer getBINARYSPLITTINGTHRESHOLD() {
+		return BINARYSPLITTINGTHRESHOLD;
+	}
+
+	public Integer getPARALLELTHRESHOLD() {
+		return PARALLELTHRESHOLD;
+	}
+
 	@Override
 	@MathematicalFunction
 	public RationalNumber sum(RationalNumber... numbers) {
@@ -42,12 +62,7 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Rat
 			throw new IllegalArgumentException("No numbers specified");
 		}
 
-		RationalNumber sum = new RationalNumber(ZERO);
-		for (RationalNumber number : numbers) {
-			sum = sum.add(number);
-		}
-
-		return sum;
+		return sum(Arrays.asList(numbers));
 	}
 
 	@Override
@@ -57,12 +72,16 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Rat
 			throw new IllegalArgumentException("No numbers specified");
 		}
 
-		RationalNumber sum = new RationalNumber(ZERO);
+		if (numbers.size() > BINARYSPLITTINGTHRESHOLD) {
+			return RationalSummation.sum(numbers, RationalSummation.getForkJoinPool(), PARALLELTHRESHOLD);
+		}
+
+		RationalAccumulator sum = new RationalAccumulator();
 		for (RationalNumber number : numbers) {
-			sum = sum.add(number);
+			sum.add(number);
 		}
 
-		return sum;
+		return sum.toRationalNumber();
 	}
 
 	@Override
@@ -85,7 +104,7 @@ public class SimpleArithmeticFunctionsImpl extends SimpleArithmeticFunctions<Rat
 
 	@Override
 	public String toString() {
-		return "SimpleArithmeticFunctionsImpl []";
+		return "SimpleArithmeticFunctionsImpl [BINARYSPLITTINGTHRESHOLD=" + BINARYSPLITTINGTHRESHOLD + ", PARALLELTHRESHOLD=" + PARALLELTHRESHOLD + "]";
 	}
 
 }
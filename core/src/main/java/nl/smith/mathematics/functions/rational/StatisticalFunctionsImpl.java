@@ -1,12 +1,12 @@
 package nl.smith.mathematics.functions.rational;
 
-import static java.math.BigInteger.ZERO;
-
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 
 import nl.smith.mathematics.functions.StatisticalFunctions;
 import nl.smith.mathematics.functions.annotation.MathematicalFunction;
+import nl.smith.mathematics.number.RationalAccumulator;
 import nl.smith.mathematics.number.RationalNumber;
 
 import org.slf4j.Logger;
@@ -55,13 +55,23 @@ public class StatisticalFunctionsImpl extends StatisticalFunctions<RationalNumbe
 
 		RationalNumber average = average(numbers);
 
-		RationalNumber sum = new RationalNumber(ZERO);
+		if (numbers.length > simpleArithmeticFunctionsImpl.getBINARYSPLITTINGTHRESHOLD()) {
+			List<RationalNumber> squares = new ArrayList<>(numbers.length);
+			for (RationalNumber number : numbers) {
+				RationalNumber delta = number.subtract(average);
+				squares.add(delta.multiply(delta));
+			}
+
+			return simpleArithmeticFunctionsImpl.sum(squares).divide(BigInteger.valueOf(numbers.length));
+		}
+
+		RationalAccumulator sum = new RationalAccumulator();
 		for (RationalNumber number : numbers) {
 			RationalNumber delta = number.subtract(average);
-			sum = sum.add(delta.multiply(delta));
+			sum.addProduct(delta, delta);
 		}
 
-		return sum.divide(BigInteger.valueOf(numbers.length));
+		return sum.toRationalNumber().divide(BigInteger.valueOf(numbers.length));
 	}
 
 	@Override
@@ -0,0 +1,114 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Stateless utility class for writing and reading integers to and from a {@link ByteBuffer}.<br>
+ * <ul>
+ * <li>Small values are written as variable length integers: 7 bits per byte, least significant group first. The high bit of a byte is set if more bytes follow.
+ * Signed values are zigzag encoded first so small negative values are small as well</li>
+ * <li>Large values are written as a variable length byte count followed by the big-endian two's-complement bytes (see: {@link BigInteger#toByteArray()})</li>
+ * </ul>
+ * Malformed input results in an {@link IllegalArgumentException}. Reading beyond the limit of the buffer results in a {@link java.nio.BufferUnderflowException}.
+ *
+ * @author M. Smith
+ */
+final class BinaryCoding {
+
+	/** The maximum number of bytes of a variable length long */
+	private static final int MAXIMUM_VARIABLE_LENGTH = 10;
+
+	private BinaryCoding() {
+
+	}
+
+	static void putUnsignedVariableLength(ByteBuffer buffer, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		buffer.put((byte) value);
+	}
+
+	static long getUnsignedVariableLength(ByteBuffer buffer) {
+		long value = 0;
+		for (int i = 0; i < MAXIMUM_VARIABLE_LENGTH; i++) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << (7 * i);
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException(String.format("\nVariable length integer is longer than %d bytes", MAXIMUM_VARIABLE_LENGTH));
+	}
+
+	static int getUnsignedVariableLengthSize(long value) {
+		int size = 1;
+		while ((value & ~0x7FL) != 0) {
+			value >>>= 7;
+			size++;
+		}
+
+		return size;
+	}
+
+	static void putSignedVariableLength(ByteBuffer buffer, long value) {
+		putUnsignedVariableLength(buffer, zigZag(value));
+	}
+
+	static long getSignedVariableLength(ByteBuffer buffer) {
+		long zigZag = getUnsignedVariableLength(buffer);
+
+		return (zigZag >>> 1) ^ -(zigZag & 1);
+	}
+
+	static int getSignedVariableLengthSize(long value) {
+		return getUnsignedVariableLengthSize(zigZag(value));
+	}
+
+	static void putBigInteger(ByteBuffer buffer, BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		putUnsignedVariableLength(buffer, bytes.length);
+		buffer.put(bytes);
+	}
+
+	static BigInteger getBigInteger(ByteBuffer buffer) {
+		int length = getLength(buffer);
+		if (length == 0) {
+			throw new IllegalArgumentException("\nBig integer without bytes");
+		}
+
+		if (length > buffer.remaining()) {
+			throw new IllegalArgumentException(String.format("\nThe length %d of the binary encoded big integer exceeds the remaining %d bytes", length,
+					buffer.remaining()));
+		}
+
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+
+		return new BigInteger(bytes);
+	}
+
+	static int getBigIntegerSize(BigInteger value) {
+		int length = value.bitLength() / 8 + 1;
+
+		return getUnsignedVariableLengthSize(length) + length;
+	}
+
+	/** Reads a non negative length which fits in an int */
+	static int getLength(ByteBuffer buffer) {
+		long length = getUnsignedVariableLength(buffer);
+		if (length < 0 || length > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(String.format("\nIllegal length %d", length));
+		}
+
+		return (int) length;
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+}
@@ -0,0 +1,162 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the digits after the decimal point of the division remainder/denominator.<br>
+ * Digits are calculated on demand using long division, so only the digits which are requested are calculated.<br>
+ * If the division results in a finite number of digits {@link #hasNext()} returns false after the last digit. Otherwise the iterator never ends.<br>
+ * <br>
+ * The length of the non repeating and the repeating block of digits are calculated without storing intermediate remainders:
+ * <ul>
+ * <li>The length of the non repeating block is the largest multiplicity of the factors 2 and 5 in the normalized denominator</li>
+ * <li>The length of the repeating block is the multiplicative order of 10 modulo the normalized denominator without the factors 2 and 5</li>
+ * </ul>
+ *
+ * @author M. Smith
+ */
+public class DecimalDigitIterator implements Iterator<Character> {
+
+	private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+	/** Largest denominator for which the long division can be done using longs */
+	private static final long MAXIMUM_COMPACT_DENOMINATOR = Long.MAX_VALUE / 10;
+
+	private final BigInteger initialRemainder;
+
+	private final BigInteger denominator;
+
+	private final boolean compact;
+
+	private final long compactDenominator;
+
+	private long compactRemainder;
+
+	private BigInteger remainder;
+
+	private long nonRepeatingLength = -1;
+
+	private long repeatingLength = -1;
+
+	/**
+	 * @param remainder
+	 *            remainder element N+ or zero and smaller than the denominator
+	 * @param denominator
+	 *            denominator N+
+	 */
+	public DecimalDigitIterator(BigInteger remainder, BigInteger denominator) {
+		if (remainder == null || denominator == null) {
+			throw new IllegalArgumentException("Null arguments are not allowed");
+		}
+
+		if (denominator.signum() != 1 || remainder.signum() == -1 || remainder.compareTo(denominator) >= 0) {
+			throw new IllegalArgumentException(String.format("\nThe remainder %s should not be negative and smaller than the positive denominator %s", remainder, denominator));
+		}
+
+		this.initialRemainder = remainder;
+		this.denominator = denominator;
+		this.compact = denominator.bitLength() < Long.SIZE && denominator.longValue() <= MAXIMUM_COMPACT_DENOMINATOR;
+		this.compactDenominator = compact ? denominator.longValue() : 0;
+		this.compactRemainder = compact ? remainder.longValue() : 0;
+		this.remainder = compact ? null : remainder;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return compact ? compactRemainder != 0 : remainder.signum() != 0;
+	}
+
+	@Override
+	public Character next() {
+		return Character.forDigit(nextDigit(), 10);
+	}
+
+	/** Returns the next digit as an int */
+	public int nextDigit() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("The division has no more digits");
+		}
+
+		if (compact) {
+			long rest = compactRemainder * 10;
+			compactRemainder = rest % compactDenominator;
+
+			return (int) (rest / compactDenominator);
+		}
+
+		BigInteger[] divideAndRemainder = remainder.multiply(BigInteger.TEN).divideAndRemainder(denominator);
+		remainder = divideAndRemainder[1];
+
+		return divideAndRemainder[0].intValue();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Digits can not be removed");
+	}
+
+	/** Returns the number of digits before the repeating block of digits. Independent of the number of digits already iterated */
+	public long getNonRepeatingLength() {
+		if (nonRepeatingLength == -1) {
+			calculateLengths();
+		}
+
+		return nonRepeatingLength;
+	}
+
+	/** Returns the number of digits in the repeating block of digits or 0 if the division has a finite number of digits */
+	public long getRepeatingLength() {
+		if (repeatingLength == -1) {
+			calculateLengths();
+		}
+
+		return repeatingLength;
+	}
+
+	private void calculateLengths() {
+		if (initialRemainder.signum() == 0) {
+			nonRepeatingLength = 0;
+			repeatingLength = 0;
+			return;
+		}
+
+		BigInteger normalizedDenominator = denominator.divide(initialRemainder.gcd(denominator));
+
+		int powerOfTwo = normalizedDenominator.getLowestSetBit();
+		normalizedDenominator = normalizedDenominator.shiftRight(powerOfTwo);
+
+		int powerOfFive = 0;
+		BigInteger[] divideAndRemainder = normalizedDenominator.divideAndRemainder(FIVE);
+		while (divideAndRemainder[1].signum() == 0) {
+			powerOfFive++;
+			normalizedDenominator = divideAndRemainder[0];
+			divideAndRemainder = normalizedDenominator.divideAndRemainder(FIVE);
+		}
+
+		nonRepeatingLength = Math.max(powerOfTwo, powerOfFive);
+		repeatingLength = normalizedDenominator.equals(BigInteger.ONE) ? 0 : getMultiplicativeOrderOfTen(normalizedDenominator);
+	}
+
+	/** Returns the smallest k > 0 with 10^k = 1 (mod modulus). Precondition: modulus > 1 and not divisible by 2 or 5 */
+	private static long getMultiplicativeOrderOfTen(BigInteger modulus) {
+		long order = 1;
+		if (modulus.bitLength() < Long.SIZE && modulus.longValue() <= MAXIMUM_COMPACT_DENOMINATOR) {
+			long compactModulus = modulus.longValue();
+			long power = 10 % compactModulus;
+			while (power != 1) {
+				power = (power * 10) % compactModulus;
+				order++;
+			}
+		} else {
+			BigInteger power = BigInteger.TEN.mod(modulus);
+			while (!power.equals(BigInteger.ONE)) {
+				power = power.multiply(BigInteger.TEN).mod(modulus);
+				order++;
+			}
+		}
+
+		return order;
+	}
+}
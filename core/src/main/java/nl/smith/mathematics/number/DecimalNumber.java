@@ -2,18 +2,33 @@ package nl.smith.mathematics.number;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+
+import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+
+import org.apache.commons.lang.StringUtils;
 
 /**
  * Immutable class for storing numbers.
- * 
- * Decimal numbers contain one component of type {@link BigDecimal}.
- * 
+ *
+ * Decimal numbers contain one component of type {@link BigDecimal} and the {@link MathContext} (precision and rounding mode) used for arithmetic.<br>
+ * The result of an arithmetic operation is rounded according to the math context of this number (the left operand) and carries that math context. Numbers
+ * created without a math context use {@link #DEFAULT_MATH_CONTEXT}.<br>
+ * Divisions with a non terminating decimal expansion result in an {@link ArithmeticException} if the math context is {@link MathContext#UNLIMITED}.
+ *
  * @author M. Smith
  */
 public class DecimalNumber implements NumberOperations<DecimalNumber> {
 
+	/** The math context of numbers created without a math context: 34 digits, rounding half even */
+	public static final MathContext DEFAULT_MATH_CONTEXT = MathContext.DECIMAL128;
+
 	private final BigDecimal bigDecimal;
 
+	private final MathContext mathContext;
+
 	public DecimalNumber(long value) {
 		this(new BigDecimal(value));
 	}
@@ -31,11 +46,72 @@ public class DecimalNumber implements NumberOperations<DecimalNumber> {
 	}
 
 	public DecimalNumber(BigDecimal value) {
-		if (value == null) {
+		this(value, DEFAULT_MATH_CONTEXT);
+	}
+
+	/**
+	 * Creates a number parsed by the arithmetic expression factory. The number is converted from the exact rational number (see:
+	 * {@link RationalNumber#RationalNumber(Map)}) and rounded according to {@link #DEFAULT_MATH_CONTEXT}
+	 */
+	public DecimalNumber(Map<ArithmeticComponentName, String> numberElements) {
+		this(toBigDecimal(new RationalNumber(numberElements), DEFAULT_MATH_CONTEXT), DEFAULT_MATH_CONTEXT);
+	}
+
+	/**
+	 * @param value
+	 *            The value. Note: the value is not rounded
+	 * @param mathContext
+	 *            The math context used for arithmetic
+	 */
+	public DecimalNumber(BigDecimal value, MathContext mathContext) {
+		if (value == null || mathContext == null) {
 			throw new IllegalArgumentException("Null argument is not allowed");
 		}
 
 		bigDecimal = value;
+		this.mathContext = mathContext;
+	}
+
+	public static DecimalNumber valueOf(String numberAsString) {
+		if (StringUtils.isBlank(numberAsString)) {
+			throw new IllegalArgumentException("\nNull or blank numberAsString is not accepted");
+		}
+
+		return new DecimalNumber(numberAsString.trim());
+	}
+
+	/** Returns the rational number rounded according to the math context */
+	public static DecimalNumber valueOf(RationalNumber rationalNumber, MathContext mathContext) {
+		if (rationalNumber == null || mathContext == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		return new DecimalNumber(toBigDecimal(rationalNumber, mathContext), mathContext);
+	}
+
+	private static BigDecimal toBigDecimal(RationalNumber rationalNumber, MathContext mathContext) {
+		return new BigDecimal(rationalNumber.getNumerator()).divide(new BigDecimal(rationalNumber.getDenominator()), mathContext);
+	}
+
+	public BigDecimal getBigDecimal() {
+		return bigDecimal;
+	}
+
+	public MathContext getMathContext() {
+		return mathContext;
+	}
+
+	/** Returns this number rounded according to the specified math context. Arithmetic on the result uses the specified math context */
+	public DecimalNumber withMathContext(MathContext mathContext) {
+		if (mathContext == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		if (mathContext.equals(this.mathContext)) {
+			return this;
+		}
+
+		return new DecimalNumber(bigDecimal.round(mathContext), mathContext);
 	}
 
 	@Override
@@ -45,22 +121,22 @@ public class DecimalNumber implements NumberOperations<DecimalNumber> {
 
 	@Override
 	public boolean isNaturalNumber() {
-		return bigDecimal.stripTrailingZeros().scale() <= 0;
+		return bigDecimal.signum() == 0 || bigDecimal.stripTrailingZeros().scale() <= 0;
 	}
 
 	@Override
 	public boolean isPositive() {
-		return BigDecimal.ZERO.compareTo(bigDecimal) < 1;
+		return bigDecimal.signum() > 0;
 	}
 
 	@Override
 	public boolean isNegative() {
-		return BigDecimal.ZERO.compareTo(bigDecimal) == 1;
+		return bigDecimal.signum() < 0;
 	}
 
 	@Override
 	public DecimalNumber add(DecimalNumber augend) {
-		return new DecimalNumber(bigDecimal.add(augend.bigDecimal));
+		return newDecimalNumber(bigDecimal.add(augend.bigDecimal, mathContext));
 	}
 
 	@Override
@@ -80,7 +156,7 @@ public class DecimalNumber implements NumberOperations<DecimalNumber> {
 
 	@Override
 	public DecimalNumber subtract(DecimalNumber subtrahend) {
-		return new DecimalNumber(bigDecimal.subtract(subtrahend.bigDecimal));
+		return newDecimalNumber(bigDecimal.subtract(subtrahend.bigDecimal, mathContext));
 	}
 
 	@Override
@@ -100,7 +176,7 @@ public class DecimalNumber implements NumberOperations<DecimalNumber> {
 
 	@Override
 	public DecimalNumber multiply(DecimalNumber multiplicand) {
-		return new DecimalNumber(bigDecimal.multiply(multiplicand.bigDecimal));
+		return newDecimalNumber(bigDecimal.multiply(multiplicand.bigDecimal, mathContext));
 	}
 
 	@Override
@@ -120,46 +196,77 @@ public class DecimalNumber implements NumberOperations<DecimalNumber> {
 
 	@Override
 	public DecimalNumber divide(DecimalNumber divisor) {
-		return null;
+		return newDecimalNumber(bigDecimal.divide(divisor.bigDecimal, mathContext));
 	}
 
 	@Override
 	public DecimalNumber divide(BigInteger divisor) {
-		// TODO Auto-generated method stub
-		return null;
+		return divide(new DecimalNumber(divisor));
 	}
 
 	@Override
 	public DecimalNumber divide(long divisor) {
-		// TODO Auto-generated method stub
-		return null;
+		return divide(new DecimalNumber(divisor));
 	}
 
 	@Override
 	public DecimalNumber divide(double divisor) {
-		// TODO Auto-generated method stub
-		return null;
+		return divide(new DecimalNumber(divisor));
 	}
 
 	@Override
 	public DecimalNumber abs() {
-		return new DecimalNumber(bigDecimal.abs());
+		return newDecimalNumber(bigDecimal.abs());
 	}
 
 	@Override
 	public DecimalNumber getReciprocalValue() {
-		// TODO Auto-generated method stub
-		return null;
+		return newDecimalNumber(BigDecimal.ONE.divide(bigDecimal, mathContext));
+	}
+
+	@Override
+	public DecimalNumber pow(int exponent) {
+		if (exponent < 0) {
+			return getReciprocalValue().pow(BigInteger.valueOf(exponent).negate());
+		}
+
+		return newDecimalNumber(bigDecimal.pow(exponent, mathContext));
+	}
+
+	/** Exponents which do not fit in an int are only accepted for the numbers -1, 0 and 1 */
+	@Override
+	public DecimalNumber pow(BigInteger exponent) {
+		if (exponent == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		if (exponent.bitLength() < Integer.SIZE) {
+			return pow(exponent.intValue());
+		}
+
+		if (exponent.signum() < 0) {
+			return getReciprocalValue().pow(exponent.negate());
+		}
+
+		if (bigDecimal.signum() == 0) {
+			return this;
+		}
+
+		if (bigDecimal.abs().compareTo(BigDecimal.ONE) == 0) {
+			return newDecimalNumber(bigDecimal.signum() < 0 && exponent.testBit(0) ? BigDecimal.ONE.negate() : BigDecimal.ONE);
+		}
+
+		throw new ArithmeticException(String.format("\nThe exponent %s is too large", exponent));
 	}
 
 	@Override
 	public DecimalNumber getIntegerPart() {
-		return new DecimalNumber(bigDecimal.toBigInteger());
+		return newDecimalNumber(new BigDecimal(bigDecimal.toBigInteger()));
 	}
 
 	@Override
 	public DecimalNumber getFractionalPart() {
-		return subtract(getIntegerPart());
+		return newDecimalNumber(bigDecimal.subtract(new BigDecimal(bigDecimal.toBigInteger())));
 	}
 
 	@Override
@@ -169,7 +276,7 @@ public class DecimalNumber implements NumberOperations<DecimalNumber> {
 
 	@Override
 	public DecimalNumber negate() {
-		return new DecimalNumber(bigDecimal.negate());
+		return newDecimalNumber(bigDecimal.negate());
 	}
 
 	@Override
@@ -179,14 +286,73 @@ public class DecimalNumber implements NumberOperations<DecimalNumber> {
 
 	@Override
 	public String toString(int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
-		// TODO Auto-generated method stub
-		return null;
+		StringBuffer resultBuffer = new StringBuffer();
+
+		DecimalNumber delta = toStringGetDelta(resultBuffer, numberOfDigitsAfterDecimalPoint, showDelta);
+
+		if (showDelta) {
+			if (delta.bigDecimal.signum() != 0) {
+				resultBuffer.append("\n+Delta:\n").append(delta);
+			}
+		}
+
+		return resultBuffer.toString();
 	}
 
+	/**
+	 * Appends this number with the specified number of digits after the decimal point to the buffer.<br>
+	 * If the delta is shown the digits are truncated and the (exact) difference between this number and the appended number is returned. Otherwise the last
+	 * digit is rounded half up and null is returned.
+	 */
 	@Override
 	public DecimalNumber toStringGetDelta(StringBuffer resultBuffer, int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
-		// TODO Auto-generated method stub
+		if (resultBuffer == null) {
+			throw new IllegalArgumentException("A string buffer has to be specified");
+		}
+
+		if (numberOfDigitsAfterDecimalPoint < 0) {
+			throw new IllegalArgumentException(String.format("The specified number of digits after the decimal point is negative.", numberOfDigitsAfterDecimalPoint));
+		}
+
+		BigDecimal truncatedAbsoluteValue = bigDecimal.abs().setScale(numberOfDigitsAfterDecimalPoint, showDelta ? RoundingMode.DOWN : RoundingMode.HALF_UP);
+		if (isNegative()) {
+			resultBuffer.append("-");
+		}
+		resultBuffer.append(truncatedAbsoluteValue.toPlainString());
+
+		if (showDelta) {
+			return newDecimalNumber(bigDecimal.subtract(isNegative() ? truncatedAbsoluteValue.negate() : truncatedAbsoluteValue));
+		}
+
 		return null;
 	}
 
+	@Override
+	public String toString() {
+		return bigDecimal.toString();
+	}
+
+	/** Numbers are equal if their values are numerically equal (2.0 equals 2.00). The math context is not compared */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+
+		return bigDecimal.compareTo(((DecimalNumber) obj).bigDecimal) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return bigDecimal.signum() == 0 ? 0 : bigDecimal.stripTrailingZeros().hashCode();
+	}
+
+	/** Returns a number with the specified value and the math context of this number */
+	private DecimalNumber newDecimalNumber(BigDecimal value) {
+		return new DecimalNumber(value, mathContext);
+	}
 }
@@ -0,0 +1,474 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+
+import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Immutable class for storing numbers.
+ *
+ * Double-double numbers contain two components of type double: the value is the unevaluated sum hi + lo with |lo| <= ulp(hi) / 2. This gives a significand of
+ * 106 bits (about 32 decimal digits) with the exponent range of a double.<br>
+ * Arithmetic uses error free transformations of doubles: the rounding error of a sum is calculated using TwoSum and the rounding error of a product using
+ * Dekker's splitting (TwoProd). Results are accurate up to a few units in the last (106th) bit.<br>
+ * Like double arithmetic, division by zero results in an infinite value or NaN instead of an exception.
+ *
+ * @author M. Smith
+ */
+public class DoubleDoubleNumber implements NumberOperations<DoubleDoubleNumber> {
+
+	public static final DoubleDoubleNumber ZERO = new DoubleDoubleNumber(0);
+
+	public static final DoubleDoubleNumber ONE = new DoubleDoubleNumber(1);
+
+	/** The relative precision of a double-double number: 2^-104 */
+	public static final double EPSILON = 4.93038065763132e-32;
+
+	/** Number of significant decimal digits shown by {@link #toString()} */
+	private static final MathContext DECIMAL_DIGITS = new MathContext(32, RoundingMode.HALF_EVEN);
+
+	/** 2^27 + 1. Multiplying a double by this number splits its 53 bit significand in two halves of 26 bits (Dekker's splitting) */
+	private static final double SPLITTER = 134217729.0;
+
+	/** 2^996. Doubles larger than this value are scaled before splitting to prevent overflow */
+	private static final double SPLIT_THRESHOLD = 6.69692879491417e+299;
+
+	private final double hi;
+
+	private final double lo;
+
+	public DoubleDoubleNumber(double value) {
+		this(value, 0);
+	}
+
+	/** The value is split in its high and low 32 bits, which are both exact doubles */
+	public DoubleDoubleNumber(long value) {
+		this((double) (value >> 32 << 32), (double) (value - (value >> 32 << 32)));
+	}
+
+	public DoubleDoubleNumber(BigDecimal value) {
+		this(value.doubleValue(), value.subtract(new BigDecimal(value.doubleValue())).doubleValue());
+	}
+
+	public DoubleDoubleNumber(BigInteger value) {
+		this(new BigDecimal(value));
+	}
+
+	/** Creates a number parsed by the arithmetic expression factory. The number is the double-double closest to the exact rational number */
+	public DoubleDoubleNumber(Map<ArithmeticComponentName, String> numberElements) {
+		this(new RationalNumber(numberElements));
+	}
+
+	/** Creates the double-double closest to the rational number */
+	public DoubleDoubleNumber(RationalNumber value) {
+		this(value.doubleValue(), value.subtract(RationalNumber.valueOf(value.doubleValue())).doubleValue());
+	}
+
+	/** Creates the number hi + lo. The components are normalized, so lo does not have to be smaller than ulp(hi) */
+	public DoubleDoubleNumber(double hi, double lo) {
+		double s = hi + lo;
+		this.hi = s;
+		this.lo = Double.isInfinite(s) || Double.isNaN(s) ? 0 : twoSumError(hi, lo, s);
+	}
+
+	public static DoubleDoubleNumber valueOf(String numberAsString) {
+		if (StringUtils.isBlank(numberAsString)) {
+			throw new IllegalArgumentException("\nNull or blank numberAsString is not accepted");
+		}
+
+		return new DoubleDoubleNumber(new BigDecimal(numberAsString.trim()));
+	}
+
+	/** Returns the sum of the numbers. Intermediate sums are held in local doubles, so no intermediate numbers are created */
+	public static DoubleDoubleNumber sum(Iterable<DoubleDoubleNumber> numbers) {
+		if (numbers == null) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		double hi = 0;
+		double lo = 0;
+		for (DoubleDoubleNumber number : numbers) {
+			double s = hi + number.hi;
+			double e = twoSumError(hi, number.hi, s);
+			double t = lo + number.lo;
+			double f = twoSumError(lo, number.lo, t);
+			e += t;
+			hi = s + e;
+			e = e - (hi - s);
+			e += f;
+			s = hi + e;
+			lo = e - (s - hi);
+			hi = s;
+		}
+
+		return new DoubleDoubleNumber(hi, lo);
+	}
+
+	/** Returns the high order component: the double closest to this number */
+	public double doubleValue() {
+		return hi;
+	}
+
+	/** Returns the low order component: the difference between this number and {@link #doubleValue()} */
+	public double getLowOrderComponent() {
+		return lo;
+	}
+
+	/** Returns the exact value of this number. Throws a {@link NumberFormatException} if this number is infinite or NaN */
+	public BigDecimal toBigDecimal() {
+		return new BigDecimal(hi).add(new BigDecimal(lo));
+	}
+
+	/** Returns this number * 2^exponent. The result is exact unless it underflows or overflows */
+	public DoubleDoubleNumber scalb(int exponent) {
+		return new DoubleDoubleNumber(Math.scalb(hi, exponent), Math.scalb(lo, exponent));
+	}
+
+	@Override
+	public int compareTo(DoubleDoubleNumber o) {
+		int compareTo = Double.compare(hi, o.hi);
+
+		return compareTo == 0 ? Double.compare(lo, o.lo) : compareTo;
+	}
+
+	@Override
+	public boolean isNaturalNumber() {
+		return !Double.isInfinite(hi) && hi == Math.rint(hi) && lo == Math.rint(lo);
+	}
+
+	@Override
+	public boolean isPositive() {
+		return hi > 0;
+	}
+
+	@Override
+	public boolean isNegative() {
+		return hi < 0;
+	}
+
+	@Override
+	public DoubleDoubleNumber add(DoubleDoubleNumber augend) {
+		return add(augend.hi, augend.lo);
+	}
+
+	@Override
+	public DoubleDoubleNumber add(BigInteger augend) {
+		return add(new DoubleDoubleNumber(augend));
+	}
+
+	@Override
+	public DoubleDoubleNumber add(long augend) {
+		return add(new DoubleDoubleNumber(augend));
+	}
+
+	@Override
+	public DoubleDoubleNumber add(double augend) {
+		double s = hi + augend;
+		double e = twoSumError(hi, augend, s);
+
+		return new DoubleDoubleNumber(s, e + lo);
+	}
+
+	@Override
+	public DoubleDoubleNumber subtract(DoubleDoubleNumber subtrahend) {
+		return add(-subtrahend.hi, -subtrahend.lo);
+	}
+
+	@Override
+	public DoubleDoubleNumber subtract(BigInteger subtrahend) {
+		return add(new DoubleDoubleNumber(subtrahend).negate());
+	}
+
+	@Override
+	public DoubleDoubleNumber subtract(long subtrahend) {
+		return add(new DoubleDoubleNumber(subtrahend).negate());
+	}
+
+	@Override
+	public DoubleDoubleNumber subtract(double subtrahend) {
+		return add(-subtrahend);
+	}
+
+	@Override
+	public DoubleDoubleNumber multiply(DoubleDoubleNumber multiplicand) {
+		double p = hi * multiplicand.hi;
+		double e = twoProductError(hi, multiplicand.hi, p);
+		e += hi * multiplicand.lo + lo * multiplicand.hi;
+
+		return new DoubleDoubleNumber(p, e);
+	}
+
+	@Override
+	public DoubleDoubleNumber multiply(BigInteger multiplicand) {
+		return multiply(new DoubleDoubleNumber(multiplicand));
+	}
+
+	@Override
+	public DoubleDoubleNumber multiply(long multiplicand) {
+		return multiply(new DoubleDoubleNumber(multiplicand));
+	}
+
+	@Override
+	public DoubleDoubleNumber multiply(double multiplicand) {
+		double p = hi * multiplicand;
+		double e = twoProductError(hi, multiplicand, p);
+
+		return new DoubleDoubleNumber(p, e + lo * multiplicand);
+	}
+
+	/** Long division: three quotient digits of 53 bits are calculated, each using the remainder of the previous digit */
+	@Override
+	public DoubleDoubleNumber divide(DoubleDoubleNumber divisor) {
+		double q1 = hi / divisor.hi;
+		if (Double.isInfinite(q1) || Double.isNaN(q1)) {
+			return new DoubleDoubleNumber(q1);
+		}
+
+		DoubleDoubleNumber r = subtract(divisor.multiply(q1));
+		double q2 = r.hi / divisor.hi;
+		r = r.subtract(divisor.multiply(q2));
+		double q3 = r.hi / divisor.hi;
+
+		return new DoubleDoubleNumber(q1, q2).add(q3);
+	}
+
+	@Override
+	public DoubleDoubleNumber divide(BigInteger divisor) {
+		return divide(new DoubleDoubleNumber(divisor));
+	}
+
+	@Override
+	public DoubleDoubleNumber divide(long divisor) {
+		return divide(new DoubleDoubleNumber(divisor));
+	}
+
+	@Override
+	public DoubleDoubleNumber divide(double divisor) {
+		return divide(new DoubleDoubleNumber(divisor));
+	}
+
+	@Override
+	public DoubleDoubleNumber abs() {
+		return hi < 0 ? negate() : this;
+	}
+
+	@Override
+	public DoubleDoubleNumber getReciprocalValue() {
+		return ONE.divide(this);
+	}
+
+	/** Returns this^exponent using repeated squaring. A negative exponent raises the reciprocal value */
+	@Override
+	public DoubleDoubleNumber pow(int exponent) {
+		if (exponent < 0) {
+			return getReciprocalValue().pow(BigInteger.valueOf(exponent).negate());
+		}
+
+		DoubleDoubleNumber power = ONE;
+		DoubleDoubleNumber base = this;
+		while (exponent != 0) {
+			if ((exponent & 1) != 0) {
+				power = power.multiply(base);
+			}
+
+			exponent >>>= 1;
+			if (exponent != 0) {
+				base = base.multiply(base);
+			}
+		}
+
+		return power;
+	}
+
+	@Override
+	public DoubleDoubleNumber pow(BigInteger exponent) {
+		if (exponent == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		if (exponent.bitLength() < Integer.SIZE) {
+			return pow(exponent.intValue());
+		}
+
+		if (exponent.signum() < 0) {
+			return getReciprocalValue().pow(exponent.negate());
+		}
+
+		// Large exponents are not exact doubles, so the sign of the power is determined by the parity of the exponent itself
+		double power = Math.pow(Math.abs(hi), exponent.doubleValue());
+
+		return new DoubleDoubleNumber(hi < 0 && exponent.testBit(0) ? -power : power);
+	}
+
+	@Override
+	public DoubleDoubleNumber getIntegerPart() {
+		return hi < 0 ? negate().floor().negate() : floor();
+	}
+
+	@Override
+	public DoubleDoubleNumber getFractionalPart() {
+		return subtract(getIntegerPart());
+	}
+
+	/** Throws a {@link NumberFormatException} if this number is infinite or NaN */
+	@Override
+	public BigInteger getIntegerPartAsBigInteger() {
+		return toBigDecimal().toBigInteger();
+	}
+
+	@Override
+	public DoubleDoubleNumber negate() {
+		return new DoubleDoubleNumber(-hi, -lo);
+	}
+
+	@Override
+	public String toStringExact() {
+		if (Double.isNaN(hi) || Double.isInfinite(hi)) {
+			return Double.toString(hi);
+		}
+
+		return toBigDecimal().toPlainString();
+	}
+
+	@Override
+	public String toString(int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		StringBuffer resultBuffer = new StringBuffer();
+
+		DoubleDoubleNumber delta = toStringGetDelta(resultBuffer, numberOfDigitsAfterDecimalPoint, showDelta);
+
+		if (showDelta) {
+			if (delta.hi != 0) {
+				resultBuffer.append("\n+Delta:\n").append(delta);
+			}
+		}
+
+		return resultBuffer.toString();
+	}
+
+	/**
+	 * Appends this number with the specified number of digits after the decimal point to the buffer.<br>
+	 * If the delta is shown the digits are truncated and the difference between this number and the appended number is returned. Otherwise the last digit is
+	 * rounded half up and null is returned.
+	 */
+	@Override
+	public DoubleDoubleNumber toStringGetDelta(StringBuffer resultBuffer, int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		if (resultBuffer == null) {
+			throw new IllegalArgumentException("A string buffer has to be specified");
+		}
+
+		if (numberOfDigitsAfterDecimalPoint < 0) {
+			throw new IllegalArgumentException(String.format("The specified number of digits after the decimal point is negative.", numberOfDigitsAfterDecimalPoint));
+		}
+
+		BigDecimal exactValue = toBigDecimal();
+		BigDecimal truncatedAbsoluteValue = exactValue.abs().setScale(numberOfDigitsAfterDecimalPoint, showDelta ? RoundingMode.DOWN : RoundingMode.HALF_UP);
+		if (isNegative()) {
+			resultBuffer.append("-");
+		}
+		resultBuffer.append(truncatedAbsoluteValue.toPlainString());
+
+		if (showDelta) {
+			return new DoubleDoubleNumber(exactValue.subtract(isNegative() ? truncatedAbsoluteValue.negate() : truncatedAbsoluteValue));
+		}
+
+		return null;
+	}
+
+	/** Returns this number rounded to 32 significant digits. Trailing zeros are not shown */
+	@Override
+	public String toString() {
+		if (Double.isNaN(hi) || Double.isInfinite(hi)) {
+			return Double.toString(hi);
+		}
+
+		if (hi == 0) {
+			return "0";
+		}
+
+		return toBigDecimal().round(DECIMAL_DIGITS).stripTrailingZeros().toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+
+		DoubleDoubleNumber other = (DoubleDoubleNumber) obj;
+
+		return Double.compare(hi, other.hi) == 0 && Double.compare(lo, other.lo) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		long bits = 31 * Double.doubleToLongBits(hi) + Double.doubleToLongBits(lo);
+
+		return (int) (bits ^ (bits >>> 32));
+	}
+
+	/** Returns this + (augendHi + augendLo). Both the high and the low components are added using TwoSum */
+	private DoubleDoubleNumber add(double augendHi, double augendLo) {
+		double s = hi + augendHi;
+		double e = twoSumError(hi, augendHi, s);
+		double t = lo + augendLo;
+		double f = twoSumError(lo, augendLo, t);
+		e += t;
+		double h = s + e;
+		e = e - (h - s);
+		e += f;
+
+		return new DoubleDoubleNumber(h, e);
+	}
+
+	/** Returns the largest integer not larger than this number */
+	private DoubleDoubleNumber floor() {
+		double floorHi = Math.floor(hi);
+
+		return floorHi == hi ? new DoubleDoubleNumber(floorHi, Math.floor(lo)) : new DoubleDoubleNumber(floorHi);
+	}
+
+	/** TwoSum: returns the rounding error of the floating point sum s = a + b, so a + b = s + error exactly */
+	private static double twoSumError(double a, double b, double s) {
+		double bb = s - a;
+
+		return (a - (s - bb)) + (b - bb);
+	}
+
+	/**
+	 * TwoProd: returns the rounding error of the floating point product p = a * b, so a * b = p + error exactly.<br>
+	 * Both factors are split in a high and a low half of at most 26 significant bits, so the partial products are exact doubles.
+	 */
+	private static double twoProductError(double a, double b, double p) {
+		if (Double.isInfinite(p) || Double.isNaN(p)) {
+			return 0;
+		}
+
+		// Scaling by a power of two does not change the relative error, but prevents overflow of SPLITTER * a
+		if (Math.abs(a) > SPLIT_THRESHOLD) {
+			return Math.scalb(twoProductError(Math.scalb(a, -28), b, Math.scalb(p, -28)), 28);
+		}
+
+		if (Math.abs(b) > SPLIT_THRESHOLD) {
+			return Math.scalb(twoProductError(a, Math.scalb(b, -28), Math.scalb(p, -28)), 28);
+		}
+
+		double t = SPLITTER * a;
+		double aHigh = t - (t - a);
+		double aLow = a - aHigh;
+		t = SPLITTER * b;
+		double bHigh = t - (t - b);
+		double bLow = b - bHigh;
+
+		return ((aHigh * bHigh - p) + aHigh * bLow + aLow * bHigh) + aLow * bLow;
+	}
+}
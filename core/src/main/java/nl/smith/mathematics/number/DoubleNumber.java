@@ -0,0 +1,279 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Map;
+
+import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Immutable class for storing numbers.
+ *
+ * Double numbers contain one component of type double. Arithmetic follows IEEE 754: results are rounded to the nearest double and division by zero results in
+ * an infinite value or NaN instead of an exception.
+ *
+ * @author M. Smith
+ */
+public class DoubleNumber implements NumberOperations<DoubleNumber> {
+
+	public static final DoubleNumber ZERO = new DoubleNumber(0);
+
+	public static final DoubleNumber ONE = new DoubleNumber(1);
+
+	private final double value;
+
+	public DoubleNumber(double value) {
+		this.value = value;
+	}
+
+	/** Creates a number parsed by the arithmetic expression factory. The number is the double closest to the exact rational number */
+	public DoubleNumber(Map<ArithmeticComponentName, String> numberElements) {
+		this(new RationalNumber(numberElements).doubleValue());
+	}
+
+	public static DoubleNumber valueOf(String numberAsString) {
+		if (StringUtils.isBlank(numberAsString)) {
+			throw new IllegalArgumentException("\nNull or blank numberAsString is not accepted");
+		}
+
+		return new DoubleNumber(Double.parseDouble(numberAsString.trim()));
+	}
+
+	public double doubleValue() {
+		return value;
+	}
+
+	@Override
+	public int compareTo(DoubleNumber o) {
+		return Double.compare(value, o.value);
+	}
+
+	@Override
+	public boolean isNaturalNumber() {
+		return !Double.isInfinite(value) && value == Math.rint(value);
+	}
+
+	@Override
+	public boolean isPositive() {
+		return value > 0;
+	}
+
+	@Override
+	public boolean isNegative() {
+		return value < 0;
+	}
+
+	@Override
+	public DoubleNumber add(DoubleNumber augend) {
+		return new DoubleNumber(value + augend.value);
+	}
+
+	@Override
+	public DoubleNumber add(BigInteger augend) {
+		return new DoubleNumber(value + augend.doubleValue());
+	}
+
+	@Override
+	public DoubleNumber add(long augend) {
+		return new DoubleNumber(value + augend);
+	}
+
+	@Override
+	public DoubleNumber add(double augend) {
+		return new DoubleNumber(value + augend);
+	}
+
+	@Override
+	public DoubleNumber subtract(DoubleNumber subtrahend) {
+		return new DoubleNumber(value - subtrahend.value);
+	}
+
+	@Override
+	public DoubleNumber subtract(BigInteger subtrahend) {
+		return new DoubleNumber(value - subtrahend.doubleValue());
+	}
+
+	@Override
+	public DoubleNumber subtract(long subtrahend) {
+		return new DoubleNumber(value - subtrahend);
+	}
+
+	@Override
+	public DoubleNumber subtract(double subtrahend) {
+		return new DoubleNumber(value - subtrahend);
+	}
+
+	@Override
+	public DoubleNumber multiply(DoubleNumber multiplicand) {
+		return new DoubleNumber(value * multiplicand.value);
+	}
+
+	@Override
+	public DoubleNumber multiply(BigInteger multiplicand) {
+		return new DoubleNumber(value * multiplicand.doubleValue());
+	}
+
+	@Override
+	public DoubleNumber multiply(long multiplicand) {
+		return new DoubleNumber(value * multiplicand);
+	}
+
+	@Override
+	public DoubleNumber multiply(double multiplicand) {
+		return new DoubleNumber(value * multiplicand);
+	}
+
+	@Override
+	public DoubleNumber divide(DoubleNumber divisor) {
+		return new DoubleNumber(value / divisor.value);
+	}
+
+	@Override
+	public DoubleNumber divide(BigInteger divisor) {
+		return new DoubleNumber(value / divisor.doubleValue());
+	}
+
+	@Override
+	public DoubleNumber divide(long divisor) {
+		return new DoubleNumber(value / divisor);
+	}
+
+	@Override
+	public DoubleNumber divide(double divisor) {
+		return new DoubleNumber(value / divisor);
+	}
+
+	@Override
+	public DoubleNumber abs() {
+		return new DoubleNumber(Math.abs(value));
+	}
+
+	@Override
+	public DoubleNumber getReciprocalValue() {
+		return new DoubleNumber(1 / value);
+	}
+
+	@Override
+	public DoubleNumber pow(int exponent) {
+		return new DoubleNumber(Math.pow(value, exponent));
+	}
+
+	@Override
+	public DoubleNumber pow(BigInteger exponent) {
+		if (exponent == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		if (exponent.bitLength() < Integer.SIZE) {
+			return pow(exponent.intValue());
+		}
+
+		// Large exponents are not exact doubles, so the sign of the power is determined by the parity of the exponent itself
+		double power = Math.pow(Math.abs(value), exponent.doubleValue());
+
+		return new DoubleNumber(value < 0 && exponent.testBit(0) ? -power : power);
+	}
+
+	@Override
+	public DoubleNumber getIntegerPart() {
+		return new DoubleNumber(value < 0 ? Math.ceil(value) : Math.floor(value));
+	}
+
+	@Override
+	public DoubleNumber getFractionalPart() {
+		return new DoubleNumber(value - getIntegerPart().value);
+	}
+
+	/** Throws a {@link NumberFormatException} if this number is infinite or NaN */
+	@Override
+	public BigInteger getIntegerPartAsBigInteger() {
+		return new BigDecimal(value).toBigInteger();
+	}
+
+	@Override
+	public DoubleNumber negate() {
+		return new DoubleNumber(-value);
+	}
+
+	/** Returns the exact decimal value of the double. Example: 0.1 is presented as 0.1000000000000000055511151231257827021181583404541015625 */
+	@Override
+	public String toStringExact() {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			return Double.toString(value);
+		}
+
+		return new BigDecimal(value).toPlainString();
+	}
+
+	@Override
+	public String toString(int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		StringBuffer resultBuffer = new StringBuffer();
+
+		DoubleNumber delta = toStringGetDelta(resultBuffer, numberOfDigitsAfterDecimalPoint, showDelta);
+
+		if (showDelta) {
+			if (delta.value != 0) {
+				resultBuffer.append("\n+Delta:\n").append(delta);
+			}
+		}
+
+		return resultBuffer.toString();
+	}
+
+	/**
+	 * Appends this number with the specified number of digits after the decimal point to the buffer.<br>
+	 * If the delta is shown the digits are truncated and the difference between this number and the appended number is returned. Otherwise the last digit is
+	 * rounded half up and null is returned.
+	 */
+	@Override
+	public DoubleNumber toStringGetDelta(StringBuffer resultBuffer, int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		if (resultBuffer == null) {
+			throw new IllegalArgumentException("A string buffer has to be specified");
+		}
+
+		if (numberOfDigitsAfterDecimalPoint < 0) {
+			throw new IllegalArgumentException(String.format("The specified number of digits after the decimal point is negative.", numberOfDigitsAfterDecimalPoint));
+		}
+
+		BigDecimal exactValue = new BigDecimal(value);
+		BigDecimal truncatedAbsoluteValue = exactValue.abs().setScale(numberOfDigitsAfterDecimalPoint, showDelta ? RoundingMode.DOWN : RoundingMode.HALF_UP);
+		if (isNegative()) {
+			resultBuffer.append("-");
+		}
+		resultBuffer.append(truncatedAbsoluteValue.toPlainString());
+
+		if (showDelta) {
+			return new DoubleNumber(exactValue.subtract(isNegative() ? truncatedAbsoluteValue.negate() : truncatedAbsoluteValue).doubleValue());
+		}
+
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return Double.toString(value);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+
+		return Double.compare(value, ((DoubleNumber) obj).value) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		long bits = Double.doubleToLongBits(value);
+
+		return (int) (bits ^ (bits >>> 32));
+	}
+}
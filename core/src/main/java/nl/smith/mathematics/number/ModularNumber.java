@@ -0,0 +1,413 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Immutable class for storing numbers.
+ *
+ * Modular numbers are residues modulo a prime (see: {@link Modulus}). The residue is held in Montgomery form in a single long, so arithmetic does not create
+ * any objects besides the result.<br>
+ * Division multiplies by the reciprocal value, which is calculated using Fermat's little theorem: x^-1 = x^(p-2) mod p. Division by zero results in an
+ * {@link ArithmeticException}.<br>
+ * Numbers created without a modulus use the default modulus: 2^61 - 1, unless another prime is specified with the system property
+ * {@link #MODULUS_PROPERTY_NAME}. Arithmetic on numbers with different moduli results in an {@link IllegalArgumentException}.<br>
+ * Rational numbers n/d are converted to n * d^-1 mod p. All residues are natural numbers 0 <= x < p, so no residue is negative.
+ *
+ * @author M. Smith
+ */
+public class ModularNumber implements NumberOperations<ModularNumber> {
+
+	/** Name of the system property to specify the default modulus. See: {@link #getDefaultModulus()} */
+	public static final String MODULUS_PROPERTY_NAME = "modularNumberModulus";
+
+	/** The default modulus unless another modulus is specified with the system property {@link #MODULUS_PROPERTY_NAME}: the Mersenne prime 2^61 - 1 */
+	public static final long DEFAULT_MODULUS_VALUE = (1L << 61) - 1;
+
+	/** Holder of the default modulus. The system property is read when the default modulus is used for the first time */
+	private static class DefaultModulus {
+		private static final Modulus MODULUS;
+
+		static {
+			long value = DEFAULT_MODULUS_VALUE;
+			String modulusPropertyValue = System.getProperty(MODULUS_PROPERTY_NAME);
+			if (modulusPropertyValue != null) {
+				try {
+					value = Long.parseLong(modulusPropertyValue.trim());
+				} catch (NumberFormatException e) {
+					throw new IllegalStateException(String.format("The value '%s' of the system property '%s' is not an integer", modulusPropertyValue,
+							MODULUS_PROPERTY_NAME), e);
+				}
+			}
+
+			MODULUS = new Modulus(value);
+		}
+	}
+
+	private final Modulus modulus;
+
+	/** The residue in Montgomery form */
+	private final long value;
+
+	public ModularNumber(long value) {
+		this(value, getDefaultModulus());
+	}
+
+	public ModularNumber(long value, Modulus modulus) {
+		this(checkModulus(modulus), modulus.toMontgomery(value));
+	}
+
+	public ModularNumber(BigInteger value) {
+		this(value, getDefaultModulus());
+	}
+
+	public ModularNumber(BigInteger value, Modulus modulus) {
+		this(checkModulus(modulus), modulus.toMontgomery(value));
+	}
+
+	/** Creates a number parsed by the arithmetic expression factory. The rational number n/d is converted to n * d^-1 modulo the default modulus */
+	public ModularNumber(Map<ArithmeticComponentName, String> numberElements) {
+		this(new RationalNumber(numberElements), getDefaultModulus());
+	}
+
+	/** Throws an {@link ArithmeticException} if the denominator of the rational number is a multiple of the modulus */
+	public ModularNumber(RationalNumber value, Modulus modulus) {
+		this(checkModulus(modulus), toMontgomery(value, modulus));
+	}
+
+	private ModularNumber(Modulus modulus, long value) {
+		this.modulus = modulus;
+		this.value = value;
+	}
+
+	/** Returns the default modulus. See: {@link #MODULUS_PROPERTY_NAME} */
+	public static Modulus getDefaultModulus() {
+		return DefaultModulus.MODULUS;
+	}
+
+	/** Accepts the strings accepted by {@link RationalNumber#valueOf(String)}. The number is converted modulo the default modulus */
+	public static ModularNumber valueOf(String numberAsString) {
+		if (StringUtils.isBlank(numberAsString)) {
+			throw new IllegalArgumentException("\nNull or blank numberAsString is not accepted");
+		}
+
+		return new ModularNumber(RationalNumber.valueOf(numberAsString.trim()), getDefaultModulus());
+	}
+
+	/** Returns the sum of the numbers. Intermediate sums are held in a local long, so no intermediate numbers are created */
+	public static ModularNumber sum(Iterable<ModularNumber> numbers) {
+		if (numbers == null) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+
+		Modulus modulus = null;
+		long sum = 0;
+		for (ModularNumber number : numbers) {
+			if (modulus == null) {
+				modulus = number.modulus;
+			} else {
+				checkSameModulus(modulus, number.modulus);
+			}
+
+			sum = modulus.add(sum, number.value);
+		}
+
+		return new ModularNumber(modulus == null ? getDefaultModulus() : modulus, sum);
+	}
+
+	public Modulus getModulus() {
+		return modulus;
+	}
+
+	/** Returns the residue: 0 <= residue < modulus */
+	public long getResidue() {
+		return modulus.fromMontgomery(value);
+	}
+
+	@Override
+	public int compareTo(ModularNumber o) {
+		checkSameModulus(modulus, o.modulus);
+
+		long residue = getResidue();
+		long otherResidue = o.getResidue();
+
+		return residue < otherResidue ? -1 : (residue == otherResidue ? 0 : 1);
+	}
+
+	/** Always true: residues are natural numbers */
+	@Override
+	public boolean isNaturalNumber() {
+		return true;
+	}
+
+	@Override
+	public boolean isPositive() {
+		return value != 0;
+	}
+
+	/** Always false: residues are not negative */
+	@Override
+	public boolean isNegative() {
+		return false;
+	}
+
+	@Override
+	public ModularNumber add(ModularNumber augend) {
+		checkSameModulus(modulus, augend.modulus);
+
+		return new ModularNumber(modulus, modulus.add(value, augend.value));
+	}
+
+	@Override
+	public ModularNumber add(BigInteger augend) {
+		return new ModularNumber(modulus, modulus.add(value, modulus.toMontgomery(augend)));
+	}
+
+	@Override
+	public ModularNumber add(long augend) {
+		return new ModularNumber(modulus, modulus.add(value, modulus.toMontgomery(augend)));
+	}
+
+	/** Throws an {@link ArithmeticException} if the double is not an integer */
+	@Override
+	public ModularNumber add(double augend) {
+		return add(toBigInteger(augend));
+	}
+
+	@Override
+	public ModularNumber subtract(ModularNumber subtrahend) {
+		checkSameModulus(modulus, subtrahend.modulus);
+
+		return new ModularNumber(modulus, modulus.subtract(value, subtrahend.value));
+	}
+
+	@Override
+	public ModularNumber subtract(BigInteger subtrahend) {
+		return new ModularNumber(modulus, modulus.subtract(value, modulus.toMontgomery(subtrahend)));
+	}
+
+	@Override
+	public ModularNumber subtract(long subtrahend) {
+		return new ModularNumber(modulus, modulus.subtract(value, modulus.toMontgomery(subtrahend)));
+	}
+
+	/** Throws an {@link ArithmeticException} if the double is not an integer */
+	@Override
+	public ModularNumber subtract(double subtrahend) {
+		return subtract(toBigInteger(subtrahend));
+	}
+
+	@Override
+	public ModularNumber multiply(ModularNumber multiplicand) {
+		checkSameModulus(modulus, multiplicand.modulus);
+
+		return new ModularNumber(modulus, modulus.multiply(value, multiplicand.value));
+	}
+
+	@Override
+	public ModularNumber multiply(BigInteger multiplicand) {
+		return new ModularNumber(modulus, modulus.multiply(value, modulus.toMontgomery(multiplicand)));
+	}
+
+	@Override
+	public ModularNumber multiply(long multiplicand) {
+		return new ModularNumber(modulus, modulus.multiply(value, modulus.toMontgomery(multiplicand)));
+	}
+
+	/** Throws an {@link ArithmeticException} if the double is not an integer */
+	@Override
+	public ModularNumber multiply(double multiplicand) {
+		return multiply(toBigInteger(multiplicand));
+	}
+
+	/** Throws an {@link ArithmeticException} if the divisor is zero */
+	@Override
+	public ModularNumber divide(ModularNumber divisor) {
+		checkSameModulus(modulus, divisor.modulus);
+
+		return new ModularNumber(modulus, modulus.multiply(value, reciprocal(divisor.value)));
+	}
+
+	/** Throws an {@link ArithmeticException} if the divisor is a multiple of the modulus */
+	@Override
+	public ModularNumber divide(BigInteger divisor) {
+		return new ModularNumber(modulus, modulus.multiply(value, reciprocal(modulus.toMontgomery(divisor))));
+	}
+
+	/** Throws an {@link ArithmeticException} if the divisor is a multiple of the modulus */
+	@Override
+	public ModularNumber divide(long divisor) {
+		return new ModularNumber(modulus, modulus.multiply(value, reciprocal(modulus.toMontgomery(divisor))));
+	}
+
+	/** Throws an {@link ArithmeticException} if the double is not an integer or a multiple of the modulus */
+	@Override
+	public ModularNumber divide(double divisor) {
+		return divide(toBigInteger(divisor));
+	}
+
+	/** Returns this number: residues are not negative */
+	@Override
+	public ModularNumber abs() {
+		return this;
+	}
+
+	/** Throws an {@link ArithmeticException} if this number is zero */
+	@Override
+	public ModularNumber getReciprocalValue() {
+		return new ModularNumber(modulus, reciprocal(value));
+	}
+
+	@Override
+	public ModularNumber pow(int exponent) {
+		if (exponent < 0) {
+			return getReciprocalValue().pow(-(long) exponent);
+		}
+
+		return pow((long) exponent);
+	}
+
+	@Override
+	public ModularNumber pow(BigInteger exponent) {
+		if (exponent == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		if (exponent.signum() < 0) {
+			return new ModularNumber(modulus, modulus.pow(reciprocal(value), exponent.negate()));
+		}
+
+		return new ModularNumber(modulus, modulus.pow(value, exponent));
+	}
+
+	/** Returns this number: residues are integers */
+	@Override
+	public ModularNumber getIntegerPart() {
+		return this;
+	}
+
+	/** Returns zero: residues are integers */
+	@Override
+	public ModularNumber getFractionalPart() {
+		return new ModularNumber(modulus, 0);
+	}
+
+	@Override
+	public BigInteger getIntegerPartAsBigInteger() {
+		return BigInteger.valueOf(getResidue());
+	}
+
+	@Override
+	public ModularNumber negate() {
+		return new ModularNumber(modulus, modulus.negate(value));
+	}
+
+	@Override
+	public String toStringExact() {
+		return String.valueOf(getResidue());
+	}
+
+	@Override
+	public String toString(int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		StringBuffer resultBuffer = new StringBuffer();
+
+		toStringGetDelta(resultBuffer, numberOfDigitsAfterDecimalPoint, showDelta);
+
+		return resultBuffer.toString();
+	}
+
+	/** Appends the residue with the specified number of (zero) digits after the decimal point to the buffer. The delta is always zero */
+	@Override
+	public ModularNumber toStringGetDelta(StringBuffer resultBuffer, int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		if (resultBuffer == null) {
+			throw new IllegalArgumentException("A string buffer has to be specified");
+		}
+
+		if (numberOfDigitsAfterDecimalPoint < 0) {
+			throw new IllegalArgumentException(String.format("The specified number of digits after the decimal point is negative.", numberOfDigitsAfterDecimalPoint));
+		}
+
+		resultBuffer.append(BigDecimal.valueOf(getResidue()).setScale(numberOfDigitsAfterDecimalPoint).toPlainString());
+
+		return showDelta ? new ModularNumber(modulus, 0) : null;
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(getResidue());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+
+		ModularNumber other = (ModularNumber) obj;
+
+		return value == other.value && modulus.equals(other.modulus);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * modulus.hashCode() + (int) (value ^ (value >>> 32));
+	}
+
+	/** Returns this^exponent. Precondition: exponent >= 0 */
+	private ModularNumber pow(long exponent) {
+		return new ModularNumber(modulus, modulus.pow(value, exponent));
+	}
+
+	/** Returns the reciprocal value of a number in Montgomery form */
+	private long reciprocal(long x) {
+		if (x == 0) {
+			throw new ArithmeticException(String.format("\nZero has no reciprocal value modulo %d", modulus.getValue()));
+		}
+
+		return modulus.reciprocal(x);
+	}
+
+	private static long toMontgomery(RationalNumber value, Modulus modulus) {
+		if (value == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		long denominator = modulus.toMontgomery(value.getDenominator());
+		if (denominator == 0) {
+			throw new ArithmeticException(String.format("\nThe denominator %s is a multiple of the modulus %d", value.getDenominator(), modulus.getValue()));
+		}
+
+		return modulus.multiply(modulus.toMontgomery(value.getNumerator()), modulus.reciprocal(denominator));
+	}
+
+	private static BigInteger toBigInteger(double value) {
+		if (Double.isInfinite(value) || Double.isNaN(value) || value != Math.rint(value)) {
+			throw new ArithmeticException(String.format("\nThe number %s is not an integer", value));
+		}
+
+		return new BigDecimal(value).toBigInteger();
+	}
+
+	private static Modulus checkModulus(Modulus modulus) {
+		if (modulus == null) {
+			throw new IllegalArgumentException("\nNo modulus specified");
+		}
+
+		return modulus;
+	}
+
+	private static void checkSameModulus(Modulus modulus, Modulus otherModulus) {
+		if (!modulus.equals(otherModulus)) {
+			throw new IllegalArgumentException(String.format("\nThe moduli %d and %d differ", modulus.getValue(), otherModulus.getValue()));
+		}
+	}
+}
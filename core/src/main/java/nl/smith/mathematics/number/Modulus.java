@@ -0,0 +1,183 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable prime modulus of {@link ModularNumber modular numbers}.<br>
+ * Residues are held in Montgomery form: the residue x is held as x * R mod m with R = 2^64. The product of two numbers in Montgomery form is reduced using
+ * Montgomery reduction (REDC), which only needs multiplications and shifts of longs instead of a division.<br>
+ * The modulus is an odd prime smaller than 2^62, so sums of two residues and intermediate results of the reduction fit in a (signed) long.
+ *
+ * @author M. Smith
+ */
+public class Modulus {
+
+	/** The largest allowed modulus (exclusive): 2^62 */
+	public static final long MAXIMUM_VALUE = 1L << 62;
+
+	private static final long LOW_BITS = 0xFFFFFFFFL;
+
+	private final long value;
+
+	/** -value^-1 mod 2^64 */
+	private final long negatedInverse;
+
+	/** R^2 mod value. Multiplying a residue by this number using {@link #multiply(long, long)} converts the residue to Montgomery form */
+	private final long rSquare;
+
+	/** R mod value: the number one in Montgomery form */
+	private final long one;
+
+	/**
+	 * @param value
+	 *            An odd prime larger than 2 and smaller than {@link #MAXIMUM_VALUE}
+	 */
+	public Modulus(long value) {
+		if (value < 3 || value >= MAXIMUM_VALUE || (value & 1) == 0 || !BigInteger.valueOf(value).isProbablePrime(100)) {
+			throw new IllegalArgumentException(String.format("\nThe modulus %d is not an odd prime smaller than 2^62", value));
+		}
+
+		this.value = value;
+
+		// Newton iteration x = x * (2 - value * x) doubles the number of correct low order bits. value * value = 1 mod 8 for odd values
+		long inverse = value;
+		for (int i = 0; i < 5; i++) {
+			inverse *= 2 - value * inverse;
+		}
+		negatedInverse = -inverse;
+
+		BigInteger bigValue = BigInteger.valueOf(value);
+		one = BigInteger.ONE.shiftLeft(Long.SIZE).mod(bigValue).longValue();
+		rSquare = BigInteger.ONE.shiftLeft(2 * Long.SIZE).mod(bigValue).longValue();
+	}
+
+	public long getValue() {
+		return value;
+	}
+
+	/** Returns the residue of the number in Montgomery form */
+	long toMontgomery(long number) {
+		long residue = number % value;
+
+		return multiply(residue < 0 ? residue + value : residue, rSquare);
+	}
+
+	/** Returns the residue of the number in Montgomery form */
+	long toMontgomery(BigInteger number) {
+		return multiply(number.mod(BigInteger.valueOf(value)).longValue(), rSquare);
+	}
+
+	/** Returns the residue (0 <= residue < modulus) of the number in Montgomery form */
+	long fromMontgomery(long x) {
+		return reduce(0, x);
+	}
+
+	/** Returns one in Montgomery form */
+	long one() {
+		return one;
+	}
+
+	long add(long x, long y) {
+		long sum = x + y;
+
+		return sum >= value ? sum - value : sum;
+	}
+
+	long subtract(long x, long y) {
+		long difference = x - y;
+
+		return difference < 0 ? difference + value : difference;
+	}
+
+	long negate(long x) {
+		return x == 0 ? 0 : value - x;
+	}
+
+	/** Returns the Montgomery product x * y * R^-1 mod value of numbers in Montgomery form */
+	long multiply(long x, long y) {
+		return reduce(multiplyHigh(x, y), x * y);
+	}
+
+	/** Returns x^exponent of a number in Montgomery form using repeated squaring. Precondition: exponent >= 0 */
+	long pow(long x, long exponent) {
+		long power = one;
+		long base = x;
+		while (exponent != 0) {
+			if ((exponent & 1) != 0) {
+				power = multiply(power, base);
+			}
+
+			exponent >>>= 1;
+			if (exponent != 0) {
+				base = multiply(base, base);
+			}
+		}
+
+		return power;
+	}
+
+	/** Returns x^exponent of a number in Montgomery form using repeated squaring. Precondition: exponent >= 0 */
+	long pow(long x, BigInteger exponent) {
+		long power = one;
+		for (int i = exponent.bitLength() - 1; i >= 0; i--) {
+			power = multiply(power, power);
+			if (exponent.testBit(i)) {
+				power = multiply(power, x);
+			}
+		}
+
+		return power;
+	}
+
+	/** Returns the reciprocal value x^(value - 2) of a number in Montgomery form (Fermat's little theorem). Precondition: x != 0 */
+	long reciprocal(long x) {
+		return pow(x, value - 2);
+	}
+
+	/**
+	 * Montgomery reduction (REDC): returns (high * 2^64 + low) * R^-1 mod value. Precondition: high < value.<br>
+	 * q = low * -value^-1 mod 2^64 is chosen so that low + q * value is a multiple of 2^64. The low order halves of the sum add up to zero or 2^64.
+	 */
+	private long reduce(long high, long low) {
+		long q = low * negatedInverse;
+		long result = high + multiplyHigh(q, value) + (low != 0 ? 1 : 0);
+
+		return result >= value ? result - value : result;
+	}
+
+	/** Returns the high order 64 bits of the unsigned 128 bit product of x and y */
+	private static long multiplyHigh(long x, long y) {
+		long x0 = x & LOW_BITS;
+		long x1 = x >>> 32;
+		long y0 = y & LOW_BITS;
+		long y1 = y >>> 32;
+
+		long t = x1 * y0 + ((x0 * y0) >>> 32);
+		long w1 = x0 * y1 + (t & LOW_BITS);
+
+		return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+
+		return value == ((Modulus) obj).value;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (value ^ (value >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		return "Modulus [value=" + value + "]";
+	}
+}
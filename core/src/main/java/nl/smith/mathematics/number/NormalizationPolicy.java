@@ -0,0 +1,39 @@
+package nl.smith.mathematics.number;
+
+/**
+ * Policies describing when the numerator and denominator of a {@link RationalNumber} are divided by their greatest common divisor.<br>
+ * Normalizing keeps the components small but every normalization costs a gcd calculation.<br>
+ * See: {@link RationalNumber#normalize(NormalizationPolicy, int)}
+ *
+ * @author M. Smith
+ */
+public enum NormalizationPolicy {
+
+	/** Always normalize */
+	EAGER,
+
+	/** Only normalize if the bit length of the numerator or denominator exceeds a threshold */
+	LAZY,
+
+	/** Never normalize. The caller normalizes explicitly using {@link RationalNumber#getNormalizedRationalNumber()} */
+	EXPLICIT;
+
+	/**
+	 * Method to check if a number with the specified bit length should be normalized
+	 *
+	 * @param bitLength
+	 *            The largest bit length of the numerator and denominator
+	 * @param bitLengthThreshold
+	 *            The bit length above which a number is normalized if the policy is {@link #LAZY}
+	 */
+	public boolean isNormalizationRequired(int bitLength, int bitLengthThreshold) {
+		switch (this) {
+		case EAGER:
+			return true;
+		case LAZY:
+			return bitLength > bitLengthThreshold;
+		default:
+			return false;
+		}
+	}
+}
@@ -52,6 +52,12 @@ public interface NumberOperations<T> extends Comparable<T> {
 
 	T getReciprocalValue();
 
+	/** Returns this^exponent. A negative exponent raises the reciprocal value */
+	T pow(int exponent);
+
+	/** Returns this^exponent. A negative exponent raises the reciprocal value */
+	T pow(BigInteger exponent);
+
 	T getIntegerPart();
 
 	T getFractionalPart();
@@ -0,0 +1,157 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Stateless utility class for multiplying large integers in parallel.<br>
+ * Operands of which both bit lengths are at least the threshold are split in a high and a low half (Karatsuba):<br>
+ * x * y = z2 * 2^2k + z1 * 2^k + z0 with z2 = x1 * y1, z0 = x0 * y0 and z1 = (x1 + x0) * (y1 + y0) - z2 - z0<br>
+ * The three sub-products are calculated recursively in parallel on a {@link ForkJoinPool}. If the smaller operand does not exceed the half of the larger
+ * operand, only the larger operand is split and the two sub-products are calculated in parallel. Operands smaller than the threshold are multiplied using
+ * {@link BigInteger#multiply(BigInteger)}.<br>
+ * The default threshold is {@link #DEFAULT_THRESHOLD} bits unless another threshold is specified with the system property {@link #THRESHOLD_PROPERTY_NAME}.
+ *
+ * @author M. Smith
+ */
+public final class ParallelMultiplication {
+
+	/** Name of the system property to specify the default threshold in bits. See: {@link #multiply(BigInteger, BigInteger)} */
+	public static final String THRESHOLD_PROPERTY_NAME = "parallelMultiplicationThreshold";
+
+	/** The default threshold in bits unless another threshold is specified with the system property {@link #THRESHOLD_PROPERTY_NAME} */
+	public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+	/** The smallest allowed threshold in bits. Smaller operands are multiplied faster than a task is forked */
+	public static final int MINIMUM_THRESHOLD = 256;
+
+	private ParallelMultiplication() {
+
+	}
+
+	/** Holder of the default threshold. The system property is read when the default threshold is used for the first time */
+	private static class DefaultThreshold {
+		private static final int THRESHOLD;
+
+		static {
+			int threshold = DEFAULT_THRESHOLD;
+			String thresholdPropertyValue = System.getProperty(THRESHOLD_PROPERTY_NAME);
+			if (thresholdPropertyValue != null) {
+				try {
+					threshold = Math.max(MINIMUM_THRESHOLD, Integer.parseInt(thresholdPropertyValue.trim()));
+				} catch (NumberFormatException e) {
+					throw new IllegalStateException(String.format("The value '%s' of the system property '%s' is not an integer", thresholdPropertyValue,
+							THRESHOLD_PROPERTY_NAME), e);
+				}
+			}
+
+			THRESHOLD = threshold;
+		}
+	}
+
+	/** Returns the default threshold in bits. See: {@link #THRESHOLD_PROPERTY_NAME} */
+	public static int getDefaultThreshold() {
+		return DefaultThreshold.THRESHOLD;
+	}
+
+	/**
+	 * Returns x * y. Operands of which both bit lengths are at least the default threshold are multiplied in parallel on the pool returned by
+	 * {@link RationalSummation#getForkJoinPool()}
+	 */
+	public static BigInteger multiply(BigInteger x, BigInteger y) {
+		int threshold = getDefaultThreshold();
+		if (x.bitLength() < threshold || y.bitLength() < threshold) {
+			return x.multiply(y);
+		}
+
+		return multiply(x, y, RationalSummation.getForkJoinPool(), threshold);
+	}
+
+	/**
+	 * Returns x * y
+	 *
+	 * @param x
+	 *            The multiplicand
+	 * @param y
+	 *            The multiplier
+	 * @param forkJoinPool
+	 *            The pool on which the sub-products are calculated in parallel. If the calling thread is a worker of a pool, the sub-products are calculated on
+	 *            the pool of the calling thread
+	 * @param threshold
+	 *            Number of bits from which the operands are split. The threshold is at least {@link #MINIMUM_THRESHOLD}
+	 */
+	public static BigInteger multiply(BigInteger x, BigInteger y, ForkJoinPool forkJoinPool, int threshold) {
+		if (x == null || y == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+
+		if (forkJoinPool == null) {
+			throw new IllegalArgumentException("\nNo fork join pool specified");
+		}
+
+		MultiplyTask task = new MultiplyTask(x.abs(), y.abs(), Math.max(MINIMUM_THRESHOLD, threshold));
+		BigInteger product = ForkJoinTask.inForkJoinPool() ? task.invoke() : forkJoinPool.invoke(task);
+
+		return x.signum() * y.signum() < 0 ? product.negate() : product;
+	}
+
+	/** Multiplies not negative operands */
+	private static class MultiplyTask extends RecursiveTask<BigInteger> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final BigInteger x;
+
+		private final BigInteger y;
+
+		private final int threshold;
+
+		private MultiplyTask(BigInteger x, BigInteger y, int threshold) {
+			this.x = x;
+			this.y = y;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected BigInteger compute() {
+			BigInteger larger = x.bitLength() >= y.bitLength() ? x : y;
+			BigInteger smaller = larger == x ? y : x;
+			if (smaller.bitLength() < threshold) {
+				return x.multiply(y);
+			}
+
+			// Split point: half of the larger operand, rounded up to a multiple of 32 bits
+			int k = ((larger.bitLength() + 1) / 2 + 31) & ~31;
+			BigInteger larger1 = larger.shiftRight(k);
+			BigInteger larger0 = lowBits(larger, larger1, k);
+
+			if (smaller.bitLength() <= k) {
+				MultiplyTask high = new MultiplyTask(larger1, smaller, threshold);
+				high.fork();
+				BigInteger low = new MultiplyTask(larger0, smaller, threshold).compute();
+
+				return high.join().shiftLeft(k).add(low);
+			}
+
+			BigInteger smaller1 = smaller.shiftRight(k);
+			BigInteger smaller0 = lowBits(smaller, smaller1, k);
+
+			MultiplyTask z2Task = new MultiplyTask(larger1, smaller1, threshold);
+			MultiplyTask z0Task = new MultiplyTask(larger0, smaller0, threshold);
+			z2Task.fork();
+			z0Task.fork();
+			BigInteger z1 = new MultiplyTask(larger1.add(larger0), smaller1.add(smaller0), threshold).compute();
+			BigInteger z0 = z0Task.join();
+			BigInteger z2 = z2Task.join();
+
+			return z2.shiftLeft(2 * k).add(z1.subtract(z2).subtract(z0).shiftLeft(k)).add(z0);
+		}
+
+		/** Returns the k low order bits of the not negative number, given its high order part number >> k */
+		private static BigInteger lowBits(BigInteger number, BigInteger high, int k) {
+			return number.subtract(high.shiftLeft(k));
+		}
+	}
+}
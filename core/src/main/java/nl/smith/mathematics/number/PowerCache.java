@@ -0,0 +1,75 @@
+package nl.smith.mathematics.number;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache of the powers base^0, base^1, base^2, ... of a single base number.<br>
+ * A power is calculated on first use from the cached powers: base^2k as (base^k)^2 and base^(2k+1) as base^2k * base. Powers with an exponent of at least the
+ * capacity of the cache are not cached but calculated using {@link NumberOperations#pow(int)}.<br>
+ * <br>
+ * Note: instances are thread safe
+ *
+ * @author M. Smith
+ */
+public class PowerCache<T extends NumberOperations<T>> {
+
+	/** The default maximum number of cached powers */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	private final T base;
+
+	private final int capacity;
+
+	/** The power with exponent i is held at index i */
+	private final List<T> powers = new ArrayList<>();
+
+	/** Creates a cache of at most {@link #DEFAULT_CAPACITY} powers */
+	public PowerCache(T base) {
+		this(base, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param base
+	 *            The number which is raised
+	 * @param capacity
+	 *            The maximum number of cached powers
+	 */
+	public PowerCache(T base, int capacity) {
+		if (base == null) {
+			throw new IllegalArgumentException("\nNo base specified");
+		}
+
+		if (capacity < 2) {
+			throw new IllegalArgumentException(String.format("\nThe capacity %d is smaller than 2", capacity));
+		}
+
+		this.base = base;
+		this.capacity = capacity;
+		powers.add(base.pow(0));
+		powers.add(base);
+	}
+
+	public T getBase() {
+		return base;
+	}
+
+	/** Returns base^exponent */
+	public synchronized T get(int exponent) {
+		if (exponent < 0 || exponent >= capacity) {
+			return base.pow(exponent);
+		}
+
+		while (powers.size() <= exponent) {
+			int next = powers.size();
+			powers.add((next & 1) == 0 ? powers.get(next >> 1).pow(2) : powers.get(next - 1).multiply(base));
+		}
+
+		return powers.get(exponent);
+	}
+
+	/** Returns true if this cache holds the powers of a base equal to the specified number */
+	public boolean isCacheOf(T number) {
+		return base.equals(number);
+	}
+}
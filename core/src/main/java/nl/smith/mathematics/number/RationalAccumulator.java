@@ -0,0 +1,259 @@
+package nl.smith.mathematics.number;
+
+import static nl.smith.mathematics.number.RationalNumber.INFLATED;
+import static nl.smith.mathematics.number.RationalNumber.addCompact;
+import static nl.smith.mathematics.number.RationalNumber.gcd;
+import static nl.smith.mathematics.number.RationalNumber.gcdCompact;
+import static nl.smith.mathematics.number.RationalNumber.isCompactValue;
+import static nl.smith.mathematics.number.RationalNumber.multiplyCompact;
+
+import java.math.BigInteger;
+
+/**
+ * Mutable accumulator for sums of rational numbers.<br>
+ * Adding a rational number to the accumulator does not create a new {@link RationalNumber}. The accumulated value is held as longs as long as the numerator and
+ * denominator fit.<br>
+ * The denominator is the least common multiple of the denominators added so far. The accumulated value is only reduced if {@link #reduce()} is called or if
+ * the normalization policy requires it (see: {@link NormalizationPolicy#isNormalizationRequired(int, int)}).<br>
+ * <br>
+ * Note: instances are not thread safe
+ *
+ * @author M. Smith
+ */
+public class RationalAccumulator {
+
+	/** The bit length above which the accumulated value is reduced if the normalization policy is {@link NormalizationPolicy#LAZY} */
+	public static final int DEFAULT_BIT_LENGTH_THRESHOLD = 512;
+
+	private final NormalizationPolicy normalizationPolicy;
+
+	private final int bitLengthThreshold;
+
+	/** Numerator if the accumulated value is compact */
+	private long compactNumerator;
+
+	/** Denominator (N+) if the accumulated value is compact */
+	private long compactDenominator;
+
+	/** Numerator if the accumulated value is not compact, otherwise null */
+	private BigInteger numerator;
+
+	/** Denominator (N+) if the accumulated value is not compact, otherwise null */
+	private BigInteger denominator;
+
+	/** Creates an accumulator with value zero which is reduced if the bit length exceeds {@link #DEFAULT_BIT_LENGTH_THRESHOLD} */
+	public RationalAccumulator() {
+		this(NormalizationPolicy.LAZY, DEFAULT_BIT_LENGTH_THRESHOLD);
+	}
+
+	/**
+	 * Creates an accumulator with value zero
+	 *
+	 * @param normalizationPolicy
+	 *            Policy determining when the accumulated value is reduced
+	 * @param bitLengthThreshold
+	 *            The bit length above which the accumulated value is reduced if the policy is {@link NormalizationPolicy#LAZY}
+	 */
+	public RationalAccumulator(NormalizationPolicy normalizationPolicy, int bitLengthThreshold) {
+		if (normalizationPolicy == null) {
+			throw new IllegalArgumentException("\nNo normalization policy specified");
+		}
+
+		this.normalizationPolicy = normalizationPolicy;
+		this.bitLengthThreshold = bitLengthThreshold;
+		reset();
+	}
+
+	/** Sets the accumulated value to zero */
+	public RationalAccumulator reset() {
+		compactNumerator = 0;
+		compactDenominator = 1;
+		numerator = null;
+		denominator = null;
+
+		return this;
+	}
+
+	public RationalAccumulator add(RationalNumber augend) {
+		checkArgument(augend);
+
+		if (!augend.isCompact() || !add(augend.getCompactNumerator(), augend.getCompactDenominator())) {
+			add(augend.getNumerator(), augend.getDenominator());
+		}
+
+		return normalizeIfRequired();
+	}
+
+	public RationalAccumulator subtract(RationalNumber subtrahend) {
+		checkArgument(subtrahend);
+
+		// Compact numerators are never INFLATED (Long.MIN_VALUE), so they can be negated
+		if (!subtrahend.isCompact() || !add(-subtrahend.getCompactNumerator(), subtrahend.getCompactDenominator())) {
+			add(subtrahend.getNumerator().negate(), subtrahend.getDenominator());
+		}
+
+		return normalizeIfRequired();
+	}
+
+	/** Fused multiply add: adds multiplicand * multiplier without creating the product as rational number */
+	public RationalAccumulator addProduct(RationalNumber multiplicand, RationalNumber multiplier) {
+		checkArgument(multiplicand);
+		checkArgument(multiplier);
+
+		boolean added = false;
+		if (multiplicand.isCompact() && multiplier.isCompact()) {
+			long productNumerator = multiplyCompact(multiplicand.getCompactNumerator(), multiplier.getCompactNumerator());
+			long productDenominator = multiplyCompact(multiplicand.getCompactDenominator(), multiplier.getCompactDenominator());
+			added = productNumerator != INFLATED && productDenominator != INFLATED && add(productNumerator, productDenominator);
+		}
+
+		if (!added) {
+			add(multiplicand.getNumerator().multiply(multiplier.getNumerator()), multiplicand.getDenominator().multiply(multiplier.getDenominator()));
+		}
+
+		return normalizeIfRequired();
+	}
+
+	/** Scaled add: adds factor * augend without creating the product as rational number */
+	public RationalAccumulator addScaled(RationalNumber augend, long factor) {
+		checkArgument(augend);
+
+		boolean added = false;
+		if (augend.isCompact()) {
+			long productNumerator = multiplyCompact(augend.getCompactNumerator(), factor);
+			added = productNumerator != INFLATED && add(productNumerator, augend.getCompactDenominator());
+		}
+
+		if (!added) {
+			add(augend.getNumerator().multiply(BigInteger.valueOf(factor)), augend.getDenominator());
+		}
+
+		return normalizeIfRequired();
+	}
+
+	/** Divides the numerator and the denominator of the accumulated value by their greatest common divisor */
+	public RationalAccumulator reduce() {
+		if (numerator == null) {
+			long gcd = gcdCompact(compactNumerator, compactDenominator);
+			compactNumerator /= gcd;
+			compactDenominator /= gcd;
+		} else {
+			BigInteger gcd = gcd(numerator, denominator);
+			setValue(numerator.divide(gcd), denominator.divide(gcd));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Replaces the accumulated value by its approximation with the smallest denominator. See: {@link RationalNumber#approximate(int)}
+	 *
+	 * @param decimalDigits
+	 *            Number of decimal digits after the decimal point
+	 */
+	public RationalAccumulator approximate(int decimalDigits) {
+		RationalNumber approximation = toRationalNumber().approximate(decimalDigits);
+		setValue(approximation.getNumerator(), approximation.getDenominator());
+
+		return this;
+	}
+
+	/** Returns the reduced accumulated value */
+	public RationalNumber toRationalNumber() {
+		reduce();
+
+		if (numerator == null) {
+			return compactDenominator == 1 ? RationalNumber.of(compactNumerator) : new RationalNumber(compactNumerator, compactDenominator);
+		}
+
+		return new RationalNumber(numerator, denominator);
+	}
+
+	/** Returns the largest bit length of the numerator and the denominator of the accumulated value */
+	public int getBitLength() {
+		if (numerator == null) {
+			return Long.SIZE - Long.numberOfLeadingZeros(Math.max(Math.abs(compactNumerator), compactDenominator));
+		}
+
+		return Math.max(numerator.bitLength(), denominator.bitLength());
+	}
+
+	/**
+	 * Adds n/d using compact values
+	 *
+	 * @return False if the accumulated value is not compact or the sum does not fit in compact values. The accumulated value is not changed in that case
+	 */
+	private boolean add(long n, long d) {
+		if (numerator != null) {
+			return false;
+		}
+
+		if (d == compactDenominator) {
+			long sum = addCompact(compactNumerator, n);
+			if (sum == INFLATED) {
+				return false;
+			}
+
+			compactNumerator = sum;
+			return true;
+		}
+
+		long gcd = gcdCompact(compactDenominator, d);
+		long sum = addCompact(multiplyCompact(compactNumerator, d / gcd), multiplyCompact(n, compactDenominator / gcd));
+		long commonDenominator = multiplyCompact(compactDenominator, d / gcd);
+		if (sum == INFLATED || commonDenominator == INFLATED) {
+			return false;
+		}
+
+		compactNumerator = sum;
+		compactDenominator = commonDenominator;
+		return true;
+	}
+
+	/** Adds n/d using big integers. The denominator of the sum is the least common multiple of the denominators */
+	private void add(BigInteger n, BigInteger d) {
+		BigInteger accumulatedNumerator = numerator == null ? BigInteger.valueOf(compactNumerator) : numerator;
+		BigInteger accumulatedDenominator = denominator == null ? BigInteger.valueOf(compactDenominator) : denominator;
+
+		if (d.equals(accumulatedDenominator)) {
+			setValue(accumulatedNumerator.add(n), accumulatedDenominator);
+		} else {
+			BigInteger gcd = gcd(accumulatedDenominator, d);
+			BigInteger multiplier = d.divide(gcd);
+			setValue(accumulatedNumerator.multiply(multiplier).add(n.multiply(accumulatedDenominator.divide(gcd))), accumulatedDenominator.multiply(multiplier));
+		}
+	}
+
+	private void setValue(BigInteger n, BigInteger d) {
+		if (isCompactValue(n) && isCompactValue(d)) {
+			compactNumerator = n.longValue();
+			compactDenominator = d.longValue();
+			numerator = null;
+			denominator = null;
+		} else {
+			numerator = n;
+			denominator = d;
+		}
+	}
+
+	private RationalAccumulator normalizeIfRequired() {
+		if (normalizationPolicy.isNormalizationRequired(getBitLength(), bitLengthThreshold)) {
+			reduce();
+		}
+
+		return this;
+	}
+
+	private static void checkArgument(RationalNumber rationalNumber) {
+		if (rationalNumber == null) {
+			throw new IllegalArgumentException("\nNull arguments are not allowed");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "RationalAccumulator [numerator=" + (numerator == null ? String.valueOf(compactNumerator) : numerator) + ", denominator="
+				+ (denominator == null ? String.valueOf(compactDenominator) : denominator) + ", normalizationPolicy=" + normalizationPolicy + ", bitLengthThreshold="
+				+ bitLengthThreshold + "]";
+	}
+}
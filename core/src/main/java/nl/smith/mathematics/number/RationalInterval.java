@@ -0,0 +1,499 @@
+package nl.smith.mathematics.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Map;
+
+import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Immutable class for storing numbers.
+ *
+ * Rational intervals contain a lower and an upper bound of type {@link RationalNumber}: the interval [lower, upper] is an enclosure of an unknown exact value.
+ * <br>
+ * The result of an arithmetic operation is the smallest interval containing all results of the operation on values of the operands. The bounds of the result
+ * are rounded outward to rational numbers with a denominator not larger than the maximum denominator of this interval (the left operand), so the size of the
+ * bounds does not explode while the result remains a guaranteed enclosure. See: {@link RationalNumber#limitDenominator(BigInteger)}.<br>
+ * Intervals created without a maximum denominator use {@link #DEFAULT_MAXIMUM_DENOMINATOR}.<br>
+ * Division by an interval containing zero results in an {@link ArithmeticException}.
+ *
+ * @author M. Smith
+ */
+public class RationalInterval implements NumberOperations<RationalInterval> {
+
+	public static final RationalInterval ZERO = new RationalInterval(RationalNumber.ZERO);
+
+	public static final RationalInterval ONE = new RationalInterval(RationalNumber.ONE);
+
+	/** The maximum denominator of intervals created without a maximum denominator: 2^128 */
+	public static final BigInteger DEFAULT_MAXIMUM_DENOMINATOR = BigInteger.ONE.shiftLeft(128);
+
+	/** Number of decimal digits after the decimal point of the bounds shown by {@link #toString()} */
+	private static final int STRING_DIGITS = 40;
+
+	private final RationalNumber lowerBound;
+
+	private final RationalNumber upperBound;
+
+	/** Null if the bounds of results are not rounded */
+	private final BigInteger maximumDenominator;
+
+	public RationalInterval(long value) {
+		this(RationalNumber.of(value));
+	}
+
+	public RationalInterval(RationalNumber value) {
+		this(value, value);
+	}
+
+	public RationalInterval(RationalNumber lowerBound, RationalNumber upperBound) {
+		this(lowerBound, upperBound, DEFAULT_MAXIMUM_DENOMINATOR);
+	}
+
+	/** Creates an interval containing only the number parsed by the arithmetic expression factory (see: {@link RationalNumber#RationalNumber(Map)}) */
+	public RationalInterval(Map<ArithmeticComponentName, String> numberElements) {
+		this(new RationalNumber(numberElements));
+	}
+
+	/**
+	 * @param lowerBound
+	 *            The lower bound. Note: the bound is not rounded
+	 * @param upperBound
+	 *            The upper bound. Note: the bound is not rounded
+	 * @param maximumDenominator
+	 *            The maximum denominator of the bounds of results or null if the bounds are not rounded
+	 */
+	public RationalInterval(RationalNumber lowerBound, RationalNumber upperBound, BigInteger maximumDenominator) {
+		if (lowerBound == null || upperBound == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		if (maximumDenominator != null && maximumDenominator.signum() != 1) {
+			throw new IllegalArgumentException(String.format("\nThe maximum denominator %s is not a positive integer", maximumDenominator));
+		}
+
+		if (lowerBound.compareTo(upperBound) > 0) {
+			throw new IllegalArgumentException(String.format("\nThe lower bound %s is larger than the upper bound %s", toString(lowerBound, RoundingMode.FLOOR),
+					toString(upperBound, RoundingMode.CEILING)));
+		}
+
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.maximumDenominator = maximumDenominator;
+	}
+
+	/** Accepts a number (see: {@link RationalNumber#valueOf(String)}) or an interval. Example: [3.14, 3.15] */
+	public static RationalInterval valueOf(String numberAsString) {
+		if (StringUtils.isBlank(numberAsString)) {
+			throw new IllegalArgumentException("\nNull or blank numberAsString is not accepted");
+		}
+
+		String trimmed = numberAsString.trim();
+		if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+			String[] bounds = trimmed.substring(1, trimmed.length() - 1).split(",");
+			if (bounds.length != 2) {
+				throw new IllegalArgumentException(String.format("\nThe interval %s does not consist of a lower and an upper bound", numberAsString));
+			}
+
+			return new RationalInterval(RationalNumber.valueOf(bounds[0].trim()), RationalNumber.valueOf(bounds[1].trim()));
+		}
+
+		return new RationalInterval(RationalNumber.valueOf(trimmed));
+	}
+
+	public RationalNumber getLowerBound() {
+		return lowerBound;
+	}
+
+	public RationalNumber getUpperBound() {
+		return upperBound;
+	}
+
+	public BigInteger getMaximumDenominator() {
+		return maximumDenominator;
+	}
+
+	/** Returns this interval with its bounds rounded outward to the specified maximum denominator. Arithmetic on the result uses this maximum denominator */
+	public RationalInterval withMaximumDenominator(BigInteger maximumDenominator) {
+		if (maximumDenominator == null ? this.maximumDenominator == null : maximumDenominator.equals(this.maximumDenominator)) {
+			return this;
+		}
+
+		RationalInterval interval = new RationalInterval(lowerBound, upperBound, maximumDenominator);
+
+		return interval.newRationalInterval(lowerBound, upperBound);
+	}
+
+	/** Returns upper bound - lower bound */
+	public RationalNumber getWidth() {
+		return upperBound.subtract(lowerBound);
+	}
+
+	/** Returns (lower bound + upper bound) / 2 */
+	public RationalNumber getMidpoint() {
+		return lowerBound.add(upperBound).divide(2);
+	}
+
+	public boolean contains(RationalNumber number) {
+		return lowerBound.compareTo(number) <= 0 && upperBound.compareTo(number) >= 0;
+	}
+
+	/** Returns the intersection of the intervals. Throws an {@link ArithmeticException} if the intervals are disjoint */
+	public RationalInterval intersect(RationalInterval interval) {
+		RationalNumber lower = max(lowerBound, interval.lowerBound);
+		RationalNumber upper = min(upperBound, interval.upperBound);
+		if (lower.compareTo(upper) > 0) {
+			throw new ArithmeticException(String.format("\nThe intervals %s and %s are disjoint", this, interval));
+		}
+
+		return new RationalInterval(lower, upper, maximumDenominator);
+	}
+
+	/** Orders intervals by their lower bounds and, if the lower bounds are equal, by their upper bounds */
+	@Override
+	public int compareTo(RationalInterval o) {
+		int compareTo = lowerBound.compareTo(o.lowerBound);
+
+		return compareTo == 0 ? upperBound.compareTo(o.upperBound) : compareTo;
+	}
+
+	/** Returns true if the interval contains a single natural number */
+	@Override
+	public boolean isNaturalNumber() {
+		return lowerBound.equals(upperBound) && lowerBound.isNaturalNumber();
+	}
+
+	/** Returns true if all numbers in the interval are positive */
+	@Override
+	public boolean isPositive() {
+		return lowerBound.isPositive();
+	}
+
+	/** Returns true if all numbers in the interval are negative */
+	@Override
+	public boolean isNegative() {
+		return upperBound.isNegative();
+	}
+
+	@Override
+	public RationalInterval add(RationalInterval augend) {
+		return newRationalInterval(lowerBound.add(augend.lowerBound), upperBound.add(augend.upperBound));
+	}
+
+	@Override
+	public RationalInterval add(BigInteger augend) {
+		return add(new RationalInterval(new RationalNumber(augend)));
+	}
+
+	@Override
+	public RationalInterval add(long augend) {
+		return add(new RationalInterval(augend));
+	}
+
+	@Override
+	public RationalInterval add(double augend) {
+		return add(new RationalInterval(RationalNumber.valueOf(augend)));
+	}
+
+	@Override
+	public RationalInterval subtract(RationalInterval subtrahend) {
+		return newRationalInterval(lowerBound.subtract(subtrahend.upperBound), upperBound.subtract(subtrahend.lowerBound));
+	}
+
+	@Override
+	public RationalInterval subtract(BigInteger subtrahend) {
+		return subtract(new RationalInterval(new RationalNumber(subtrahend)));
+	}
+
+	@Override
+	public RationalInterval subtract(long subtrahend) {
+		return subtract(new RationalInterval(subtrahend));
+	}
+
+	@Override
+	public RationalInterval subtract(double subtrahend) {
+		return subtract(new RationalInterval(RationalNumber.valueOf(subtrahend)));
+	}
+
+	@Override
+	public RationalInterval multiply(RationalInterval multiplicand) {
+		RationalNumber p1 = lowerBound.multiply(multiplicand.lowerBound);
+		RationalNumber p2 = lowerBound.multiply(multiplicand.upperBound);
+		RationalNumber p3 = upperBound.multiply(multiplicand.lowerBound);
+		RationalNumber p4 = upperBound.multiply(multiplicand.upperBound);
+
+		return newRationalInterval(min(min(p1, p2), min(p3, p4)), max(max(p1, p2), max(p3, p4)));
+	}
+
+	@Override
+	public RationalInterval multiply(BigInteger multiplicand) {
+		return multiply(new RationalInterval(new RationalNumber(multiplicand)));
+	}
+
+	@Override
+	public RationalInterval multiply(long multiplicand) {
+		return multiply(new RationalInterval(multiplicand));
+	}
+
+	@Override
+	public RationalInterval multiply(double multiplicand) {
+		return multiply(new RationalInterval(RationalNumber.valueOf(multiplicand)));
+	}
+
+	/** Throws an {@link ArithmeticException} if the divisor contains zero */
+	@Override
+	public RationalInterval divide(RationalInterval divisor) {
+		return multiply(divisor.exactReciprocalValue());
+	}
+
+	@Override
+	public RationalInterval divide(BigInteger divisor) {
+		return divide(new RationalInterval(new RationalNumber(divisor)));
+	}
+
+	@Override
+	public RationalInterval divide(long divisor) {
+		return divide(new RationalInterval(divisor));
+	}
+
+	@Override
+	public RationalInterval divide(double divisor) {
+		return divide(new RationalInterval(RationalNumber.valueOf(divisor)));
+	}
+
+	@Override
+	public RationalInterval abs() {
+		if (lowerBound.signum() >= 0) {
+			return this;
+		}
+
+		if (upperBound.signum() <= 0) {
+			return negate();
+		}
+
+		return new RationalInterval(RationalNumber.ZERO, max(lowerBound.negate(), upperBound), maximumDenominator);
+	}
+
+	/** Throws an {@link ArithmeticException} if this interval contains zero */
+	@Override
+	public RationalInterval getReciprocalValue() {
+		RationalInterval reciprocalValue = exactReciprocalValue();
+
+		return newRationalInterval(reciprocalValue.lowerBound, reciprocalValue.upperBound);
+	}
+
+	@Override
+	public RationalInterval pow(int exponent) {
+		if (exponent < 0) {
+			return getReciprocalValue().pow(BigInteger.valueOf(exponent).negate());
+		}
+
+		if (exponent == 0) {
+			return new RationalInterval(RationalNumber.ONE, RationalNumber.ONE, maximumDenominator);
+		}
+
+		return power(lowerBound.pow(exponent), upperBound.pow(exponent), (exponent & 1) == 0);
+	}
+
+	/** Exponents which do not fit in an int are only accepted for intervals with the bounds -1, 0 or 1 (see: {@link RationalNumber#pow(BigInteger)}) */
+	@Override
+	public RationalInterval pow(BigInteger exponent) {
+		if (exponent == null) {
+			throw new IllegalArgumentException("Null argument is not allowed");
+		}
+
+		if (exponent.bitLength() < Integer.SIZE) {
+			return pow(exponent.intValue());
+		}
+
+		if (exponent.signum() < 0) {
+			return getReciprocalValue().pow(exponent.negate());
+		}
+
+		return power(lowerBound.pow(exponent), upperBound.pow(exponent), !exponent.testBit(0));
+	}
+
+	/** Returns the interval of the integer parts of the numbers in this interval. The integer part is truncated towards zero */
+	@Override
+	public RationalInterval getIntegerPart() {
+		return new RationalInterval(lowerBound.getIntegerPart(), upperBound.getIntegerPart(), maximumDenominator);
+	}
+
+	/** Returns the interval of the fractional parts of the numbers in this interval. The fractional part has the sign of the number */
+	@Override
+	public RationalInterval getFractionalPart() {
+		if (lowerBound.getIntegerPartAsBigInteger().equals(upperBound.getIntegerPartAsBigInteger())) {
+			return newRationalInterval(lowerBound.getFractionalPart(), upperBound.getFractionalPart());
+		}
+
+		return new RationalInterval(lowerBound.signum() < 0 ? RationalNumber.MINUS_ONE : RationalNumber.ZERO, upperBound.signum() > 0 ? RationalNumber.ONE
+				: RationalNumber.ZERO, maximumDenominator);
+	}
+
+	/** Throws an {@link ArithmeticException} if the numbers in this interval do not have the same integer part */
+	@Override
+	public BigInteger getIntegerPartAsBigInteger() {
+		BigInteger integerPart = lowerBound.getIntegerPartAsBigInteger();
+		if (!integerPart.equals(upperBound.getIntegerPartAsBigInteger())) {
+			throw new ArithmeticException(String.format("\nThe integer part of the numbers in %s is not unique", this));
+		}
+
+		return integerPart;
+	}
+
+	@Override
+	public RationalInterval negate() {
+		return new RationalInterval(upperBound.negate(), lowerBound.negate(), maximumDenominator);
+	}
+
+	/** Returns the exact bounds. See: {@link RationalNumber#toStringExact()} */
+	@Override
+	public String toStringExact() {
+		return "[" + lowerBound.toStringExact() + ", " + upperBound.toStringExact() + "]";
+	}
+
+	@Override
+	public String toString(int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		StringBuffer resultBuffer = new StringBuffer();
+
+		RationalInterval delta = toStringGetDelta(resultBuffer, numberOfDigitsAfterDecimalPoint, showDelta);
+
+		if (showDelta) {
+			if (delta.lowerBound.signum() != 0 || delta.upperBound.signum() != 0) {
+				resultBuffer.append("\n+Delta:\n").append(delta);
+			}
+		}
+
+		return resultBuffer.toString();
+	}
+
+	/**
+	 * Appends this interval with the bounds rounded outward to the specified number of digits after the decimal point to the buffer, so the appended interval
+	 * contains this interval.<br>
+	 * If the delta is shown the (exact) differences between the bounds of this interval and the appended bounds are returned as the interval [upper bound -
+	 * appended upper bound, lower bound - appended lower bound]. Otherwise null is returned.
+	 */
+	@Override
+	public RationalInterval toStringGetDelta(StringBuffer resultBuffer, int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+		if (resultBuffer == null) {
+			throw new IllegalArgumentException("A string buffer has to be specified");
+		}
+
+		if (numberOfDigitsAfterDecimalPoint < 0) {
+			throw new IllegalArgumentException(String.format("The specified number of digits after the decimal point is negative.", numberOfDigitsAfterDecimalPoint));
+		}
+
+		BigDecimal lower = toBigDecimal(lowerBound, numberOfDigitsAfterDecimalPoint, RoundingMode.FLOOR);
+		BigDecimal upper = toBigDecimal(upperBound, numberOfDigitsAfterDecimalPoint, RoundingMode.CEILING);
+		resultBuffer.append("[").append(lower.toPlainString()).append(", ").append(upper.toPlainString()).append("]");
+
+		if (showDelta) {
+			RationalNumber lowerDelta = lowerBound.subtract(new RationalNumber(lower.unscaledValue(), BigInteger.TEN.pow(lower.scale())));
+			RationalNumber upperDelta = upperBound.subtract(new RationalNumber(upper.unscaledValue(), BigInteger.TEN.pow(upper.scale())));
+
+			return new RationalInterval(upperDelta.getNormalizedRationalNumber(), lowerDelta.getNormalizedRationalNumber(), maximumDenominator);
+		}
+
+		return null;
+	}
+
+	/** Returns the bounds rounded outward to 40 digits after the decimal point. Trailing zeros are not shown */
+	@Override
+	public String toString() {
+		return "[" + toString(lowerBound, RoundingMode.FLOOR) + ", " + toString(upperBound, RoundingMode.CEILING) + "]";
+	}
+
+	/** Intervals are equal if their bounds are numerically equal. The maximum denominator is not compared */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+
+		RationalInterval other = (RationalInterval) obj;
+
+		return lowerBound.equals(other.lowerBound) && upperBound.equals(other.upperBound);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * lowerBound.hashCode() + upperBound.hashCode();
+	}
+
+	/** Returns [1/upper, 1/lower] without rounding the bounds */
+	private RationalInterval exactReciprocalValue() {
+		if (lowerBound.signum() <= 0 && upperBound.signum() >= 0) {
+			throw new ArithmeticException(String.format("\nThe interval %s contains zero", this));
+		}
+
+		return new RationalInterval(upperBound.getReciprocalValue(), lowerBound.getReciprocalValue(), maximumDenominator);
+	}
+
+	/** Returns the interval of the powers of the numbers in this interval, given the powers of the bounds */
+	private RationalInterval power(RationalNumber lowerPower, RationalNumber upperPower, boolean evenExponent) {
+		if (!evenExponent || lowerBound.signum() >= 0) {
+			return newRationalInterval(lowerPower, upperPower);
+		}
+
+		if (upperBound.signum() <= 0) {
+			return newRationalInterval(upperPower, lowerPower);
+		}
+
+		return newRationalInterval(RationalNumber.ZERO, max(lowerPower, upperPower));
+	}
+
+	/** Returns an interval with the specified bounds rounded outward and the maximum denominator of this interval */
+	private RationalInterval newRationalInterval(RationalNumber lower, RationalNumber upper) {
+		return new RationalInterval(round(lower, false), round(upper, true), maximumDenominator);
+	}
+
+	/**
+	 * Returns the rational number with a denominator not larger than the maximum denominator closest to the specified number which is not larger (round up:
+	 * not smaller) than the specified number
+	 */
+	private RationalNumber round(RationalNumber number, boolean up) {
+		if (maximumDenominator == null || number.getDenominator().compareTo(maximumDenominator) <= 0) {
+			return number;
+		}
+
+		RationalNumber approximation = number.limitDenominator(maximumDenominator);
+		int compareTo = approximation.compareTo(number);
+		if (up ? compareTo >= 0 : compareTo <= 0) {
+			return approximation;
+		}
+
+		// The best approximation lies on the wrong side: round the number of 1 / maximum denominator units
+		BigInteger[] divideAndRemainder = number.getNumerator().multiply(maximumDenominator).divideAndRemainder(number.getDenominator());
+		BigInteger units = divideAndRemainder[0];
+		if (divideAndRemainder[1].signum() != 0 && (divideAndRemainder[1].signum() > 0) == up) {
+			units = up ? units.add(BigInteger.ONE) : units.subtract(BigInteger.ONE);
+		}
+
+		return new RationalNumber(units, maximumDenominator);
+	}
+
+	private static RationalNumber min(RationalNumber x, RationalNumber y) {
+		return x.compareTo(y) <= 0 ? x : y;
+	}
+
+	private static RationalNumber max(RationalNumber x, RationalNumber y) {
+		return x.compareTo(y) >= 0 ? x : y;
+	}
+
+	private static BigDecimal toBigDecimal(RationalNumber number, int numberOfDigitsAfterDecimalPoint, RoundingMode roundingMode) {
+		return new BigDecimal(number.getNumerator()).divide(new BigDecimal(number.getDenominator()), numberOfDigitsAfterDecimalPoint, roundingMode);
+	}
+
+	private static String toString(RationalNumber number, RoundingMode roundingMode) {
+		BigDecimal value = toBigDecimal(number, STRING_DIGITS, roundingMode);
+
+		return value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString();
+	}
+}
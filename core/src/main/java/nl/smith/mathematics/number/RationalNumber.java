@@ -1,15 +1,14 @@
 package nl.smith.mathematics.number;
 
-import static java.math.BigInteger.ONE;
-import static java.math.BigInteger.TEN;
-import static java.math.BigInteger.ZERO;
+import static nl.smith.mathematics.utility.ErrorMessages.NOT_A_NUMBER;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
-import nl.smith.mathematics.factory.ArithmeticComponentResolver;
 import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+import nl.smith.mathematics.factory.constant.ArithmeticComponentRegularExpression;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -22,18 +21,122 @@ import org.apache.commons.lang.StringUtils;
  */
 public class RationalNumber implements NumberOperations<RationalNumber> {
 
+	/**
+	 * Value of the compact numerator and denominator if the rational number does not fit in two longs.<br>
+	 * Long.MIN_VALUE is never used as a compact value, so negating or taking the absolute value of a compact component can not overflow.
+	 */
+	static final long INFLATED = Long.MIN_VALUE;
+
+	/** Number of explicitly stored significand bits of a double */
+	private static final int DOUBLE_SIGNIFICAND_BITS = 52;
+
+	/** Exponent bias of a double */
+	private static final int DOUBLE_EXPONENT_BIAS = 1023;
+
+	/** Powers of ten which fit in a long: 10^0 up to and including 10^18 */
+	private static final long[] LONG_TEN_POWERS = new long[19];
+
+	/** Flag in the first byte of the binary encoding: the denominator is one and is not written. See: {@link #encode(ByteBuffer)} */
+	private static final int UNIT_DENOMINATOR_FLAG = 1;
+
+	/** Flag in the first byte of the binary encoding: the numerator is written as length prefixed two's-complement bytes */
+	private static final int BIG_NUMERATOR_FLAG = 2;
+
+	/** Flag in the first byte of the binary encoding: the denominator is written as length prefixed two's-complement bytes */
+	private static final int BIG_DENOMINATOR_FLAG = 4;
+
+	/** Cached powers of ten. Larger powers are calculated on request. See: {@link #getTenPowExponent(int)} */
+	private static final BigInteger[] BIG_TEN_POWERS = new BigInteger[128];
+
+	static {
+		LONG_TEN_POWERS[0] = 1;
+		for (int i = 1; i < LONG_TEN_POWERS.length; i++) {
+			LONG_TEN_POWERS[i] = LONG_TEN_POWERS[i - 1] * 10;
+		}
+
+		BIG_TEN_POWERS[0] = BigInteger.ONE;
+		for (int i = 1; i < BIG_TEN_POWERS.length; i++) {
+			BIG_TEN_POWERS[i] = BIG_TEN_POWERS[i - 1].multiply(BigInteger.TEN);
+		}
+	}
+
+	/** Numerator if this number is compact, otherwise {@link #INFLATED} */
+	private final long compactNumerator;
+
+	/** Denominator (N+) if this number is compact, otherwise {@link #INFLATED} */
+	private final long compactDenominator;
+
+	/** Numerator if this number is not compact, otherwise null */
 	private final BigInteger numerator;
 
-	/** Note the denominator is always a positive integer */
+	/** Note the denominator is always a positive integer. Null if this number is compact */
 	private final BigInteger denominator;
 
+	/** Cached hash code of the normalized rational number. Zero if not yet calculated */
+	private int hashCode;
+
+	/** Cached normalized rational number, this if this number is normalized. Null if not yet calculated */
+	private RationalNumber normalizedRationalNumber;
+
+	/** Cached integer part if this number is not compact. Null if not yet calculated */
+	private BigInteger integerPart;
+
+	/** Cached largest bit length of the numerator and the denominator. Zero if not yet calculated */
+	private int bitLength;
+
+	/** Name of the system property to specify the largest integer held in the cache of canonical instances. See: {@link #of(long)} */
+	public static final String CACHE_HIGH_PROPERTY_NAME = "rationalNumberCacheHigh";
+
+	/**
+	 * Cache of canonical instances of the integers -128 up to and including the cache high value.<br>
+	 * The cache high value is 127 unless a larger value is specified with the system property {@link #CACHE_HIGH_PROPERTY_NAME}.
+	 */
+	private static class RationalNumberCache {
+		private static final int LOW = -128;
+
+		private static final int DEFAULT_HIGH = 127;
+
+		private static final RationalNumber[] CACHE;
+
+		static {
+			int high = DEFAULT_HIGH;
+			String highPropertyValue = System.getProperty(CACHE_HIGH_PROPERTY_NAME);
+			if (highPropertyValue != null) {
+				try {
+					high = Math.max(DEFAULT_HIGH, Integer.parseInt(highPropertyValue.trim()));
+				} catch (NumberFormatException e) {
+					throw new IllegalStateException(String.format("The value '%s' of the system property '%s' is not an integer", highPropertyValue, CACHE_HIGH_PROPERTY_NAME), e);
+				}
+			}
+
+			CACHE = new RationalNumber[high - LOW + 1];
+			for (int i = 0; i < CACHE.length; i++) {
+				CACHE[i] = new RationalNumber(LOW + i, 1, false);
+			}
+		}
+
+		private static RationalNumber get(long value) {
+			if (value >= LOW && value < LOW + CACHE.length) {
+				return CACHE[(int) (value - LOW)];
+			}
+
+			return null;
+		}
+	}
+
+	public static final RationalNumber ZERO = of(0);
+
+	public static final RationalNumber ONE = of(1);
+
+	public static final RationalNumber MINUS_ONE = of(-1);
+
 	/**
 	 * Create an instance using 1 as denominator
 	 * 
 	 * @param numerator
 	 */
 	public RationalNumber(BigInteger numerator) {
-		this(numerator, ONE, true);
+		this(numerator, BigInteger.ONE, true);
 	}
 
 	/**
@@ -42,7 +145,7 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 	 * @param numerator
 	 */
 	public RationalNumber(long numerator) {
-		this(BigInteger.valueOf(numerator), BigInteger.valueOf(1), false);
+		this(numerator, 1, false);
 	}
 
 	/**
@@ -51,7 +154,7 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 	 * @param denominator
 	 */
 	public RationalNumber(long numerator, long denominator) {
-		this(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator), true);
+		this(numerator, denominator, true);
 	}
 
 	/**
@@ -64,7 +167,166 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 		this(numerator, denominator, true);
 	}
 
+	/**
+	 * Static factory method returning the integer value as a rational number.<br>
+	 * Small integers (see {@link #CACHE_HIGH_PROPERTY_NAME}) are returned as shared canonical instances.
+	 * 
+	 * @param value
+	 * @return
+	 */
+	public static RationalNumber of(long value) {
+		RationalNumber cachedRationalNumber = RationalNumberCache.get(value);
+
+		return cachedRationalNumber == null ? new RationalNumber(value) : cachedRationalNumber;
+	}
+
+	/**
+	 * Static factory method returning the normalized rational number numerator/denominator.<br>
+	 * Small integers (see {@link #CACHE_HIGH_PROPERTY_NAME}) are returned as shared canonical instances.
+	 * 
+	 * @param numerator
+	 * @param denominator
+	 * @return
+	 */
+	public static RationalNumber of(long numerator, long denominator) {
+		if (denominator == 1) {
+			return of(numerator);
+		}
+
+		RationalNumber normalizedRationalNumber = new RationalNumber(numerator, denominator).getNormalizedRationalNumber();
+		if (normalizedRationalNumber.isCompact() && normalizedRationalNumber.compactDenominator == 1) {
+			return of(normalizedRationalNumber.compactNumerator);
+		}
+
+		return normalizedRationalNumber;
+	}
+
+	/**
+	 * Static factory method returning the exact value of the double as normalized rational number.<br>
+	 * The value is calculated from the sign, exponent and mantissa bits of the double (IEEE 754), so 0.1 results in 3602879701896397/36028797018963968.
+	 * 
+	 * @param value
+	 *            A finite double
+	 * @return
+	 */
+	public static RationalNumber valueOf(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new IllegalArgumentException(String.format("\nThe value %s is not a finite number", value));
+		}
+
+		long bits = Double.doubleToRawLongBits(value);
+		int biasedExponent = (int) ((bits >>> DOUBLE_SIGNIFICAND_BITS) & 0x7FF);
+		long mantissa = bits & ((1L << DOUBLE_SIGNIFICAND_BITS) - 1);
+		if (biasedExponent == 0) {
+			if (mantissa == 0) {
+				return ZERO;
+			}
+
+			// Subnormal number
+			biasedExponent = 1;
+		} else {
+			mantissa |= 1L << DOUBLE_SIGNIFICAND_BITS;
+		}
+
+		// value = mantissa * 2^exponent
+		int exponent = biasedExponent - DOUBLE_EXPONENT_BIAS - DOUBLE_SIGNIFICAND_BITS;
+		if (bits < 0) {
+			mantissa = -mantissa;
+		}
+
+		if (exponent >= 0) {
+			if (exponent < Long.numberOfLeadingZeros(Math.abs(mantissa)) - 1) {
+				return of(mantissa << exponent);
+			}
+
+			return new RationalNumber(BigInteger.valueOf(mantissa).shiftLeft(exponent), BigInteger.ONE, false);
+		}
+
+		// Divide out the common powers of two
+		int commonPowerOfTwo = Math.min(Long.numberOfTrailingZeros(mantissa), -exponent);
+		mantissa >>= commonPowerOfTwo;
+		exponent += commonPowerOfTwo;
+		if (exponent == 0) {
+			return of(mantissa);
+		}
+
+		if (-exponent < Long.SIZE - 1) {
+			return new RationalNumber(mantissa, 1L << -exponent, false);
+		}
+
+		return new RationalNumber(BigInteger.valueOf(mantissa), BigInteger.ONE.shiftLeft(-exponent), false);
+	}
+
+	/** Returns the exact value of the decimal number */
+	public static RationalNumber valueOf(BigDecimal value) {
+		int scale = value.scale();
+		if (scale <= 0) {
+			return new RationalNumber(value.unscaledValue().multiply(getTenPowExponent(-scale)));
+		}
+
+		return new RationalNumber(value.unscaledValue(), getTenPowExponent(scale));
+	}
+
 	public RationalNumber(Map<ArithmeticComponentName, String> numberElements) {
+		this(getNumeratorAndDenominator(numberElements));
+	}
+
+	private RationalNumber(BigInteger[] numeratorAndDenominator) {
+		this(numeratorAndDenominator[0], numeratorAndDenominator[1], false);
+	}
+
+	private RationalNumber(BigInteger numerator, BigInteger denominator, boolean checkArguments) {
+		if (checkArguments) {
+			checkArguments(numerator, denominator);
+		}
+
+		if (denominator.signum() == -1) {
+			numerator = numerator.negate();
+			denominator = denominator.negate();
+		}
+
+		if (isCompactValue(numerator) && isCompactValue(denominator)) {
+			this.compactNumerator = numerator.longValue();
+			this.compactDenominator = denominator.longValue();
+			this.numerator = null;
+			this.denominator = null;
+		} else {
+			this.compactNumerator = INFLATED;
+			this.compactDenominator = INFLATED;
+			this.numerator = numerator;
+			this.denominator = denominator;
+		}
+	}
+
+	/** Components which are {@link #INFLATED} (Long.MIN_VALUE) are held as big integers */
+	private RationalNumber(long numerator, long denominator, boolean checkArguments) {
+		if (checkArguments) {
+			if (denominator == 0) {
+				throw new IllegalArgumentException("Denominator can not be zero");
+			}
+		}
+
+		if (numerator == INFLATED || denominator == INFLATED) {
+			BigInteger bigNumerator = BigInteger.valueOf(numerator);
+			BigInteger bigDenominator = BigInteger.valueOf(denominator);
+			if (denominator < 0) {
+				bigNumerator = bigNumerator.negate();
+				bigDenominator = bigDenominator.negate();
+			}
+
+			this.compactNumerator = INFLATED;
+			this.compactDenominator = INFLATED;
+			this.numerator = bigNumerator;
+			this.denominator = bigDenominator;
+		} else {
+			this.compactNumerator = denominator < 0 ? -numerator : numerator;
+			this.compactDenominator = denominator < 0 ? -denominator : denominator;
+			this.numerator = null;
+			this.denominator = null;
+		}
+	}
+
+	private static BigInteger[] getNumeratorAndDenominator(Map<ArithmeticComponentName, String> numberElements) {
 		String signedIntegerPart = numberElements.get(ArithmeticComponentName.INTEGER_NUMBER);
 		String nonRepeatingFractionalPart = numberElements.get(ArithmeticComponentName.FRACTION_NON_REPEATING_BLOCK);
 		String repeatingFractionalPart = numberElements.get(ArithmeticComponentName.FRACTION_REPEATING_BLOCK);
@@ -89,32 +351,117 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 
 		BigInteger gcd = numerator.gcd(denominator);
 
-		this.numerator = numerator.divide(gcd);
-		this.denominator = denominator.divide(gcd);
+		return new BigInteger[] { numerator.divide(gcd), denominator.divide(gcd) };
+	}
 
-		return;
+	public BigInteger getNumerator() {
+		return numerator == null ? BigInteger.valueOf(compactNumerator) : numerator;
 	}
 
-	private RationalNumber(BigInteger numerator, BigInteger denominator, boolean checkArguments) {
-		if (checkArguments) {
-			checkArguments(numerator, denominator);
+	public BigInteger getDenominator() {
+		return denominator == null ? BigInteger.valueOf(compactDenominator) : denominator;
+	}
+
+	/** Returns true if both numerator and denominator are held as longs */
+	boolean isCompact() {
+		return numerator == null;
+	}
+
+	/** Returns the numerator as long or {@link #INFLATED} if this number is not compact */
+	long getCompactNumerator() {
+		return compactNumerator;
+	}
+
+	/** Returns the denominator as long or {@link #INFLATED} if this number is not compact */
+	long getCompactDenominator() {
+		return compactDenominator;
+	}
+
+	/** Method to check if a big integer can be held as a compact (long) value */
+	static boolean isCompactValue(BigInteger value) {
+		return value.bitLength() < Long.SIZE && value.longValue() != INFLATED;
+	}
+
+	/** Returns x * y or {@link #INFLATED} if the product does not fit in a compact value. Note: the arguments should not be {@link #INFLATED} */
+	static long multiplyCompact(long x, long y) {
+		long product = x * y;
+		long absX = Math.abs(x);
+		long absY = Math.abs(y);
+		if ((absX | absY) >>> 31 != 0) {
+			if ((y != 0 && product / y != x) || (x == INFLATED && y == -1)) {
+				return INFLATED;
+			}
 		}
 
-		if (denominator.signum() == -1) {
-			this.numerator = ZERO.subtract(numerator);
-			this.denominator = denominator.abs();
-		} else {
-			this.numerator = numerator;
-			this.denominator = denominator;
+		return product;
+	}
+
+	/** Returns x + y or {@link #INFLATED} if the sum does not fit in a compact value or one of the arguments is {@link #INFLATED} */
+	static long addCompact(long x, long y) {
+		long sum = x + y;
+		if (x == INFLATED || y == INFLATED || ((x ^ sum) & (y ^ sum)) < 0) {
+			return INFLATED;
 		}
+
+		return sum;
 	}
 
-	public BigInteger getNumerator() {
-		return numerator;
+	/** Returns x - y or {@link #INFLATED} if the difference does not fit in a compact value or one of the arguments is {@link #INFLATED} */
+	private static long subtractCompact(long x, long y) {
+		long difference = x - y;
+		if (x == INFLATED || y == INFLATED || ((x ^ y) & (x ^ difference)) < 0) {
+			return INFLATED;
+		}
+
+		return difference;
 	}
 
-	public BigInteger getDenominator() {
-		return denominator;
+	/**
+	 * Greatest common divisor of two compact values using the binary (Stein's) algorithm.<br>
+	 * Note: the result is positive unless both values are zero
+	 */
+	static long gcdCompact(long x, long y) {
+		x = Math.abs(x);
+		y = Math.abs(y);
+		if (x == 0) {
+			return y;
+		}
+
+		if (y == 0) {
+			return x;
+		}
+
+		int commonPowerOfTwo = Long.numberOfTrailingZeros(x | y);
+		x >>= Long.numberOfTrailingZeros(x);
+		while (y != 0) {
+			y >>= Long.numberOfTrailingZeros(y);
+			if (x > y) {
+				long swap = x;
+				x = y;
+				y = swap;
+			}
+			y -= x;
+		}
+
+		return x << commonPowerOfTwo;
+	}
+
+	/**
+	 * Greatest common divisor of two big integers.<br>
+	 * If one of the values fits in a long the other value is reduced modulo this value and the binary algorithm on longs is used.
+	 */
+	static BigInteger gcd(BigInteger x, BigInteger y) {
+		if (isCompactValue(y)) {
+			long compactY = y.longValue();
+			return compactY == 0 ? x.abs() : BigInteger.valueOf(gcdCompact(x.remainder(y).longValue(), compactY));
+		}
+
+		if (isCompactValue(x)) {
+			long compactX = x.longValue();
+			return compactX == 0 ? y.abs() : BigInteger.valueOf(gcdCompact(y.remainder(x).longValue(), compactX));
+		}
+
+		return x.gcd(y);
 	}
 
 	/** Method for testing constructor arguments */
@@ -123,102 +470,153 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 			throw new IllegalArgumentException("Null arguments are not allowed");
 		}
 
-		if (denominator.equals(ZERO)) {
+		if (denominator.equals(BigInteger.ZERO)) {
 			throw new IllegalArgumentException("Denominator can not be zero");
 		}
 	}
 
 	@Override
 	public boolean isNaturalNumber() {
-		return getNormalizedRationalNumber().denominator.equals(ONE);
+		if (isCompact()) {
+			return compactNumerator % compactDenominator == 0;
+		}
+
+		return getNormalizedRationalNumber().getDenominator().equals(BigInteger.ONE);
 	}
 
 	@Override
 	public boolean isPositive() {
-		return getNormalizedRationalNumber().numerator.compareTo(ONE) >= 0;
+		return signum() > 0;
 	}
 
 	@Override
 	public boolean isNegative() {
-		return getNormalizedRationalNumber().numerator.compareTo(ZERO) == -1;
+		return signum() < 0;
 	}
 
 	@Override
 	public RationalNumber add(RationalNumber augend) {
-		BigInteger numerator = this.numerator.multiply(augend.denominator).add(augend.numerator.multiply(this.denominator));
-		BigInteger denominator = this.denominator.multiply(augend.denominator);
+		if (isCompact() && augend.isCompact()) {
+			RationalNumber sum = sum(compactNumerator, compactDenominator, augend.compactNumerator, augend.compactDenominator);
+			if (sum != null) {
+				return sum;
+			}
+		}
 
-		return new RationalNumber(numerator, denominator, false);
+		return sum(getNumerator(), getDenominator(), augend.getNumerator(), augend.getDenominator());
 	}
 
 	@Override
 	public RationalNumber add(BigInteger augend) {
-		BigInteger numerator = this.numerator.add(augend.multiply(this.denominator));
-		BigInteger denominator = this.denominator;
+		if (isCompact() && isCompactValue(augend)) {
+			return add(augend.longValue());
+		}
+
+		BigInteger numerator = getNumerator().add(ParallelMultiplication.multiply(augend, getDenominator()));
+		BigInteger denominator = getDenominator();
 
 		return new RationalNumber(numerator, denominator, false);
 	}
 
 	@Override
 	public RationalNumber add(long augend) {
-		return add(BigInteger.valueOf(augend));
+		if (isCompact() && augend != INFLATED) {
+			long numerator = addCompact(compactNumerator, multiplyCompact(augend, compactDenominator));
+			if (isCompactResult(numerator, compactDenominator)) {
+				return new RationalNumber(numerator, compactDenominator, false);
+			}
+		}
+
+		BigInteger numerator = getNumerator().add(BigInteger.valueOf(augend).multiply(getDenominator()));
+
+		return new RationalNumber(numerator, getDenominator(), false);
 	}
 
 	@Override
 	public RationalNumber add(double augend) {
-		return add(RationalNumber.valueOf(String.valueOf(augend)));
+		return add(RationalNumber.valueOf(augend));
 	}
 
 	@Override
 	public RationalNumber subtract(RationalNumber subtrahend) {
-		BigInteger numerator = this.numerator.multiply(subtrahend.denominator).subtract(subtrahend.numerator.multiply(this.denominator));
-		BigInteger denominator = this.denominator.multiply(subtrahend.denominator);
+		if (isCompact() && subtrahend.isCompact()) {
+			RationalNumber difference = sum(compactNumerator, compactDenominator, -subtrahend.compactNumerator, subtrahend.compactDenominator);
+			if (difference != null) {
+				return difference;
+			}
+		}
 
-		return new RationalNumber(numerator, denominator, false);
+		return sum(getNumerator(), getDenominator(), subtrahend.getNumerator().negate(), subtrahend.getDenominator());
 	}
 
 	@Override
 	public RationalNumber subtract(BigInteger subtrahend) {
-		BigInteger numerator = this.numerator.subtract(subtrahend.multiply(this.denominator));
-		BigInteger denominator = this.denominator;
+		if (isCompact() && isCompactValue(subtrahend)) {
+			return subtract(subtrahend.longValue());
+		}
+
+		BigInteger numerator = getNumerator().subtract(ParallelMultiplication.multiply(subtrahend, getDenominator()));
+		BigInteger denominator = getDenominator();
 
 		return new RationalNumber(numerator, denominator, false);
 	}
 
 	@Override
 	public RationalNumber subtract(long subtrahend) {
-		return subtract(BigInteger.valueOf(subtrahend));
+		if (isCompact() && subtrahend != INFLATED) {
+			long numerator = subtractCompact(compactNumerator, multiplyCompact(subtrahend, compactDenominator));
+			if (isCompactResult(numerator, compactDenominator)) {
+				return new RationalNumber(numerator, compactDenominator, false);
+			}
+		}
+
+		BigInteger numerator = getNumerator().subtract(BigInteger.valueOf(subtrahend).multiply(getDenominator()));
+
+		return new RationalNumber(numerator, getDenominator(), false);
 	}
 
 	@Override
 	public RationalNumber subtract(double subtrahend) {
-		return subtract(RationalNumber.valueOf(String.valueOf(subtrahend)));
+		return subtract(RationalNumber.valueOf(subtrahend));
 	}
 
 	@Override
 	public RationalNumber multiply(RationalNumber multiplicand) {
-		BigInteger numerator = this.numerator.multiply(multiplicand.numerator);
-		BigInteger denominator = this.denominator.multiply(multiplicand.denominator);
+		if (isCompact() && multiplicand.isCompact()) {
+			RationalNumber product = product(compactNumerator, compactDenominator, multiplicand.compactNumerator, multiplicand.compactDenominator);
+			if (product != null) {
+				return product;
+			}
+		}
 
-		return new RationalNumber(numerator, denominator, false);
+		return product(getNumerator(), getDenominator(), multiplicand.getNumerator(), multiplicand.getDenominator());
 	}
 
 	@Override
 	public RationalNumber multiply(BigInteger multiplicand) {
-		BigInteger numerator = this.numerator.multiply(multiplicand);
-		BigInteger denominator = this.denominator;
+		if (isCompact() && isCompactValue(multiplicand)) {
+			return multiply(multiplicand.longValue());
+		}
 
-		return new RationalNumber(numerator, denominator, false);
+		return product(getNumerator(), getDenominator(), multiplicand);
 	}
 
 	@Override
 	public RationalNumber multiply(long multiplicand) {
-		return multiply(BigInteger.valueOf(multiplicand));
+		if (isCompact() && multiplicand != INFLATED) {
+			long gcd = gcdCompact(multiplicand, compactDenominator);
+			long numerator = multiplyCompact(compactNumerator, multiplicand / gcd);
+			if (numerator != INFLATED) {
+				return new RationalNumber(numerator, compactDenominator / gcd, false);
+			}
+		}
+
+		return product(getNumerator(), getDenominator(), BigInteger.valueOf(multiplicand));
 	}
 
 	@Override
 	public RationalNumber multiply(double multiplicand) {
-		return multiply(RationalNumber.valueOf(String.valueOf(multiplicand)));
+		return multiply(RationalNumber.valueOf(multiplicand));
 	}
 
 	@Override
@@ -228,101 +626,638 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 
 	@Override
 	public RationalNumber divide(BigInteger divisor) {
-		BigInteger numerator = this.numerator;
-		BigInteger denominator = this.denominator.multiply(divisor);
+		if (isCompact() && isCompactValue(divisor)) {
+			return divide(divisor.longValue());
+		}
 
-		return new RationalNumber(numerator, denominator, true);
+		return quotient(getNumerator(), getDenominator(), divisor);
 	}
 
 	@Override
 	public RationalNumber divide(long divisor) {
-		return divide(BigInteger.valueOf(divisor));
+		if (isCompact() && divisor != INFLATED) {
+			if (divisor == 0) {
+				throw new IllegalArgumentException("Denominator can not be zero");
+			}
+
+			long gcd = gcdCompact(compactNumerator, divisor);
+			long denominator = multiplyCompact(compactDenominator, divisor / gcd);
+			if (denominator != INFLATED) {
+				return new RationalNumber(compactNumerator / gcd, denominator, true);
+			}
+		}
+
+		return quotient(getNumerator(), getDenominator(), BigInteger.valueOf(divisor));
 	}
 
 	@Override
 	public RationalNumber divide(double divisor) {
-		return divide(RationalNumber.valueOf(String.valueOf(divisor)));
+		return divide(RationalNumber.valueOf(divisor));
 	}
 
-	@Override
-	public RationalNumber abs() {
-		return new RationalNumber(numerator.abs(), denominator);
-	}
+	/**
+	 * Henrici's addition of n1/d1 and n2/d2 using compact values (Knuth, TAOCP Vol. 2, 4.5.1).<br>
+	 * The gcd of the denominators is divided out before multiplying so the intermediate values stay small and a normalized result is returned for normalized arguments.
+	 * 
+	 * @return The sum or null if the sum does not fit in compact values
+	 */
+	private static RationalNumber sum(long n1, long d1, long n2, long d2) {
+		long gcd = gcdCompact(d1, d2);
+		if (gcd == 1) {
+			long numerator = addCompact(multiplyCompact(n1, d2), multiplyCompact(n2, d1));
+			long denominator = multiplyCompact(d1, d2);
 
-	@Override
-	public RationalNumber getReciprocalValue() {
-		if (denominator == ZERO) {
-			throw new ArithmeticException("Divide by zero");
+			return isCompactResult(numerator, denominator) ? new RationalNumber(numerator, denominator, false) : null;
 		}
 
-		return new RationalNumber(denominator, numerator, false);
-	}
+		long numerator = addCompact(multiplyCompact(n1, d2 / gcd), multiplyCompact(n2, d1 / gcd));
+		if (numerator == INFLATED) {
+			return null;
+		}
 
-	@Override
-	public RationalNumber getIntegerPart() {
-		return new RationalNumber(getIntegerPartAsBigInteger());
+		long secondGcd = gcdCompact(numerator, gcd);
+		long denominator = multiplyCompact(d1 / gcd, d2 / secondGcd);
 
+		return denominator == INFLATED ? null : new RationalNumber(numerator / secondGcd, denominator, false);
 	}
 
-	@Override
-	public BigInteger getIntegerPartAsBigInteger() {
-		return numerator.divide(denominator);
-	}
+	/**
+	 * Henrici's addition of n1/d1 and n2/d2. See: {@link #sum(long, long, long, long)}<br>
+	 * Large operands are multiplied in parallel. See: {@link ParallelMultiplication#multiply(BigInteger, BigInteger)}
+	 */
+	private static RationalNumber sum(BigInteger n1, BigInteger d1, BigInteger n2, BigInteger d2) {
+		BigInteger gcd = gcd(d1, d2);
+		if (gcd.equals(BigInteger.ONE)) {
+			return new RationalNumber(ParallelMultiplication.multiply(n1, d2).add(ParallelMultiplication.multiply(n2, d1)), ParallelMultiplication.multiply(d1, d2), false);
+		}
 
-	@Override
-	public RationalNumber getFractionalPart() {
-		return new RationalNumber(numerator.remainder(denominator), denominator);
+		BigInteger numerator = ParallelMultiplication.multiply(n1, d2.divide(gcd)).add(ParallelMultiplication.multiply(n2, d1.divide(gcd)));
+		BigInteger secondGcd = gcd(numerator, gcd);
+
+		return new RationalNumber(numerator.divide(secondGcd), ParallelMultiplication.multiply(d1.divide(gcd), d2.divide(secondGcd)), false);
 	}
 
-	@Override
-	public RationalNumber negate() {
-		return new RationalNumber(numerator.negate(), denominator, false);
+	/**
+	 * Henrici's multiplication of n1/d1 and n2/d2 using compact values (Knuth, TAOCP Vol. 2, 4.5.1).<br>
+	 * The gcds of each numerator with the opposite denominator are divided out before multiplying.
+	 * 
+	 * @return The product or null if the product does not fit in compact values
+	 */
+	private static RationalNumber product(long n1, long d1, long n2, long d2) {
+		long gcd = gcdCompact(n1, d2);
+		long secondGcd = gcdCompact(n2, d1);
+		long numerator = multiplyCompact(n1 / gcd, n2 / secondGcd);
+		long denominator = multiplyCompact(d1 / secondGcd, d2 / gcd);
+
+		return isCompactResult(numerator, denominator) ? new RationalNumber(numerator, denominator, false) : null;
 	}
 
-	@Override
-	public int compareTo(RationalNumber o) {
-		if (o == null) {
-			throw new IllegalArgumentException("Null argument is not allowed in the comparation of RationalNumbers");
-		}
+	/** Multiplication of n/d with an integer. The gcd of the integer and the denominator is divided out before multiplying */
+	private static RationalNumber product(BigInteger n, BigInteger d, BigInteger multiplicand) {
+		BigInteger gcd = gcd(multiplicand, d);
 
-		return this.subtract(o).numerator.compareTo(ZERO);
+		return new RationalNumber(ParallelMultiplication.multiply(n, multiplicand.divide(gcd)), d.divide(gcd), false);
 	}
 
-	private boolean isNormalized() {
-		return numerator.gcd(denominator).equals(ONE);
+	/** Division of n/d by an integer. The gcd of the numerator and the integer is divided out before multiplying */
+	private static RationalNumber quotient(BigInteger n, BigInteger d, BigInteger divisor) {
+		checkArguments(n, divisor);
+
+		BigInteger gcd = gcd(n, divisor);
+
+		return new RationalNumber(n.divide(gcd), d.multiply(divisor.divide(gcd)), true);
 	}
 
-	public RationalNumber getNormalizedRationalNumber() {
-		BigInteger gcd = numerator.gcd(denominator);
+	/**
+	 * Henrici's multiplication of n1/d1 and n2/d2. See: {@link #product(long, long, long, long)}<br>
+	 * Large operands are multiplied in parallel. See: {@link ParallelMultiplication#multiply(BigInteger, BigInteger)}
+	 */
+	private static RationalNumber product(BigInteger n1, BigInteger d1, BigInteger n2, BigInteger d2) {
+		BigInteger gcd = gcd(n1, d2);
+		BigInteger secondGcd = gcd(n2, d1);
 
-		return new RationalNumber(numerator.divide(gcd), denominator.divide(gcd), false);
+		return new RationalNumber(ParallelMultiplication.multiply(n1.divide(gcd), n2.divide(secondGcd)), ParallelMultiplication.multiply(d1.divide(secondGcd), d2.divide(gcd)), false);
 	}
 
 	@Override
-	public String toStringExact() {
-		StringBuffer resultBuffer = new StringBuffer();
-		RationalNumber fractionalPart = getFractionalPart();
-		divisionAsString(resultBuffer, fractionalPart.numerator.abs(), fractionalPart.denominator);
-		if (resultBuffer.length() > 0) {
-			resultBuffer.insert(0, ".");
-		}
-		String integerPart = getIntegerPartAsBigInteger().toString();
-		resultBuffer.insert(0, integerPart);
-		if (isNegative() && integerPart.equals("0")) {
-			resultBuffer.insert(0, "-");
+	public RationalNumber abs() {
+		if (isCompact()) {
+			return compactNumerator < 0 ? new RationalNumber(-compactNumerator, compactDenominator, false) : this;
 		}
-		return resultBuffer.toString();
+
+		return new RationalNumber(numerator.abs(), denominator);
 	}
 
 	@Override
-	public String toString(int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+	public RationalNumber getReciprocalValue() {
+		if (isCompact()) {
+			if (compactNumerator == 0) {
+				throw new ArithmeticException("Divide by zero");
+			}
 
-		StringBuffer resultBuffer = new StringBuffer();
+			return new RationalNumber(compactDenominator, compactNumerator, true);
+		}
+
+		if (numerator.signum() == 0) {
+			throw new ArithmeticException("Divide by zero");
+		}
+
+		return new RationalNumber(denominator, numerator, false);
+	}
+
+	/**
+	 * Returns this^exponent.<br>
+	 * The numerator and the denominator are raised separately using repeated squaring, so the power of a normalized number is normalized without calculating a
+	 * greatest common divisor. A negative exponent raises the reciprocal value.
+	 */
+	@Override
+	public RationalNumber pow(int exponent) {
+		if (exponent < 0) {
+			return getReciprocalValue().pow(BigInteger.valueOf(exponent).negate());
+		}
+
+		if (exponent == 0) {
+			return ONE;
+		}
+
+		RationalNumber power = null;
+		if (isCompact()) {
+			long numerator = powCompact(compactNumerator, exponent);
+			long denominator = powCompact(compactDenominator, exponent);
+			if (isCompactResult(numerator, denominator)) {
+				power = new RationalNumber(numerator, denominator, false);
+			}
+		}
+
+		if (power == null) {
+			power = new RationalNumber(getNumerator().pow(exponent), getDenominator().pow(exponent), false);
+		}
+
+		if (normalizedRationalNumber == this) {
+			power.normalizedRationalNumber = power;
+		}
+
+		return power;
+	}
+
+	/**
+	 * Returns this^exponent. See: {@link #pow(int)}<br>
+	 * Exponents which do not fit in an int are only accepted for the numbers -1, 0 and 1.
+	 */
+	@Override
+	public RationalNumber pow(BigInteger exponent) {
+		if (exponent == null) {
+			throw new IllegalArgumentException("\nNo exponent specified");
+		}
+
+		if (exponent.bitLength() < Integer.SIZE) {
+			return pow(exponent.intValue());
+		}
+
+		if (exponent.signum() < 0) {
+			return getReciprocalValue().pow(exponent.negate());
+		}
+
+		if (signum() == 0) {
+			return ZERO;
+		}
+
+		if (isCompact() ? Math.abs(compactNumerator) == compactDenominator : numerator.abs().equals(denominator)) {
+			return isNegative() && exponent.testBit(0) ? MINUS_ONE : ONE;
+		}
+
+		throw new ArithmeticException(String.format("\nThe exponent %s is too large", exponent));
+	}
+
+	/** Returns base^exponent (exponent >= 0) using repeated squaring or {@link #INFLATED} if the power does not fit in a compact value */
+	static long powCompact(long base, int exponent) {
+		long power = 1;
+		while (true) {
+			if ((exponent & 1) != 0) {
+				power = multiplyCompact(power, base);
+				if (power == INFLATED) {
+					return INFLATED;
+				}
+			}
+
+			exponent >>>= 1;
+			if (exponent == 0) {
+				return power;
+			}
+
+			base = multiplyCompact(base, base);
+			if (base == INFLATED) {
+				return INFLATED;
+			}
+		}
+	}
+
+	@Override
+	public RationalNumber getIntegerPart() {
+		if (isCompact()) {
+			return of(compactNumerator / compactDenominator);
+		}
+
+		return new RationalNumber(getIntegerPartAsBigInteger());
+	}
+
+	@Override
+	public BigInteger getIntegerPartAsBigInteger() {
+		if (isCompact()) {
+			return BigInteger.valueOf(compactNumerator / compactDenominator);
+		}
+
+		BigInteger integerPart = this.integerPart;
+		if (integerPart == null) {
+			integerPart = numerator.divide(denominator);
+			this.integerPart = integerPart;
+		}
+
+		return integerPart;
+	}
+
+	/** Returns the double closest to this number. Ties are rounded to the double with an even least significant bit */
+	public double doubleValue() {
+		// Both components are exact doubles, so the division is correctly rounded
+		if (isCompact() && Math.abs(compactNumerator) <= 1L << (DOUBLE_SIGNIFICAND_BITS + 1) && compactDenominator <= 1L << (DOUBLE_SIGNIFICAND_BITS + 1)) {
+			return (double) compactNumerator / (double) compactDenominator;
+		}
+
+		return toBinaryFloatingPoint(DOUBLE_SIGNIFICAND_BITS + 1, -1074, 1023);
+	}
+
+	/** Returns the float closest to this number. Ties are rounded to the float with an even least significant bit */
+	public float floatValue() {
+		// The value returned is exactly representable as float
+		return (float) toBinaryFloatingPoint(24, -149, 127);
+	}
+
+	/**
+	 * Rounds this number to a binary floating point number (round half to even)
+	 * 
+	 * @param precision
+	 *            Number of significand bits of the floating point number
+	 * @param minimumExponent
+	 *            Exponent of the least significant bit of the smallest subnormal number
+	 * @param maximumExponent
+	 *            Exponent of the most significant bit of the largest finite number
+	 * @return The rounded number. The returned double is the rounded number exactly, or infinity if the rounded number does not fit
+	 */
+	private double toBinaryFloatingPoint(int precision, int minimumExponent, int maximumExponent) {
+		int signum = signum();
+		if (signum == 0) {
+			return 0;
+		}
+
+		BigInteger n = getNumerator().abs();
+		BigInteger d = getDenominator();
+
+		// Exponent e of the most significant bit: 2^e <= n/d < 2^(e + 1)
+		int exponent = n.bitLength() - d.bitLength();
+		if (n.shiftLeft(Math.max(0, -exponent)).compareTo(d.shiftLeft(Math.max(0, exponent))) < 0) {
+			exponent--;
+		}
+
+		if (exponent > maximumExponent) {
+			return signum * Double.POSITIVE_INFINITY;
+		}
+
+		if (exponent < minimumExponent - 1) {
+			// Smaller than half of the smallest subnormal number
+			return signum * 0.0;
+		}
+
+		// Exponent of the least significant bit of the result
+		int ulpExponent = Math.max(exponent - precision + 1, minimumExponent);
+		BigInteger[] divideAndRemainder = ulpExponent <= 0 ? n.shiftLeft(-ulpExponent).divideAndRemainder(d) : n.divideAndRemainder(d.shiftLeft(ulpExponent));
+		BigInteger divisor = ulpExponent <= 0 ? d : d.shiftLeft(ulpExponent);
+
+		long significand = divideAndRemainder[0].longValue();
+		int comparison = divideAndRemainder[1].shiftLeft(1).compareTo(divisor);
+		if (comparison > 0 || comparison == 0 && (significand & 1) == 1) {
+			significand++;
+		}
+
+		// The significand has at most precision + 1 bits, so the result is exact unless it overflows
+		return signum * Math.scalb((double) significand, ulpExponent);
+	}
+
+	@Override
+	public RationalNumber getFractionalPart() {
+		if (isCompact()) {
+			return new RationalNumber(compactNumerator % compactDenominator, compactDenominator, false);
+		}
+
+		return new RationalNumber(numerator.remainder(denominator), denominator);
+	}
+
+	@Override
+	public RationalNumber negate() {
+		if (isCompact()) {
+			return new RationalNumber(-compactNumerator, compactDenominator, false);
+		}
+
+		return new RationalNumber(numerator.negate(), denominator, false);
+	}
+
+	@Override
+	public int compareTo(RationalNumber o) {
+		if (o == null) {
+			throw new IllegalArgumentException("Null argument is not allowed in the comparation of RationalNumbers");
+		}
+
+		int signum = signum();
+		int otherSignum = o.signum();
+		if (signum != otherSignum) {
+			return signum > otherSignum ? 1 : -1;
+		}
+
+		if (signum == 0) {
+			return 0;
+		}
+
+		// Compare this.numerator * o.denominator with o.numerator * this.denominator
+		if (isCompact() && o.isCompact()) {
+			long product = multiplyCompact(compactNumerator, o.compactDenominator);
+			long otherProduct = multiplyCompact(o.compactNumerator, compactDenominator);
+			if (isCompactResult(product, otherProduct)) {
+				return product < otherProduct ? -1 : (product == otherProduct ? 0 : 1);
+			}
+		}
+
+		// The bit length of a product of x and y is bitLength(x) + bitLength(y) or one less.
+		// A product has at most two bits more than its minimum bit length: one for the product and one because
+		// the bit length of a negative number can be one less than the bit length of its absolute value.
+		int productMinimumBitLength = getNumeratorBitLength() + o.getDenominatorBitLength() - 1;
+		int otherProductMinimumBitLength = o.getNumeratorBitLength() + getDenominatorBitLength() - 1;
+		if (productMinimumBitLength > otherProductMinimumBitLength + 2) {
+			return signum;
+		}
+
+		if (otherProductMinimumBitLength > productMinimumBitLength + 2) {
+			return -signum;
+		}
+
+		return getNumerator().multiply(o.getDenominator()).compareTo(o.getNumerator().multiply(getDenominator()));
+	}
+
+	private int getNumeratorBitLength() {
+		return isCompact() ? Long.SIZE - Long.numberOfLeadingZeros(Math.abs(compactNumerator)) : numerator.bitLength();
+	}
+
+	private int getDenominatorBitLength() {
+		return isCompact() ? Long.SIZE - Long.numberOfLeadingZeros(compactDenominator) : denominator.bitLength();
+	}
+
+	/** Returns the signum function of this rational number */
+	int signum() {
+		if (isCompact()) {
+			return Long.signum(compactNumerator);
+		}
+
+		return numerator.signum();
+	}
+
+	/** Returns true if neither of the components produced by compact arithmetic overflowed */
+	private static boolean isCompactResult(long numerator, long denominator) {
+		return numerator != INFLATED && denominator != INFLATED;
+	}
+
+	private boolean isNormalized() {
+		return getNormalizedRationalNumber() == this;
+	}
+
+	/** Returns the normalized rational number. The result is calculated once and cached, both in this number and in the result */
+	public RationalNumber getNormalizedRationalNumber() {
+		RationalNumber normalizedRationalNumber = this.normalizedRationalNumber;
+		if (normalizedRationalNumber == null) {
+			if (isCompact()) {
+				long gcd = gcdCompact(compactNumerator, compactDenominator);
+				normalizedRationalNumber = gcd == 1 ? this : new RationalNumber(compactNumerator / gcd, compactDenominator / gcd, false);
+			} else {
+				BigInteger gcd = gcd(numerator, denominator);
+				normalizedRationalNumber = gcd.equals(BigInteger.ONE) ? this : new RationalNumber(numerator.divide(gcd), denominator.divide(gcd), false);
+			}
+
+			normalizedRationalNumber.normalizedRationalNumber = normalizedRationalNumber;
+			this.normalizedRationalNumber = normalizedRationalNumber;
+		}
+
+		return normalizedRationalNumber;
+	}
+
+	/**
+	 * Method to normalize this rational number according to the specified policy
+	 * 
+	 * @param normalizationPolicy
+	 *            The policy which decides if normalization is required
+	 * @param bitLengthThreshold
+	 *            The bit length above which the number is normalized if the policy is {@link NormalizationPolicy#LAZY}
+	 * @return The normalized rational number or this rational number if no normalization is required
+	 */
+	public RationalNumber normalize(NormalizationPolicy normalizationPolicy, int bitLengthThreshold) {
+		if (normalizationPolicy == null) {
+			throw new IllegalArgumentException("No normalization policy specified");
+		}
+
+		if (normalizationPolicy.isNormalizationRequired(getBitLength(), bitLengthThreshold)) {
+			return getNormalizedRationalNumber();
+		}
+
+		return this;
+	}
+
+	/**
+	 * Method to find the rational number closest to this number with a denominator not larger than the specified maximum.<br>
+	 * The approximation is the last convergent or the best semiconvergent of the continued fraction of this number.
+	 * 
+	 * @param maximumDenominator
+	 *            The largest allowed denominator N+
+	 * @return The normalized closest rational number
+	 */
+	public RationalNumber limitDenominator(BigInteger maximumDenominator) {
+		if (maximumDenominator == null || maximumDenominator.signum() != 1) {
+			throw new IllegalArgumentException(String.format("\nThe maximum denominator %s is not a positive integer", maximumDenominator));
+		}
+
+		RationalNumber normalizedRationalNumber = getNormalizedRationalNumber();
+		BigInteger n = normalizedRationalNumber.getNumerator().abs();
+		BigInteger d = normalizedRationalNumber.getDenominator();
+		if (d.compareTo(maximumDenominator) <= 0) {
+			return normalizedRationalNumber;
+		}
+
+		// Convergents p0/q0 and p1/q1. The loop ends before the last convergent (with denominator d) is reached
+		BigInteger p0 = BigInteger.ZERO;
+		BigInteger q0 = BigInteger.ONE;
+		BigInteger p1 = BigInteger.ONE;
+		BigInteger q1 = BigInteger.ZERO;
+		while (true) {
+			BigInteger[] divideAndRemainder = n.divideAndRemainder(d);
+			BigInteger q2 = q0.add(divideAndRemainder[0].multiply(q1));
+			if (q2.compareTo(maximumDenominator) > 0) {
+				break;
+			}
+
+			BigInteger p2 = p0.add(divideAndRemainder[0].multiply(p1));
+			p0 = p1;
+			q0 = q1;
+			p1 = p2;
+			q1 = q2;
+			n = d;
+			d = divideAndRemainder[1];
+		}
+
+		// Best semiconvergent
+		BigInteger k = maximumDenominator.subtract(q0).divide(q1);
+		RationalNumber semiconvergent = new RationalNumber(p0.add(k.multiply(p1)), q0.add(k.multiply(q1)), false);
+		RationalNumber convergent = new RationalNumber(p1, q1, false);
+
+		RationalNumber absoluteValue = normalizedRationalNumber.abs();
+		RationalNumber approximation = convergent.subtract(absoluteValue).abs().compareTo(semiconvergent.subtract(absoluteValue).abs()) <= 0 ? convergent
+				: semiconvergent;
+
+		return signum() < 0 ? approximation.negate() : approximation;
+	}
+
+	/**
+	 * Returns the smallest number m / 2^k which is not smaller than this number, with k chosen such that |m| has about the given number of significant bits.<br>
+	 * Used for keeping upper bounds, like error bounds, small.
+	 * 
+	 * @param significantBits
+	 *            Number of significant bits of the numerator
+	 */
+	public RationalNumber roundUp(int significantBits) {
+		if (significantBits < 1) {
+			throw new IllegalArgumentException("\nThe number of significant bits should be positive");
+		}
+
+		BigInteger numerator = getNumerator();
+		if (numerator.signum() == 0) {
+			return ZERO;
+		}
+
+		BigInteger denominator = getDenominator();
+		int k = significantBits - (numerator.bitLength() - denominator.bitLength());
+		BigInteger[] divideAndRemainder = k >= 0 ? numerator.shiftLeft(k).divideAndRemainder(denominator) : numerator.divideAndRemainder(denominator.shiftLeft(-k));
+		BigInteger m = divideAndRemainder[1].signum() > 0 ? divideAndRemainder[0].add(BigInteger.ONE) : divideAndRemainder[0];
+
+		return k >= 0 ? new RationalNumber(m, BigInteger.ONE.shiftLeft(k)) : new RationalNumber(m.shiftLeft(-k));
+	}
+
+	/**
+	 * Method to find the rational number with the smallest denominator which differs at most half a unit in the last decimal digit from this number.<br>
+	 * The approximation is found by expanding the continued fractions of the bounds of the interval until they differ.
+	 * 
+	 * @param decimalDigits
+	 *            Number of decimal digits after the decimal point
+	 * @return The normalized approximation
+	 */
+	public RationalNumber approximate(int decimalDigits) {
+		if (decimalDigits < 0) {
+			throw new IllegalArgumentException(String.format("\nThe number of decimal digits %d should not be negative", decimalDigits));
+		}
+
+		RationalNumber delta = new RationalNumber(BigInteger.ONE, getTenPowExponent(decimalDigits).shiftLeft(1), false);
+		RationalNumber lowerBound = subtract(delta);
+		RationalNumber upperBound = add(delta);
+
+		if (lowerBound.signum() <= 0 && upperBound.signum() >= 0) {
+			return ZERO;
+		}
+
+		if (upperBound.signum() < 0) {
+			return getSimplestRationalNumber(upperBound.negate(), lowerBound.negate()).negate();
+		}
+
+		return getSimplestRationalNumber(lowerBound, upperBound);
+	}
+
+	/** Returns the rational number with the smallest denominator in the interval [lowerBound, upperBound]. Precondition: 0 < lowerBound <= upperBound */
+	private static RationalNumber getSimplestRationalNumber(RationalNumber lowerBound, RationalNumber upperBound) {
+		// Interval [a/b, c/d]
+		BigInteger a = lowerBound.getNumerator();
+		BigInteger b = lowerBound.getDenominator();
+		BigInteger c = upperBound.getNumerator();
+		BigInteger d = upperBound.getDenominator();
+
+		// Convergents p0/q0 and p1/q1 of the common part of the continued fractions
+		BigInteger p0 = BigInteger.ZERO;
+		BigInteger q0 = BigInteger.ONE;
+		BigInteger p1 = BigInteger.ONE;
+		BigInteger q1 = BigInteger.ZERO;
+		while (true) {
+			BigInteger[] divideAndRemainder = a.divideAndRemainder(b);
+			BigInteger integerPart = divideAndRemainder[0];
+			boolean finished = divideAndRemainder[1].signum() == 0;
+			if (!finished && integerPart.add(BigInteger.ONE).multiply(d).compareTo(c) <= 0) {
+				// The upper bound is not smaller than the next integer
+				integerPart = integerPart.add(BigInteger.ONE);
+				finished = true;
+			}
+
+			BigInteger p2 = p0.add(integerPart.multiply(p1));
+			BigInteger q2 = q0.add(integerPart.multiply(q1));
+			if (finished) {
+				return new RationalNumber(p2, q2, false);
+			}
+
+			p0 = p1;
+			q0 = q1;
+			p1 = p2;
+			q1 = q2;
+
+			// Both bounds lie strictly between integerPart and integerPart + 1: continue with [1 / (upper - integerPart), 1 / (lower - integerPart)]
+			BigInteger newA = d;
+			BigInteger newB = c.subtract(integerPart.multiply(d));
+			c = b;
+			d = divideAndRemainder[1];
+			a = newA;
+			b = newB;
+		}
+	}
+
+	/** Returns the largest bit length of the numerator and the denominator */
+	public int getBitLength() {
+		int bitLength = this.bitLength;
+		if (bitLength == 0) {
+			if (isCompact()) {
+				bitLength = Long.SIZE - Long.numberOfLeadingZeros(Math.abs(compactNumerator) | compactDenominator);
+			} else {
+				bitLength = Math.max(numerator.bitLength(), denominator.bitLength());
+			}
+
+			this.bitLength = bitLength;
+		}
+
+		return bitLength;
+	}
+
+	@Override
+	public String toStringExact() {
+		StringBuffer resultBuffer = new StringBuffer();
+		RationalNumber fractionalPart = getFractionalPart();
+		divisionAsString(resultBuffer, fractionalPart.getNumerator().abs(), fractionalPart.getDenominator());
+		if (resultBuffer.length() > 0) {
+			resultBuffer.insert(0, ".");
+		}
+		String integerPart = getIntegerPartAsBigInteger().toString();
+		resultBuffer.insert(0, integerPart);
+		if (isNegative() && integerPart.equals("0")) {
+			resultBuffer.insert(0, "-");
+		}
+		return resultBuffer.toString();
+	}
+
+	@Override
+	public String toString(int numberOfDigitsAfterDecimalPoint, boolean showDelta) {
+
+		StringBuffer resultBuffer = new StringBuffer();
 
 		RationalNumber delta = toStringGetDelta(resultBuffer, numberOfDigitsAfterDecimalPoint, showDelta);
 
 		if (showDelta) {
-			if (!delta.numerator.equals(ZERO)) {
+			if (delta.signum() != 0) {
 				resultBuffer.append("\n+Delta:\n").append(delta);
 			}
 		}
@@ -344,7 +1279,7 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 
 		RationalNumber r = this.abs();
 		if (!showDelta) {
-			r = r.add(new RationalNumber(5).divide(getTenPowExponent(numberOfDigitsAfterDecimalPoint + 1)));
+			r = r.add(of(5).divide(getTenPowExponent(numberOfDigitsAfterDecimalPoint + 1)));
 		}
 
 		r = r.multiply(getTenPowExponent(numberOfDigitsAfterDecimalPoint));
@@ -375,7 +1310,7 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 	 */
 	@Override
 	public String toString() {
-		String toString = "Numerator: " + numerator + "\nDenominator: " + denominator;
+		String toString = "Numerator: " + getNumerator() + "\nDenominator: " + getDenominator();
 
 		if (!isNormalized()) {
 			toString += "\nNormalized" + getNormalizedRationalNumber().toString();
@@ -388,17 +1323,29 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 		if (numberBeforeDecimalPoint < 1 || numberAfterDecimalPoint < 1) {
 			throw new IllegalArgumentException("The numberBeforeDecimalPoint and numberAfterDecimalPoint should be positive integers");
 		}
-		Map<ArithmeticComponentName, String> numberElements = ArithmeticComponentResolver.getNumberElements(toStringExact());
 
-		String integerPart = StringUtils.repeat(" ", numberBeforeDecimalPoint - numberElements.get(ArithmeticComponentName.INTEGER_NUMBER).length())
-				+ numberElements.get(ArithmeticComponentName.INTEGER_NUMBER);
+		String integerPart = getIntegerPartAsBigInteger().toString();
+		if (isNegative() && integerPart.equals("0")) {
+			integerPart = "-" + integerPart;
+		}
 
-		StringBuffer fractionalPart = new StringBuffer(numberElements.get(ArithmeticComponentName.FRACTION_NON_REPEATING_BLOCK));
-		while (fractionalPart.length() <= numberAfterDecimalPoint) {
-			fractionalPart.append(numberElements.get(ArithmeticComponentName.FRACTION_REPEATING_BLOCK));
+		StringBuffer resultBuffer = new StringBuffer(StringUtils.repeat(" ", numberBeforeDecimalPoint - integerPart.length()));
+		resultBuffer.append(integerPart).append(".");
+
+		// Only the requested digits are calculated. A finite number of digits is padded with zeros
+		DecimalDigitIterator digitIterator = getDecimalDigitIterator();
+		for (int i = 0; i < numberAfterDecimalPoint; i++) {
+			resultBuffer.append(digitIterator.hasNext() ? digitIterator.next().charValue() : '0');
 		}
 
-		return integerPart + "." + fractionalPart.substring(0, numberAfterDecimalPoint);
+		return resultBuffer.toString();
+	}
+
+	/** Returns a lazy iterator over the digits after the decimal point of the absolute value of this number */
+	public DecimalDigitIterator getDecimalDigitIterator() {
+		RationalNumber fractionalPart = getFractionalPart();
+
+		return new DecimalDigitIterator(fractionalPart.getNumerator().abs(), fractionalPart.getDenominator());
 	}
 
 	@Override
@@ -412,7 +1359,39 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 		}
 
 		RationalNumber otherRationalNumber = (RationalNumber) obj;
-		return numerator.multiply(otherRationalNumber.denominator).equals(denominator.multiply(otherRationalNumber.numerator));
+		if (isCompact() && otherRationalNumber.isCompact()) {
+			long product = multiplyCompact(compactNumerator, otherRationalNumber.compactDenominator);
+			long otherProduct = multiplyCompact(compactDenominator, otherRationalNumber.compactNumerator);
+			if (isCompactResult(product, otherProduct)) {
+				return product == otherProduct;
+			}
+		}
+
+		return getNumerator().multiply(otherRationalNumber.getDenominator()).equals(getDenominator().multiply(otherRationalNumber.getNumerator()));
+	}
+
+	/**
+	 * The hash code is calculated using the normalized rational number and cached.<br>
+	 * Because normalized numbers which fit in longs are always held as compact values, equal rational numbers have equal hash codes.
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCode;
+		if (hashCode == 0) {
+			RationalNumber normalizedRationalNumber = getNormalizedRationalNumber();
+			if (normalizedRationalNumber.isCompact()) {
+				hashCode = 31 * hashCode(normalizedRationalNumber.compactNumerator) + hashCode(normalizedRationalNumber.compactDenominator);
+			} else {
+				hashCode = 31 * normalizedRationalNumber.numerator.hashCode() + normalizedRationalNumber.denominator.hashCode();
+			}
+			this.hashCode = hashCode;
+		}
+
+		return hashCode;
+	}
+
+	private static int hashCode(long value) {
+		return (int) (value ^ (value >>> 32));
 	}
 
 	/**
@@ -421,53 +1400,357 @@ public class RationalNumber implements NumberOperations<RationalNumber> {
 	 * digits enclosed in curly braces and appended with an R. <br>
 	 * At least one of the digits in the digits between braces is not <b>0.</b> <br>
 	 * <br>
+	 * The lengths of the non repeating and repeating blocks are calculated by the {@link DecimalDigitIterator} without storing intermediate remainders.<br>
+	 * <br>
 	 * Protected for test purposes
 	 * 
 	 * @param remainder
 	 *            remainder element N+ or zero
 	 * @param denominator
-	 *            RationalNumber minusOneDivSeven = new RationalNumber(ONE, BigInteger.valueOf(-7)); assertEquals("-0.1", minusOneDivSeven.toString(1, showDelta)); denominator N+
-	 * @return
+	 *            denominator N+
 	 */
 	protected static void divisionAsString(StringBuffer resultBuffer, BigInteger remainder, BigInteger denominator) {
-		BigInteger rest = remainder;
-		Map<BigInteger, Integer> divisions = new HashMap<>();
-		Integer repeatAfterPosition = null;
-		int position = 0;
+		DecimalDigitIterator digitIterator = new DecimalDigitIterator(remainder, denominator);
+		long nonRepeatingLength = digitIterator.getNonRepeatingLength();
+		long repeatingLength = digitIterator.getRepeatingLength();
 
-		while (rest != ZERO && repeatAfterPosition == null) {
-			rest = rest.multiply(TEN);
-			repeatAfterPosition = divisions.get(rest);
-			if (repeatAfterPosition == null) {
-				divisions.put(rest, position);
-				BigInteger[] divideAndRemainder = rest.divideAndRemainder(denominator);
-				resultBuffer.append(divideAndRemainder[0].toString());
-				++position;
-				rest = divideAndRemainder[1];
+		for (long i = 0; i < nonRepeatingLength; i++) {
+			resultBuffer.append(digitIterator.next().charValue());
+		}
+
+		if (repeatingLength > 0) {
+			resultBuffer.append("{");
+			for (long i = 0; i < repeatingLength; i++) {
+				resultBuffer.append(digitIterator.next().charValue());
 			}
+			resultBuffer.append("}R");
 		}
+	}
 
-		if (repeatAfterPosition != null) {
-			resultBuffer.insert(repeatAfterPosition, "{").append("}R");
+	/**
+	 * Writes this number in a compact binary format to the buffer, starting at the current position of the buffer.<br>
+	 * The format consists of a flag byte followed by the numerator and, unless the denominator is one, the denominator.<br>
+	 * Components which fit in a long are written as variable length integers (7 bits per byte). Larger components are written as a byte count followed by the
+	 * two's-complement bytes.<br>
+	 * The numerator and denominator are written as they are, this number is not normalized.
+	 * 
+	 * @param buffer
+	 *            The buffer with at least {@link #getEncodedLength()} remaining bytes
+	 */
+	public void encode(ByteBuffer buffer) {
+		boolean bigNumerator = !isCompact() && !isCompactValue(numerator);
+		boolean bigDenominator = !isCompact() && !isCompactValue(denominator);
+		boolean unitDenominator = isCompact() ? compactDenominator == 1 : denominator.equals(BigInteger.ONE);
+
+		buffer.put((byte) ((unitDenominator ? UNIT_DENOMINATOR_FLAG : 0) | (bigNumerator ? BIG_NUMERATOR_FLAG : 0) | (bigDenominator ? BIG_DENOMINATOR_FLAG : 0)));
+
+		if (bigNumerator) {
+			BinaryCoding.putBigInteger(buffer, numerator);
+		} else {
+			BinaryCoding.putSignedVariableLength(buffer, isCompact() ? compactNumerator : numerator.longValue());
+		}
+
+		if (bigDenominator) {
+			BinaryCoding.putBigInteger(buffer, denominator);
+		} else if (!unitDenominator) {
+			BinaryCoding.putUnsignedVariableLength(buffer, isCompact() ? compactDenominator : denominator.longValue());
 		}
 	}
 
+	/** Returns the number of bytes written by {@link #encode(ByteBuffer)} */
+	public int getEncodedLength() {
+		if (isCompact()) {
+			return 1 + BinaryCoding.getSignedVariableLengthSize(compactNumerator)
+					+ (compactDenominator == 1 ? 0 : BinaryCoding.getUnsignedVariableLengthSize(compactDenominator));
+		}
+
+		int numeratorLength = isCompactValue(numerator) ? BinaryCoding.getSignedVariableLengthSize(numerator.longValue()) : BinaryCoding.getBigIntegerSize(numerator);
+		int denominatorLength = 0;
+		if (!denominator.equals(BigInteger.ONE)) {
+			denominatorLength = isCompactValue(denominator) ? BinaryCoding.getUnsignedVariableLengthSize(denominator.longValue()) : BinaryCoding
+					.getBigIntegerSize(denominator);
+		}
+
+		return 1 + numeratorLength + denominatorLength;
+	}
+
+	/**
+	 * Reads a number written by {@link #encode(ByteBuffer)} from the buffer, starting at the current position of the buffer.
+	 * 
+	 * @param buffer
+	 *            The buffer containing the encoded number
+	 * @return The decoded number
+	 */
+	public static RationalNumber decode(ByteBuffer buffer) {
+		if (buffer == null) {
+			throw new IllegalArgumentException("\nNo buffer specified");
+		}
+
+		int flags = buffer.get();
+		if ((flags & ~(UNIT_DENOMINATOR_FLAG | BIG_NUMERATOR_FLAG | BIG_DENOMINATOR_FLAG)) != 0
+				|| (flags & (UNIT_DENOMINATOR_FLAG | BIG_DENOMINATOR_FLAG)) == (UNIT_DENOMINATOR_FLAG | BIG_DENOMINATOR_FLAG)) {
+			throw new IllegalArgumentException(String.format("\nIllegal flags %d in binary encoded rational number", flags));
+		}
+
+		if ((flags & (BIG_NUMERATOR_FLAG | BIG_DENOMINATOR_FLAG)) == 0) {
+			long numerator = BinaryCoding.getSignedVariableLength(buffer);
+			if ((flags & UNIT_DENOMINATOR_FLAG) != 0) {
+				return numerator == INFLATED ? new RationalNumber(numerator, 1, false) : of(numerator);
+			}
+
+			long denominator = BinaryCoding.getUnsignedVariableLength(buffer);
+			if (denominator <= 0) {
+				throw new IllegalArgumentException(String.format("\nIllegal denominator %d in binary encoded rational number", denominator));
+			}
+
+			return new RationalNumber(numerator, denominator, false);
+		}
+
+		BigInteger numerator = (flags & BIG_NUMERATOR_FLAG) != 0 ? BinaryCoding.getBigInteger(buffer) : BigInteger.valueOf(BinaryCoding.getSignedVariableLength(buffer));
+		BigInteger denominator = BigInteger.ONE;
+		if ((flags & BIG_DENOMINATOR_FLAG) != 0) {
+			denominator = BinaryCoding.getBigInteger(buffer);
+		} else if ((flags & UNIT_DENOMINATOR_FLAG) == 0) {
+			denominator = BigInteger.valueOf(BinaryCoding.getUnsignedVariableLength(buffer));
+		}
+
+		if (denominator.signum() != 1) {
+			throw new IllegalArgumentException(String.format("\nIllegal denominator %s in binary encoded rational number", denominator));
+		}
+
+		return new RationalNumber(numerator, denominator, false);
+	}
+
 	public static RationalNumber valueOf(String numberAsString) {
 		if (StringUtils.isBlank(numberAsString)) {
 			throw new IllegalArgumentException("\nNull or blank numberAsString is not accepted");
 		}
 
-		Map<ArithmeticComponentName, String> numberElements = ArithmeticComponentResolver.getNumberElements(numberAsString);
+		return valueOf(numberAsString, 0, numberAsString.length());
+	}
+
+	/**
+	 * Parses the characters from start (inclusive) up to end (exclusive) as a number.<br>
+	 * The accepted grammar is the grammar of {@link ArithmeticComponentRegularExpression#ANY_NUMBER}: integer, decimal, decimal with a repeating block (2.3{456}R), scientific
+	 * and scientific with a repeating block (2.3{456}RE-12) numbers.<br>
+	 * The characters are scanned once. Digits are accumulated in longs and only numbers which do not fit in longs are calculated using big integers.
+	 * 
+	 * @param chars
+	 *            The characters containing the number
+	 * @param start
+	 *            Index of the first character of the number
+	 * @param end
+	 *            Index after the last character of the number
+	 * @return The normalized rational number
+	 */
+	public static RationalNumber valueOf(CharSequence chars, int start, int end) {
+		if (chars == null) {
+			throw new IllegalArgumentException("\nNull chars is not accepted");
+		}
+
+		if (start < 0 || end > chars.length() || start >= end) {
+			throw new IllegalArgumentException(String.format("\nThe range [%d, %d) is not a non empty range within the %d characters", start, end, chars.length()));
+		}
+
+		int position = start;
+		boolean negative = chars.charAt(position) == '-';
+		if (negative) {
+			position++;
+		}
+
+		// Integer part: 0 or a non zero digit followed by digits
+		DigitAccumulator digits = new DigitAccumulator();
+		int integerPartStart = position;
+		position = digits.accumulate(chars, position, end);
+		int integerPartLength = position - integerPartStart;
+		if (integerPartLength == 0 || integerPartLength > 1 && chars.charAt(integerPartStart) == '0') {
+			throw notANumber(chars, start, end);
+		}
+
+		boolean zeroIntegerPart = chars.charAt(integerPartStart) == '0';
+		boolean fractionalPart = false;
+		int nonRepeatingLength = 0;
+		int repeatingLength = 0;
+		long compactNonRepeatingValue = 0;
+		BigInteger nonRepeatingValue = null;
+
+		if (position < end && chars.charAt(position) == '.') {
+			fractionalPart = true;
+			position++;
+
+			int nonRepeatingStart = position;
+			position = digits.accumulate(chars, position, end);
+			nonRepeatingLength = position - nonRepeatingStart;
+
+			if (position < end && chars.charAt(position) == '{') {
+				// The value of the digits up to the repeating block
+				compactNonRepeatingValue = digits.getCompactValue();
+				nonRepeatingValue = digits.isCompact() ? null : digits.getValue();
+
+				int repeatingStart = ++position;
+				position = digits.accumulate(chars, position, end);
+				repeatingLength = position - repeatingStart;
+
+				// The repeating block contains at least one non zero digit and is terminated by }R
+				if (repeatingLength == 0 || digits.getLastNonZeroPosition() < repeatingStart || end - position < 2 || chars.charAt(position) != '}'
+						|| chars.charAt(position + 1) != 'R') {
+					throw notANumber(chars, start, end);
+				}
+
+				position += 2;
+			} else if (nonRepeatingLength == 0 || chars.charAt(position - 1) == '0') {
+				// A finite fractional part ends with a non zero digit
+				throw notANumber(chars, start, end);
+			}
+		}
+
+		int exponent = 0;
+		if (position < end && chars.charAt(position) == 'E') {
+			// The mantissa of a scientific number has a single non zero digit before the decimal point
+			if (integerPartLength != 1 || zeroIntegerPart) {
+				throw notANumber(chars, start, end);
+			}
+
+			position++;
+			boolean negativeExponent = position < end && chars.charAt(position) == '-';
+			if (negativeExponent) {
+				position++;
+			}
+
+			int exponentStart = position;
+			long exponentValue = 0;
+			while (position < end && chars.charAt(position) >= '0' && chars.charAt(position) <= '9') {
+				exponentValue = exponentValue * 10 + chars.charAt(position) - '0';
+				if (exponentValue > Integer.MAX_VALUE) {
+					throw new IllegalArgumentException(String.format("\nThe exponent of '%s' is too large", chars.subSequence(start, end)));
+				}
+				position++;
+			}
+
+			int exponentLength = position - exponentStart;
+			if (exponentLength == 0 || chars.charAt(exponentStart) == '0' && (exponentLength > 1 || negativeExponent)) {
+				throw notANumber(chars, start, end);
+			}
+
+			exponent = (int) (negativeExponent ? -exponentValue : exponentValue);
+		}
+
+		// Minus zero is not a number
+		if (position != end || negative && zeroIntegerPart && !fractionalPart) {
+			throw notANumber(chars, start, end);
+		}
+
+		// Value: (digits - nonRepeatingDigits) / (10^(nonRepeatingLength + repeatingLength) - 10^nonRepeatingLength) or digits / 10^nonRepeatingLength
+		if (digits.isCompact() && Math.abs(exponent) < LONG_TEN_POWERS.length) {
+			long numerator = repeatingLength == 0 ? digits.getCompactValue() : digits.getCompactValue() - compactNonRepeatingValue;
+			long denominator = LONG_TEN_POWERS[nonRepeatingLength + repeatingLength] - (repeatingLength == 0 ? 0 : LONG_TEN_POWERS[nonRepeatingLength]);
+			if (exponent < 0) {
+				denominator = multiplyCompact(denominator, LONG_TEN_POWERS[-exponent]);
+			} else {
+				numerator = multiplyCompact(numerator, LONG_TEN_POWERS[exponent]);
+			}
+
+			if (numerator != INFLATED && denominator != INFLATED) {
+				return of(negative ? -numerator : numerator, denominator);
+			}
+		}
+
+		BigInteger numerator = digits.getValue();
+		BigInteger denominator = getTenPowExponent(nonRepeatingLength + repeatingLength);
+		if (repeatingLength != 0) {
+			numerator = numerator.subtract(nonRepeatingValue == null ? BigInteger.valueOf(compactNonRepeatingValue) : nonRepeatingValue);
+			denominator = denominator.subtract(getTenPowExponent(nonRepeatingLength));
+		}
+
+		if (exponent < 0) {
+			denominator = denominator.multiply(getTenPowExponent(-exponent));
+		} else {
+			numerator = numerator.multiply(getTenPowExponent(exponent));
+		}
+
+		if (negative) {
+			numerator = numerator.negate();
+		}
+
+		BigInteger gcd = gcd(numerator, denominator);
+
+		return new RationalNumber(numerator.divide(gcd), denominator.divide(gcd), false);
+	}
 
-		return new RationalNumber(numberElements);
+	private static IllegalArgumentException notANumber(CharSequence chars, int start, int end) {
+		return new IllegalArgumentException(NOT_A_NUMBER.getFormattedErrorMessage(chars.subSequence(start, end)));
 	}
 
+	/** Returns 10^exponent. Powers smaller than 10^128 are taken from a cache */
 	private static BigInteger getTenPowExponent(int exponent) {
 		if (exponent < 0) {
 			throw new IllegalArgumentException(String.format("\nThe supplied exponent %d does not match the constraint that exponents are not negative", exponent));
 		}
 
-		return new BigInteger("1" + StringUtils.repeat("0", exponent));
+		return exponent < BIG_TEN_POWERS.length ? BIG_TEN_POWERS[exponent] : BigInteger.TEN.pow(exponent);
+	}
+
+	/**
+	 * Accumulates decimal digits into a value.<br>
+	 * The value is held in a long as long as it has at most 18 digits. Longer values are accumulated into a big integer in blocks of 18 digits.
+	 */
+	private static class DigitAccumulator {
+		private static final int COMPACT_DIGITS = LONG_TEN_POWERS.length - 1;
+
+		/** Value of the digits not yet added to {@link #value} */
+		private long compactValue;
+
+		private int compactLength;
+
+		/** Value of the digits preceding the compact digits. Null if all digits are compact */
+		private BigInteger value;
+
+		private int lastNonZeroPosition = -1;
+
+		/** Adds the digits starting at the specified position and returns the position of the first character which is not a digit */
+		private int accumulate(CharSequence chars, int position, int end) {
+			while (position < end) {
+				int digit = chars.charAt(position) - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+
+				if (compactLength == COMPACT_DIGITS) {
+					BigInteger compactPart = BigInteger.valueOf(compactValue);
+					value = value == null ? compactPart : value.multiply(getTenPowExponent(COMPACT_DIGITS)).add(compactPart);
+					compactValue = 0;
+					compactLength = 0;
+				}
+
+				compactValue = compactValue * 10 + digit;
+				compactLength++;
+				if (digit != 0) {
+					lastNonZeroPosition = position;
+				}
+				position++;
+			}
+
+			return position;
+		}
+
+		private boolean isCompact() {
+			return value == null;
+		}
+
+		/** Only valid if {@link #isCompact()} */
+		private long getCompactValue() {
+			return compactValue;
+		}
+
+		private BigInteger getValue() {
+			BigInteger compactPart = BigInteger.valueOf(compactValue);
+
+			return value == null ? compactPart : value.multiply(getTenPowExponent(compactLength)).add(compactPart);
+		}
+
+		private int getLastNonZeroPosition() {
+			return lastNonZeroPosition;
+		}
 	}
 
 }
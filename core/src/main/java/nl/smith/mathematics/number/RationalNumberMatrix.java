@@ -1,5 +1,6 @@
 package nl.smith.mathematics.number;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -69,7 +70,7 @@ public class RationalNumberMatrix implements Matrix<RationalNumberMatrix, Ration
 
 			if (obj instanceof Dimension) {
 				Dimension other = (Dimension) obj;
-				return numberOfRows == other.getNumberOfRows() && numberOfColumns == other.getNumberOfRows();
+				return numberOfRows == other.getNumberOfRows() && numberOfColumns == other.getNumberOfColumns();
 			}
 
 			return false;
@@ -268,16 +269,16 @@ public class RationalNumberMatrix implements Matrix<RationalNumberMatrix, Ration
 			throw new ArithmeticException("\nNo multiplicand specified");
 		}
 
-		List<List<RationalNumber>> rows = new ArrayList<>();
+		List<List<RationalNumber>> newRows = new ArrayList<>();
 		for (List<RationalNumber> row : rows) {
-			List<RationalNumber> column = new ArrayList<RationalNumber>();
+			List<RationalNumber> newRow = new ArrayList<RationalNumber>();
 			for (RationalNumber element : row) {
-				column.add(element.multiply(multiplicand));
+				newRow.add(element.multiply(multiplicand));
 			}
-			rows.add(column);
+			newRows.add(newRow);
 		}
 
-		return new RationalNumberMatrix(rows);
+		return new RationalNumberMatrix(newRows);
 	}
 
 	@Override
@@ -292,14 +293,15 @@ public class RationalNumberMatrix implements Matrix<RationalNumberMatrix, Ration
 		}
 
 		List<List<RationalNumber>> newRows = new ArrayList<>();
+		RationalAccumulator sum = new RationalAccumulator();
 		for (List<RationalNumber> row : rows) {
 			List<RationalNumber> newRow = new ArrayList<>();
 			for (List<RationalNumber> column : multiplicand.columns) {
-				RationalNumber sum = new RationalNumber(0);
+				sum.reset();
 				for (int index = 0; index < dimension.getNumberOfColumns(); index++) {
-					sum = sum.add(row.get(index).multiply(column.get(index)));
+					sum.addProduct(row.get(index), column.get(index));
 				}
-				newRow.add(sum);
+				newRow.add(sum.toRationalNumber());
 			}
 			newRows.add(newRow);
 		}
@@ -309,7 +311,7 @@ public class RationalNumberMatrix implements Matrix<RationalNumberMatrix, Ration
 
 	@Override
 	public RationalNumberMatrix negate() {
-		return multiply(new RationalNumber(-1));
+		return multiply(RationalNumber.MINUS_ONE);
 	}
 
 	@Override
@@ -337,7 +339,7 @@ public class RationalNumberMatrix implements Matrix<RationalNumberMatrix, Ration
 		}
 
 		RationalNumberMatrix matrixWithoutRow = this.getWithoutRow(0);
-		RationalNumber determinant = new RationalNumber(0);
+		RationalNumber determinant = RationalNumber.ZERO;
 
 		for (int i = 0; i < rows.get(0).size(); i++) {
 			RationalNumberMatrix matrixWithoutRowAndColumn = matrixWithoutRow.getWithoutColumn(i);
@@ -353,6 +355,69 @@ public class RationalNumberMatrix implements Matrix<RationalNumberMatrix, Ration
 		return determinant;
 	}
 
+	/**
+	 * Writes this matrix in a compact binary format to the buffer, starting at the current position of the buffer.<br>
+	 * The format consists of the number of rows and the number of columns as variable length integers followed by the elements in row-major order (see:
+	 * {@link RationalNumber#encode(ByteBuffer)}).
+	 * 
+	 * @param buffer
+	 *            The buffer with at least {@link #getEncodedLength()} remaining bytes
+	 */
+	public void encode(ByteBuffer buffer) {
+		BinaryCoding.putUnsignedVariableLength(buffer, dimension.getNumberOfRows());
+		BinaryCoding.putUnsignedVariableLength(buffer, dimension.getNumberOfColumns());
+		for (List<RationalNumber> row : rows) {
+			for (RationalNumber element : row) {
+				element.encode(buffer);
+			}
+		}
+	}
+
+	/** Returns the number of bytes written by {@link #encode(ByteBuffer)} */
+	public int getEncodedLength() {
+		int encodedLength = BinaryCoding.getUnsignedVariableLengthSize(dimension.getNumberOfRows())
+				+ BinaryCoding.getUnsignedVariableLengthSize(dimension.getNumberOfColumns());
+		for (List<RationalNumber> row : rows) {
+			for (RationalNumber element : row) {
+				encodedLength += element.getEncodedLength();
+			}
+		}
+
+		return encodedLength;
+	}
+
+	/**
+	 * Reads a matrix written by {@link #encode(ByteBuffer)} from the buffer, starting at the current position of the buffer.
+	 * 
+	 * @param buffer
+	 *            The buffer containing the encoded matrix
+	 * @return The decoded matrix
+	 */
+	public static RationalNumberMatrix decode(ByteBuffer buffer) {
+		if (buffer == null) {
+			throw new IllegalArgumentException("\nNo buffer specified");
+		}
+
+		int numberOfRows = BinaryCoding.getLength(buffer);
+		int numberOfColumns = BinaryCoding.getLength(buffer);
+		// Every element takes at least one byte
+		if ((long) numberOfRows * numberOfColumns > buffer.remaining()) {
+			throw new IllegalArgumentException(String.format("\nThe dimension %dx%d of the binary encoded matrix exceeds the remaining %d bytes", numberOfRows,
+					numberOfColumns, buffer.remaining()));
+		}
+
+		List<List<RationalNumber>> rows = new ArrayList<>(numberOfRows);
+		for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+			List<RationalNumber> row = new ArrayList<>(numberOfColumns);
+			for (int columnIndex = 0; columnIndex < numberOfColumns; columnIndex++) {
+				row.add(RationalNumber.decode(buffer));
+			}
+			rows.add(row);
+		}
+
+		return new RationalNumberMatrix(rows);
+	}
+
 	@Override
 	public String toString() {
 		return "Matrix: " + dimension;
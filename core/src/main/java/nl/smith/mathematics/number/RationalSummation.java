@@ -0,0 +1,119 @@
+package nl.smith.mathematics.number;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Stateless utility class for summing large lists of rational numbers using binary splitting.<br>
+ * The list is split in two halves which are summed recursively. Most additions are done on operands of similar size, so the denominators do not grow with every
+ * number added as they do when summing from left to right.<br>
+ * The halves of large lists can be summed in parallel on a {@link ForkJoinPool}.
+ *
+ * @author M. Smith
+ */
+public final class RationalSummation {
+
+	/** Number of numbers which are summed from left to right using a {@link RationalAccumulator} */
+	private static final int LEAF_SIZE = 16;
+
+	private RationalSummation() {
+
+	}
+
+	/** Returns the sum of the numbers. The halves of the list are summed in the calling thread */
+	public static RationalNumber sum(List<RationalNumber> numbers) {
+		checkArgument(numbers);
+
+		return sum(numbers, 0, numbers.size());
+	}
+
+	/**
+	 * Returns the sum of the numbers
+	 *
+	 * @param numbers
+	 *            The numbers to sum
+	 * @param forkJoinPool
+	 *            The pool on which the halves of the list are summed in parallel
+	 * @param parallelThreshold
+	 *            Number of numbers above which the halves of a (sub)list are summed in parallel
+	 */
+	public static RationalNumber sum(List<RationalNumber> numbers, ForkJoinPool forkJoinPool, int parallelThreshold) {
+		checkArgument(numbers);
+
+		if (forkJoinPool == null) {
+			throw new IllegalArgumentException("\nNo fork join pool specified");
+		}
+
+		if (numbers.size() <= parallelThreshold) {
+			return sum(numbers, 0, numbers.size());
+		}
+
+		return forkJoinPool.invoke(new SumTask(numbers, 0, numbers.size(), Math.max(parallelThreshold, LEAF_SIZE)));
+	}
+
+	/** Returns the shared pool used for parallel summation. The pool is created on first use */
+	public static ForkJoinPool getForkJoinPool() {
+		return ForkJoinPoolHolder.FORK_JOIN_POOL;
+	}
+
+	/** Sums the numbers from index from (inclusive) up to index to (exclusive) */
+	private static RationalNumber sum(List<RationalNumber> numbers, int from, int to) {
+		if (to - from <= LEAF_SIZE) {
+			RationalAccumulator accumulator = new RationalAccumulator();
+			for (int index = from; index < to; index++) {
+				accumulator.add(numbers.get(index));
+			}
+
+			return accumulator.toRationalNumber();
+		}
+
+		int middle = (from + to) >>> 1;
+
+		return sum(numbers, from, middle).add(sum(numbers, middle, to));
+	}
+
+	private static void checkArgument(List<RationalNumber> numbers) {
+		if (numbers == null || numbers.isEmpty()) {
+			throw new IllegalArgumentException("No numbers specified");
+		}
+	}
+
+	private static class ForkJoinPoolHolder {
+		private static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool();
+	}
+
+	private static class SumTask extends RecursiveTask<RationalNumber> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<RationalNumber> numbers;
+
+		private final int from;
+
+		private final int to;
+
+		private final int parallelThreshold;
+
+		private SumTask(List<RationalNumber> numbers, int from, int to, int parallelThreshold) {
+			this.numbers = numbers;
+			this.from = from;
+			this.to = to;
+			this.parallelThreshold = parallelThreshold;
+		}
+
+		@Override
+		protected RationalNumber compute() {
+			if (to - from <= parallelThreshold) {
+				return sum(numbers, from, to);
+			}
+
+			int middle = (from + to) >>> 1;
+			SumTask firstHalf = new SumTask(numbers, from, middle, parallelThreshold);
+			firstHalf.fork();
+			RationalNumber secondHalfSum = new SumTask(numbers, middle, to, parallelThreshold).compute();
+
+			return firstHalf.join().add(secondHalfSum);
+		}
+	}
+}
@@ -16,6 +16,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
@@ -272,7 +273,7 @@ public class FunctionContextHelper {
 			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
 				STRING_NUMBER_PARSE_ERROR.throwUncheckedException(IllegalArgumentException.class, e, propertyStringValue, propertyType.getCanonicalName());
 			}
-		} else if (propertyType.equals(String.class) || propertyType.equals(BigInteger.class) || propertyType.equals(BigDecimal.class)) {
+		} else if (propertyType.equals(String.class) || propertyType.equals(BigInteger.class) || propertyType.equals(BigDecimal.class) || propertyType.equals(MathContext.class)) {
 			// Construct an instance using the constructor(String) in the specified class
 			try {
 				instance = (T) getConstructorForTypeWithStringArgument(propertyType).newInstance(propertyStringValue);
@@ -0,0 +1,82 @@
+package nl.smith.mathematics.functions;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+
+import nl.smith.mathematics.number.RationalNumber;
+import nl.smith.mathematics.number.RationalSummation;
+
+import org.junit.Test;
+
+public class BinarySplittingTest {
+
+	private static final RationalNumber X = new RationalNumber(-3, 7);
+
+	@Test
+	public void sumOfExponentialSeries() {
+		RationalNumber expected = RationalNumber.ZERO;
+		RationalNumber t = RationalNumber.ONE;
+		for (int k = 0; k < 40; k++) {
+			t = k == 0 ? t : t.multiply(X).divide(k);
+			expected = expected.add(t);
+			assertEquals(expected, BinarySplitting.sum(HypergeometricSeries.exponential(X), k + 1));
+		}
+	}
+
+	@Test
+	public void sumOfSineCosineAndArctangentSeries() {
+		RationalNumber sine = RationalNumber.ZERO;
+		RationalNumber cosine = RationalNumber.ZERO;
+		RationalNumber arctangent = RationalNumber.ZERO;
+		for (int k = 0; k < 25; k++) {
+			int sign = k % 2 == 0 ? 1 : -1;
+			sine = sine.add(X.pow(2 * k + 1).divide(factorial(2 * k + 1)).multiply(sign));
+			cosine = cosine.add(X.pow(2 * k).divide(factorial(2 * k)).multiply(sign));
+			arctangent = arctangent.add(X.pow(2 * k + 1).divide(2 * k + 1).multiply(sign));
+
+			assertEquals(sine, X.multiply(BinarySplitting.sum(HypergeometricSeries.sine(X), k + 1)));
+			assertEquals(cosine, BinarySplitting.sum(HypergeometricSeries.cosine(X), k + 1));
+			assertEquals(arctangent, X.multiply(BinarySplitting.sum(HypergeometricSeries.arctangent(X), k + 1)));
+		}
+	}
+
+	@Test
+	public void sumInParallel() {
+		HypergeometricSeries series = HypergeometricSeries.arctangent(new RationalNumber(1, 5));
+
+		RationalNumber expected = BinarySplitting.sum(series, 1000, RationalSummation.getForkJoinPool(), Integer.MAX_VALUE);
+		assertEquals(expected, BinarySplitting.sum(series, 1000, RationalSummation.getForkJoinPool(), 2));
+		assertEquals(expected, BinarySplitting.sum(series, 1000, RationalSummation.getForkJoinPool(), 100));
+		assertEquals(expected, BinarySplitting.sum(series, 1000));
+	}
+
+	@Test
+	public void extendPartialSum() {
+		HypergeometricSeries series = HypergeometricSeries.arctangent(new RationalNumber(1, 5));
+
+		BinarySplitting.PartialSum partialSum = BinarySplitting.partialSum(series, 7);
+		assertEquals(BinarySplitting.sum(series, 7), partialSum.getValue());
+		assertEquals(true, partialSum.extend(5) == partialSum);
+
+		for (int numberOfTerms : new int[] { 8, 300, 1000 }) {
+			partialSum = partialSum.extend(numberOfTerms);
+			assertEquals(numberOfTerms, partialSum.getNumberOfTerms());
+			assertEquals(BinarySplitting.sum(series, numberOfTerms), partialSum.getValue());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sumOfNoTerms() {
+		BinarySplitting.sum(HypergeometricSeries.exponential(X), 0);
+	}
+
+	private static BigInteger factorial(int n) {
+		BigInteger factorial = BigInteger.ONE;
+		for (int i = 2; i <= n; i++) {
+			factorial = factorial.multiply(BigInteger.valueOf(i));
+		}
+
+		return factorial;
+	}
+}
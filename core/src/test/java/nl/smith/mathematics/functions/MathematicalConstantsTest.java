@@ -0,0 +1,91 @@
+package nl.smith.mathematics.functions;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import nl.smith.mathematics.number.RationalNumber;
+
+import org.junit.Test;
+
+public class MathematicalConstantsTest {
+
+	private static final RationalNumber PI = RationalNumber
+			.valueOf("3.141592653589793238462643383279502884197169399375105820974944592307816406286208998628034825342117067982148086513282306647");
+
+	private static final RationalNumber E = RationalNumber
+			.valueOf("2.718281828459045235360287471352662497757247093699959574966967627724076630353547594571382178525166427427466391932003059921");
+
+	private static final RationalNumber LN2 = RationalNumber
+			.valueOf("0.693147180559945309417232121458176568075500134360255254120680009493393621969694715605863326996418687542001481020570685733");
+
+	@Test
+	public void piEAndLn2() {
+		for (int digits : new int[] { 10, 50, 110 }) {
+			RationalNumber tolerance = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(digits));
+
+			assertApproximation(PI, MathematicalConstants.getPi(tolerance), tolerance);
+			assertApproximation(E, MathematicalConstants.getE(tolerance), tolerance);
+			assertApproximation(LN2, MathematicalConstants.getLn2(tolerance), tolerance);
+		}
+	}
+
+	@Test
+	public void cachedApproximationIsExtended() {
+		RationalNumber tolerance = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(115));
+		Approximation<RationalNumber> pi = MathematicalConstants.getPi(tolerance);
+		assertApproximation(PI, pi, tolerance);
+
+		// Less accurate requests round the cached approximation
+		Approximation<RationalNumber> roundedPi = MathematicalConstants.getPi(new RationalNumber(1, 1000));
+		assertApproximation(PI, roundedPi, new RationalNumber(1, 1000));
+		assertEquals(pi.getNumberOfTerms(), roundedPi.getNumberOfTerms());
+		assertEquals(true, roundedPi.getValue().getDenominator().compareTo(BigInteger.valueOf(1000)) < 0);
+
+		Approximation<RationalNumber> morePrecisePi = MathematicalConstants.getPi(new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(1000)));
+		assertEquals(true, morePrecisePi.getNumberOfTerms() > pi.getNumberOfTerms());
+		assertEquals(true, morePrecisePi.getValue().subtract(pi.getValue()).abs().compareTo(pi.getErrorBound()) <= 0);
+	}
+
+	@Test
+	public void concurrentRequests() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Approximation<RationalNumber>>> futures = new ArrayList<>();
+			for (int i = 1; i <= 8; i++) {
+				final RationalNumber tolerance = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(14 * i));
+				futures.add(executorService.submit(new Callable<Approximation<RationalNumber>>() {
+
+					@Override
+					public Approximation<RationalNumber> call() {
+						return MathematicalConstants.getE(tolerance);
+					}
+				}));
+			}
+
+			for (int i = 1; i <= 8; i++) {
+				assertApproximation(E, futures.get(i - 1).get(), new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(14 * i)));
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeTolerance() {
+		MathematicalConstants.getPi(RationalNumber.of(-1, 1000));
+	}
+
+	/** Asserts the error bound is smaller than the tolerance and the expected value, accurate up to 10^-120, lies within the error bound */
+	private static void assertApproximation(RationalNumber expected, Approximation<RationalNumber> approximation, RationalNumber tolerance) {
+		assertEquals(true, approximation.getErrorBound().compareTo(tolerance) < 0);
+		RationalNumber expectedValueError = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(120));
+		assertEquals(true, expected.subtract(approximation.getValue()).abs().compareTo(approximation.getErrorBound().add(expectedValueError)) <= 0);
+	}
+}
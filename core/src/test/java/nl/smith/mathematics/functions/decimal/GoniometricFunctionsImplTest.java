@@ -0,0 +1,101 @@
+package nl.smith.mathematics.functions.decimal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Properties;
+
+import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.functions.GoniometricFunctions;
+import nl.smith.mathematics.number.DecimalNumber;
+import nl.smith.mathematics.utility.SystemPropertyChanger;
+import nl.smith.mathematics.utility.TestUtility;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+
+public class GoniometricFunctionsImplTest extends SystemPropertyChanger {
+
+	// Test resource dependencies
+	private static final String COSINUS_PROPERTIES = "cosinus.properties";
+	private static final String SINUS_PROPERTIES = "sinus.properties";
+
+	private static final DecimalNumber PI = DecimalNumber.valueOf("3.1415926535897932384626433832795028841971693993751058209749445923078164062862089986280348253421170679");
+
+	private static final DecimalNumber ALLOWED_DELTA = DecimalNumber.valueOf("1E-16");
+
+	@Test
+	public void sin() {
+		Properties properties = TestUtility.getProperties(SINUS_PROPERTIES);
+
+		DecimalNumber angle = PI.divide(4);
+
+		for (int i = 1; i <= 30; i++) {
+			setSystemProperty("TAYLORNUMBER.value", BigInteger.valueOf(i).toString());
+			GoniometricFunctions<DecimalNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+			String propertyName = "sinus_" + StringUtils.right(StringUtils.repeat("0", 3) + String.valueOf(i), 3);
+			DecimalNumber expected = DecimalNumber.valueOf(properties.getProperty(propertyName));
+			DecimalNumber delta = expected.subtract(goniometricFunctions.sin(angle)).abs();
+			assertEquals(1, ALLOWED_DELTA.compareTo(delta));
+		}
+	}
+
+	@Test
+	public void cos() {
+		Properties properties = TestUtility.getProperties(COSINUS_PROPERTIES);
+
+		DecimalNumber angle = PI.divide(4);
+
+		for (int i = 1; i <= 30; i++) {
+			setSystemProperty("TAYLORNUMBER.value", BigInteger.valueOf(i).toString());
+			GoniometricFunctions<DecimalNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+			String propertyName = "cosinus_" + StringUtils.right(StringUtils.repeat("0", 3) + String.valueOf(i), 3);
+			DecimalNumber expected = DecimalNumber.valueOf(properties.getProperty(propertyName));
+			DecimalNumber delta = expected.subtract(goniometricFunctions.cos(angle)).abs();
+			assertEquals(1, ALLOWED_DELTA.compareTo(delta));
+		}
+	}
+
+	@Test
+	public void mathContextFromSystemProperty() {
+		setSystemProperty("MATHCONTEXT.value", "precision=10 roundingMode=HALF_EVEN");
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		assertEquals(10, goniometricFunctions.getMATHCONTEXT().getPrecision());
+		assertEquals(10, goniometricFunctions.sin(PI.divide(4)).getMathContext().getPrecision());
+	}
+
+	/** Angles outside [-pi, pi] are reduced by a multiple of 2 * pi calculated with guard digits */
+	@Test
+	public void largeAngles() {
+		String[][] expectedValues = { { "100", "-0.506365641109758793656557610459785432065032721290657323443", "0.8623188722876839341019385139508425355100840085355108292801" },
+				{ "-20", "-0.912945250727627654376099983845682301297932583708189956305", "0.4080820618133919860622678609276449570992995103162528227552" },
+				{ "1E10", "-0.487506025087510691527794294348106041676447316922786885745", "0.8731196226768560011761913453076951961904126001676867360692" } };
+
+		setSystemProperty("TAYLORNUMBER.value", "30");
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		DecimalNumber allowedDelta = DecimalNumber.valueOf("1E-30");
+		for (String[] values : expectedValues) {
+			DecimalNumber angle = DecimalNumber.valueOf(values[0]);
+			assertEquals(1, allowedDelta.compareTo(DecimalNumber.valueOf(values[1]).subtract(goniometricFunctions.sin(angle)).abs()));
+			assertEquals(1, allowedDelta.compareTo(DecimalNumber.valueOf(values[2]).subtract(goniometricFunctions.cos(angle)).abs()));
+		}
+	}
+
+	/** Pi is calculated up to the precision of the math context */
+	@Test
+	public void piFromMathContext() {
+		setSystemProperty("MATHCONTEXT.value", "precision=60 roundingMode=HALF_EVEN");
+		DecimalNumber pi = new GoniometricFunctionsImpl().getPI();
+		assertEquals(60, pi.getMathContext().getPrecision());
+		assertEquals(1, DecimalNumber.valueOf("1E-58").compareTo(PI.subtract(pi).abs()));
+	}
+
+	@Test
+	public void convertAngle() {
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		DecimalNumber degreesToRadians = goniometricFunctions.convertAngle(AngleType.DEG, AngleType.RAD);
+		assertEquals(1, ALLOWED_DELTA.compareTo(PI.divide(180).subtract(degreesToRadians).abs()));
+		assertEquals(DecimalNumber.valueOf("0.9"), goniometricFunctions.convertAngle(AngleType.GRAD, AngleType.DEG));
+		assertEquals(DecimalNumber.valueOf("1"), goniometricFunctions.convertAngle(AngleType.RAD, AngleType.RAD));
+	}
+}
@@ -0,0 +1,44 @@
+package nl.smith.mathematics.functions.decimal;
+
+import static org.junit.Assert.assertEquals;
+
+import nl.smith.mathematics.number.DecimalNumber;
+import nl.smith.mathematics.utility.SystemPropertyChanger;
+
+import org.junit.Test;
+
+public class LogarithmicFunctionsImplTest extends SystemPropertyChanger {
+
+	private static final DecimalNumber ALLOWED_DELTA = DecimalNumber.valueOf("1E-30");
+
+	@Test
+	public void ln() {
+		String[][] expectedValues = { { "1000", "6.907755278982137052053974364053092622803304465886318928099983702902718" },
+				{ "0.00001", "-11.51292546497022842008995727342182103800550744314386488016663950483786" },
+				{ "2", "0.6931471805599453094172321214581765680755001343602552541206800094933936" },
+				{ "1.5", "0.405465108108164381978013115464349136571990423462494197614014" },
+				{ "123456789.125", "18.63140176718051804189510529782539821392233837219611638651105393702216" } };
+
+		setSystemProperty("TAYLORNUMBER.value", "30");
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+		for (String[] values : expectedValues) {
+			DecimalNumber delta = DecimalNumber.valueOf(values[1]).subtract(logarithmicFunctions.ln(DecimalNumber.valueOf(values[0]))).abs();
+			assertEquals(1, ALLOWED_DELTA.compareTo(delta));
+		}
+	}
+
+	/** Euler's number is calculated up to the precision of the math context */
+	@Test
+	public void eulersNumberFromMathContext() {
+		setSystemProperty("MATHCONTEXT.value", "precision=60 roundingMode=HALF_EVEN");
+		DecimalNumber e = new LogarithmicFunctionsImpl().getEulersNumber();
+		assertEquals(60, e.getMathContext().getPrecision());
+		DecimalNumber expected = DecimalNumber.valueOf("2.71828182845904523536028747135266249775724709369995957496696762772407663");
+		assertEquals(1, DecimalNumber.valueOf("1E-58").compareTo(expected.subtract(e).abs()));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void lnOfZero() {
+		new LogarithmicFunctionsImpl().ln(new DecimalNumber(0));
+	}
+}
@@ -0,0 +1,88 @@
+package nl.smith.mathematics.functions.doubledouble;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Properties;
+
+import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.functions.GoniometricFunctions;
+import nl.smith.mathematics.number.DoubleDoubleNumber;
+import nl.smith.mathematics.utility.SystemPropertyChanger;
+import nl.smith.mathematics.utility.TestUtility;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+
+public class GoniometricFunctionsImplTest extends SystemPropertyChanger {
+
+	// Test resource dependencies
+	private static final String COSINUS_PROPERTIES = "cosinus.properties";
+	private static final String SINUS_PROPERTIES = "sinus.properties";
+
+	private static final DoubleDoubleNumber PI = DoubleDoubleNumber.valueOf("3.1415926535897932384626433832795028841971693993751058209749445923078164062862089986280348253421170679");
+
+	private static final DoubleDoubleNumber ALLOWED_DELTA = DoubleDoubleNumber.valueOf("1E-16");
+
+	private static final DoubleDoubleNumber ALLOWED_DELTA_CONVERGED = DoubleDoubleNumber.valueOf("1E-30");
+
+	@Test
+	public void sin() {
+		Properties properties = TestUtility.getProperties(SINUS_PROPERTIES);
+
+		DoubleDoubleNumber angle = PI.divide(4);
+
+		for (int i = 1; i <= 30; i++) {
+			setSystemProperty("TAYLORNUMBER.value", BigInteger.valueOf(i).toString());
+			GoniometricFunctions<DoubleDoubleNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+			String propertyName = "sinus_" + StringUtils.right(StringUtils.repeat("0", 3) + String.valueOf(i), 3);
+			DoubleDoubleNumber expected = DoubleDoubleNumber.valueOf(properties.getProperty(propertyName));
+			DoubleDoubleNumber delta = expected.subtract(goniometricFunctions.sin(angle)).abs();
+			assertEquals(1, ALLOWED_DELTA.compareTo(delta));
+		}
+	}
+
+	@Test
+	public void cos() {
+		Properties properties = TestUtility.getProperties(COSINUS_PROPERTIES);
+
+		DoubleDoubleNumber angle = PI.divide(4);
+
+		for (int i = 1; i <= 30; i++) {
+			setSystemProperty("TAYLORNUMBER.value", BigInteger.valueOf(i).toString());
+			GoniometricFunctions<DoubleDoubleNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+			String propertyName = "cosinus_" + StringUtils.right(StringUtils.repeat("0", 3) + String.valueOf(i), 3);
+			DoubleDoubleNumber expected = DoubleDoubleNumber.valueOf(properties.getProperty(propertyName));
+			DoubleDoubleNumber delta = expected.subtract(goniometricFunctions.cos(angle)).abs();
+			assertEquals(1, ALLOWED_DELTA.compareTo(delta));
+		}
+	}
+
+	@Test
+	public void converged() {
+		GoniometricFunctions<DoubleDoubleNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+		assertConverged("0.47942553860420300027328793521557138808", goniometricFunctions.sin(DoubleDoubleNumber.valueOf("0.5")));
+		assertConverged("0.87758256189037271611628158260382965199", goniometricFunctions.cos(DoubleDoubleNumber.valueOf("0.5")));
+		assertConverged("0.14112000805986722210074480280811027985", goniometricFunctions.sin(new DoubleDoubleNumber(3)));
+		assertConverged("-0.98999249660044545727157279473126130239", goniometricFunctions.cos(new DoubleDoubleNumber(-3)));
+		assertConverged("0.47942553860420300027328793521557138808", goniometricFunctions.sin(DoubleDoubleNumber.valueOf("0.5").add(PI.multiply(4))));
+	}
+
+	@Test
+	public void largeAngles() {
+		GoniometricFunctions<DoubleDoubleNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+		assertConverged("-0.34999350217129295211765248678077146906", goniometricFunctions.sin(new DoubleDoubleNumber(1000000)));
+		assertConverged("0.85827279317023583552388639084840664660", goniometricFunctions.sin(new DoubleDoubleNumber(1000000000000000L)));
+	}
+
+	@Test
+	public void convertAngle() {
+		GoniometricFunctions<DoubleDoubleNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+		assertConverged("0.01745329251994329576923690768488612713", goniometricFunctions.convertAngle(AngleType.DEG, AngleType.RAD));
+		assertConverged("0.9", goniometricFunctions.convertAngle(AngleType.GRAD, AngleType.DEG));
+	}
+
+	private static void assertConverged(String expected, DoubleDoubleNumber actual) {
+		assertEquals(1, ALLOWED_DELTA_CONVERGED.compareTo(DoubleDoubleNumber.valueOf(expected).subtract(actual).abs()));
+	}
+}
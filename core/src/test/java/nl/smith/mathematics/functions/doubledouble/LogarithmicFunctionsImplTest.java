@@ -0,0 +1,36 @@
+package nl.smith.mathematics.functions.doubledouble;
+
+import static org.junit.Assert.assertEquals;
+
+import nl.smith.mathematics.number.DoubleDoubleNumber;
+
+import org.junit.Test;
+
+public class LogarithmicFunctionsImplTest {
+
+	private static final DoubleDoubleNumber ALLOWED_RELATIVE_DELTA = DoubleDoubleNumber.valueOf("1E-30");
+
+	@Test
+	public void exp() {
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+		assertConverged("2.7182818284590452353602874713526624977572", logarithmicFunctions.exp(DoubleDoubleNumber.ONE));
+		assertConverged("0.000045399929762484851535591515560550610237918", logarithmicFunctions.exp(new DoubleDoubleNumber(-10)));
+		assertEquals(DoubleDoubleNumber.ONE, logarithmicFunctions.exp(DoubleDoubleNumber.ZERO));
+	}
+
+	@Test
+	public void ln() {
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+		assertConverged("0.69314718055994530941723212145817656807550", logarithmicFunctions.ln(new DoubleDoubleNumber(2)));
+		assertConverged("2.3025850929940456840179914546843642076011", logarithmicFunctions.ln(new DoubleDoubleNumber(10)));
+		assertConverged("-6.9077552789821370520539743640530926228033", logarithmicFunctions.ln(DoubleDoubleNumber.valueOf("0.001")));
+		assertEquals(DoubleDoubleNumber.ZERO, logarithmicFunctions.ln(DoubleDoubleNumber.ONE));
+		assertEquals(true, Double.isNaN(logarithmicFunctions.ln(DoubleDoubleNumber.ONE.negate()).doubleValue()));
+	}
+
+	private static void assertConverged(String expected, DoubleDoubleNumber actual) {
+		DoubleDoubleNumber expectedNumber = DoubleDoubleNumber.valueOf(expected);
+		DoubleDoubleNumber relativeDelta = expectedNumber.subtract(actual).divide(expectedNumber).abs();
+		assertEquals(1, ALLOWED_RELATIVE_DELTA.compareTo(relativeDelta));
+	}
+}
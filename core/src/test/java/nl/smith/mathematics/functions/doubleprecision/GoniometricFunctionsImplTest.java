@@ -0,0 +1,18 @@
+package nl.smith.mathematics.functions.doubleprecision;
+
+import static org.junit.Assert.assertEquals;
+
+import nl.smith.mathematics.functions.AngleType;
+
+import org.junit.Test;
+
+public class GoniometricFunctionsImplTest {
+
+	@Test
+	public void convertAngle() {
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		assertEquals(Math.PI / 180, goniometricFunctions.convertAngle(AngleType.DEG, AngleType.RAD).doubleValue(), 1E-17);
+		assertEquals(200 / Math.PI, goniometricFunctions.convertAngle(AngleType.RAD, AngleType.GRAD).doubleValue(), 1E-13);
+		assertEquals(0.9, goniometricFunctions.convertAngle(AngleType.GRAD, AngleType.DEG).doubleValue(), 0);
+	}
+}
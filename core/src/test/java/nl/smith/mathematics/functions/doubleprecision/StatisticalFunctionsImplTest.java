@@ -0,0 +1,37 @@
+package nl.smith.mathematics.functions.doubleprecision;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import nl.smith.mathematics.number.DoubleNumber;
+
+import org.junit.Test;
+
+public class StatisticalFunctionsImplTest {
+
+	private final StatisticalFunctionsImpl statisticalFunctions = new StatisticalFunctionsImpl(new SimpleArithmeticFunctionsImpl());
+
+	/** The average is rounded like the double arithmetic it is calculated with */
+	@Test
+	public void averageIsRounded() {
+		DoubleNumber[] numbers = { new DoubleNumber(0.1), new DoubleNumber(0.2) };
+		assertEquals(new DoubleNumber(0.15000000000000002), statisticalFunctions.average(numbers));
+		assertEquals(new DoubleNumber(0.15000000000000002), statisticalFunctions.average(Arrays.asList(numbers)));
+	}
+
+	/** The deviation subtracts the average before squaring, so a large offset does not cancel out the small differences */
+	@Test
+	public void deviationWithLargeOffset() {
+		DoubleNumber[] numbers = { new DoubleNumber(1e9 + 1), new DoubleNumber(1e9 + 2), new DoubleNumber(1e9 + 3) };
+		assertEquals(new DoubleNumber(1e9 + 2), statisticalFunctions.average(numbers));
+		assertEquals(new DoubleNumber(2.0 / 3), statisticalFunctions.deviation(numbers));
+	}
+
+	@Test
+	public void functionsOfMath() {
+		assertEquals(new DoubleNumber(Math.sin(0.5)), new GoniometricFunctionsImpl().sin(new DoubleNumber(0.5)));
+		assertEquals(new DoubleNumber(Math.log(3)), new LogarithmicFunctionsImpl().ln(new DoubleNumber(3)));
+		assertEquals(new DoubleNumber(120), new SimpleArithmeticFunctionsImpl().faculty(new DoubleNumber(5)));
+	}
+}
@@ -0,0 +1,69 @@
+package nl.smith.mathematics.functions.interval;
+
+import static org.junit.Assert.assertEquals;
+
+import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.number.RationalInterval;
+import nl.smith.mathematics.number.RationalNumber;
+
+import org.junit.Test;
+
+public class GoniometricFunctionsImplTest {
+
+	private static final RationalNumber ALLOWED_WIDTH = RationalNumber.valueOf("1E-30");
+
+	@Test
+	public void enclosures() {
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		RationalInterval half = RationalInterval.valueOf("0.5");
+
+		assertEnclosure("0.479425538604203000273287935215571388081803", goniometricFunctions.sin(half));
+		assertEnclosure("0.877582561890372716116281582603829651991645", goniometricFunctions.cos(half));
+		assertEnclosure("-0.479425538604203000273287935215571388081803", goniometricFunctions.sin(half.negate()));
+	}
+
+	@Test
+	public void intervalArgument() {
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		RationalInterval sin = goniometricFunctions.sin(RationalInterval.valueOf("[0.5, 0.6]"));
+		assertEquals(true, sin.contains(RationalNumber.valueOf("0.479425538604203000273287935215571388081803")));
+		assertEquals(true, sin.contains(RationalNumber.valueOf("0.56464247339503535720094544565865790711")));
+		assertEquals(true, sin.getLowerBound().compareTo(RationalNumber.MINUS_ONE) >= 0);
+		assertEquals(true, sin.getUpperBound().compareTo(RationalNumber.ONE) <= 0);
+	}
+
+	/** Angles outside [-pi, pi] are reduced by a multiple of the enclosure of 2 * pi */
+	@Test
+	public void largeAngles() {
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		RationalNumber allowedWidth = RationalNumber.valueOf("1E-25");
+
+		RationalInterval sin = goniometricFunctions.sin(new RationalInterval(100));
+		assertEquals(true, sin.contains(RationalNumber.valueOf("-0.506365641109758793656557610459785432065032721290657323443")));
+		assertEquals(true, sin.getWidth().compareTo(allowedWidth) < 0);
+
+		RationalInterval cos = goniometricFunctions.cos(new RationalInterval(-20));
+		assertEquals(true, cos.contains(RationalNumber.valueOf("0.4080820618133919860622678609276449570992995103162528227552")));
+		assertEquals(true, cos.getWidth().compareTo(allowedWidth) < 0);
+	}
+
+	@Test
+	public void convertAngle() {
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+
+		assertEnclosure("0.017453292519943295769236907684886127134428718885417", goniometricFunctions.convertAngle(AngleType.DEG, AngleType.RAD));
+		assertEnclosure("57.295779513082320876798154814105170332405472466564", goniometricFunctions.convertAngle(AngleType.RAD, AngleType.DEG));
+		assertEquals(new RationalInterval(RationalNumber.valueOf("0.9")), goniometricFunctions.convertAngle(AngleType.GRAD, AngleType.DEG));
+		assertEquals(RationalInterval.ONE, goniometricFunctions.convertAngle(AngleType.RAD, AngleType.RAD));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void convertAngleNullArgument() {
+		new GoniometricFunctionsImpl().convertAngle(null, AngleType.RAD);
+	}
+
+	private static void assertEnclosure(String expected, RationalInterval actual) {
+		assertEquals(true, actual.contains(RationalNumber.valueOf(expected)));
+		assertEquals(true, actual.getWidth().compareTo(ALLOWED_WIDTH) < 0);
+	}
+}
@@ -0,0 +1,104 @@
+package nl.smith.mathematics.functions.interval;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+
+import nl.smith.mathematics.number.RationalInterval;
+import nl.smith.mathematics.number.RationalNumber;
+import nl.smith.mathematics.utility.SystemPropertyChanger;
+
+import org.junit.Test;
+
+public class LogarithmicFunctionsImplTest extends SystemPropertyChanger {
+
+	private static final RationalNumber ALLOWED_WIDTH = RationalNumber.valueOf("1E-30");
+
+	@Test
+	public void enclosures() {
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+
+		assertEnclosure("2.718281828459045235360287471352662497757247", logarithmicFunctions.exp(RationalInterval.ONE));
+		assertEnclosure("0.367879441171442321595523770161460867445811", logarithmicFunctions.exp(new RationalInterval(-1)));
+		assertEnclosure("0.0953101798043248600439521232807650922206053653", logarithmicFunctions.ln(RationalInterval.valueOf("1.1")));
+		assertEnclosure("-0.105360515657826301227500980839312798306120373", logarithmicFunctions.ln(RationalInterval.valueOf("0.9")));
+
+		// ln(2) = 2 * atanh(1/3) converges slower than the reduced arguments: the enclosure is wider
+		RationalInterval lnTwo = logarithmicFunctions.ln(RationalInterval.valueOf("2"));
+		assertEquals(true, lnTwo.contains(RationalNumber.valueOf("0.6931471805599453094172321214581765680755")));
+		assertEquals(true, lnTwo.getWidth().compareTo(RationalNumber.valueOf("1E-18")) < 0);
+	}
+
+	/** Large and small arguments are range-reduced by powers of two, so the enclosures stay tight */
+	@Test
+	public void lnOfLargeAndSmallNumbers() {
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+
+		RationalInterval lnThousand = logarithmicFunctions.ln(new RationalInterval(1000));
+		assertEquals(true, lnThousand.contains(RationalNumber.valueOf("6.907755278982137052053974364053092622803304")));
+		assertEquals(true, lnThousand.getWidth().compareTo(RationalNumber.valueOf("1E-18")) < 0);
+
+		RationalInterval lnThousandth = logarithmicFunctions.ln(RationalInterval.valueOf("0.001"));
+		assertEquals(true, lnThousandth.contains(RationalNumber.valueOf("-6.907755278982137052053974364053092622803304")));
+		assertEquals(true, lnThousandth.getWidth().compareTo(RationalNumber.valueOf("1E-18")) < 0);
+
+		RationalInterval lnInterval = logarithmicFunctions.ln(RationalInterval.valueOf("[1, 1000]"));
+		assertEquals(true, lnInterval.contains(RationalNumber.ZERO));
+		assertEquals(true, lnInterval.contains(RationalNumber.valueOf("6.907755278982137052053974364053092622803304")));
+		assertEquals(true, lnInterval.getWidth().compareTo(RationalNumber.valueOf("6.91")) < 0);
+	}
+
+	/** A small Taylor number results in a wide, but still guaranteed enclosure */
+	@Test
+	public void remainderBound() {
+		setSystemProperty("TAYLORNUMBER.value", "3");
+		setSystemProperty("MAXIMUMDENOMINATOR.value", "1000");
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+		assertEquals(BigInteger.valueOf(1000), logarithmicFunctions.getMAXIMUMDENOMINATOR());
+
+		RationalInterval exp = logarithmicFunctions.exp(RationalInterval.ONE);
+		assertEquals(true, exp.contains(RationalNumber.valueOf("2.718281828459045235360287471352662497757247")));
+		assertEquals(true, exp.getWidth().compareTo(RationalNumber.ONE) <= 0);
+		assertEquals(true, exp.getUpperBound().getDenominator().compareTo(BigInteger.valueOf(1000)) <= 0);
+
+		// exp(-10) is smaller than the smallest positive bound with a denominator of at most 1000
+		RationalInterval expMinusTen = logarithmicFunctions.exp(new RationalInterval(-10));
+		assertEquals(true, expMinusTen.contains(RationalNumber.valueOf("0.000045399929762484851535591515560550610237918088866565")));
+		assertEquals(RationalInterval.valueOf("[0, 0.001]"), expMinusTen);
+	}
+
+	/** Large arguments are reduced by a multiple of ln(2), so the enclosures stay tight relative to the value */
+	@Test
+	public void expOfLargeAndSmallNumbers() {
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+		RationalNumber allowedRelativeWidth = RationalNumber.valueOf("1E-15");
+
+		RationalInterval expHundred = logarithmicFunctions.exp(new RationalInterval(100));
+		assertEquals(true, expHundred.contains(RationalNumber.valueOf("26881171418161354484126255515800135873611118.7737419224151916086152802")));
+		assertEquals(true, expHundred.getWidth().divide(expHundred.getLowerBound()).compareTo(allowedRelativeWidth) < 0);
+
+		RationalInterval expMinusTwenty = logarithmicFunctions.exp(new RationalInterval(-20));
+		assertEquals(true, expMinusTwenty.contains(RationalNumber.valueOf("2.06115362243855782796594038015582097637580727559910369297224E-9")));
+		assertEquals(true, expMinusTwenty.getWidth().divide(expMinusTwenty.getLowerBound()).compareTo(allowedRelativeWidth) < 0);
+
+		// exp(-10^40) is smaller than the smallest positive bound with the default maximum denominator
+		RationalInterval expOfLargeNegativeNumber = logarithmicFunctions.exp(RationalInterval.valueOf("-1E40"));
+		assertEquals(RationalNumber.ZERO, expOfLargeNegativeNumber.getLowerBound());
+		assertEquals(new RationalNumber(BigInteger.ONE, RationalInterval.DEFAULT_MAXIMUM_DENOMINATOR), expOfLargeNegativeNumber.getUpperBound());
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void expOutOfRange() {
+		new LogarithmicFunctionsImpl().exp(RationalInterval.valueOf("1E40"));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void lnNotDefined() {
+		new LogarithmicFunctionsImpl().ln(RationalInterval.valueOf("[-1, 1]"));
+	}
+
+	private static void assertEnclosure(String expected, RationalInterval actual) {
+		assertEquals(true, actual.contains(RationalNumber.valueOf(expected)));
+		assertEquals(true, actual.getWidth().compareTo(ALLOWED_WIDTH) < 0);
+	}
+}
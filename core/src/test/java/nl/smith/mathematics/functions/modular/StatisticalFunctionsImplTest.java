@@ -0,0 +1,57 @@
+package nl.smith.mathematics.functions.modular;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import nl.smith.mathematics.number.ModularNumber;
+import nl.smith.mathematics.number.Modulus;
+
+import org.junit.Test;
+
+public class StatisticalFunctionsImplTest {
+
+	private static final Modulus MODULUS = new Modulus(101);
+
+	private final StatisticalFunctionsImpl statisticalFunctions = new StatisticalFunctionsImpl(new SimpleArithmeticFunctionsImpl());
+
+	/** The sum 100 + 50 + 60 = 210 wraps around to 8 and is divided by 3 through its reciprocal value 34 modulo 101 */
+	@Test
+	public void averageWrapsAround() {
+		ModularNumber[] numbers = { new ModularNumber(100, MODULUS), new ModularNumber(50, MODULUS), new ModularNumber(60, MODULUS) };
+		assertEquals(new ModularNumber(8, MODULUS), new SimpleArithmeticFunctionsImpl().sum(numbers));
+		assertEquals(new ModularNumber(34, MODULUS), new ModularNumber(3, MODULUS).getReciprocalValue());
+		assertEquals(new ModularNumber(70, MODULUS), statisticalFunctions.average(numbers));
+		assertEquals(new ModularNumber(70, MODULUS), statisticalFunctions.average(Arrays.asList(numbers)));
+
+		// p - 1 and 1 sum up to zero for the default modulus p
+		ModularNumber minusOne = new ModularNumber(ModularNumber.DEFAULT_MODULUS_VALUE - 1);
+		assertEquals(new ModularNumber(0), statisticalFunctions.average(minusOne, new ModularNumber(1)));
+	}
+
+	/** The average of 1 and 2 is 3/2, the deviation ((-1/2)^2 + (1/2)^2)/2 = 1/4 is the reciprocal value 76 of 4 modulo 101 */
+	@Test
+	public void deviationWithReciprocalValues() {
+		ModularNumber[] numbers = { new ModularNumber(1, MODULUS), new ModularNumber(2, MODULUS) };
+		assertEquals(new ModularNumber(52, MODULUS), statisticalFunctions.average(numbers));
+		assertEquals(new ModularNumber(76, MODULUS), statisticalFunctions.deviation(numbers));
+	}
+
+	/** The number of numbers 7 has no reciprocal value modulo 7 */
+	@Test(expected = ArithmeticException.class)
+	public void averageOfMultipleOfModulusNumbers() {
+		Modulus modulus = new Modulus(7);
+		ModularNumber[] numbers = new ModularNumber[7];
+		Arrays.fill(numbers, new ModularNumber(1, modulus));
+		statisticalFunctions.average(numbers);
+	}
+
+	/** Products wrap around: 5! = 120 = 19 modulo 101 and (p - 1)! = -1 modulo a prime p (Wilson) */
+	@Test
+	public void faculty() {
+		SimpleArithmeticFunctionsImpl simpleArithmeticFunctions = new SimpleArithmeticFunctionsImpl();
+		assertEquals(new ModularNumber(19, MODULUS), simpleArithmeticFunctions.faculty(new ModularNumber(5, MODULUS)));
+		assertEquals(new ModularNumber(100, MODULUS), simpleArithmeticFunctions.faculty(new ModularNumber(100, MODULUS)));
+		assertEquals(new ModularNumber(1, MODULUS), simpleArithmeticFunctions.faculty(new ModularNumber(0, MODULUS)));
+	}
+}
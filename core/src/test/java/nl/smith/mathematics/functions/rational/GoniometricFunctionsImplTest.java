@@ -6,6 +6,7 @@ import java.math.BigInteger;
 import java.util.Properties;
 
 import nl.smith.mathematics.functions.AngleType;
+import nl.smith.mathematics.functions.Approximation;
 import nl.smith.mathematics.functions.GoniometricFunctions;
 import nl.smith.mathematics.number.RationalNumber;
 import nl.smith.mathematics.utility.SystemPropertyChanger;
@@ -67,4 +68,66 @@ public class GoniometricFunctionsImplTest extends SystemPropertyChanger {
 		}
 
 	}
+
+	@Test
+	public void sinAndCosOfReducedArguments() {
+		String[][] expectedValues = { { "100", "-0.50636564110975879365655761045978543206", "0.86231887228768393410193851395084253551" },
+				{ "-1000", "-0.82687954053200256025588742910921814121", "0.56237907629070299107824922660539596875" },
+				{ "2.5", "0.5984721441039564940518547021861622717", "-0.80114361554693371483350279046735166443" },
+				{ "-0.75", "-0.68163876002333416673324195277989393533", "0.73168886887382088631183875300008454384" } };
+
+		for (int angleHalvings = 0; angleHalvings <= 3; angleHalvings += 3) {
+			setSystemProperty("TAYLORNUMBER.value", "30");
+			setSystemProperty("ANGLEHALVINGS.value", String.valueOf(angleHalvings));
+			setSystemProperty("INTERMEDIATEPRECISION.value", "60");
+			GoniometricFunctions<RationalNumber> goniometricFunctions = new GoniometricFunctionsImpl();
+			RationalNumber allowedDelta = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(38));
+			for (String[] values : expectedValues) {
+				RationalNumber angle = RationalNumber.valueOf(values[0]);
+				assertEquals(true, RationalNumber.valueOf(values[1]).subtract(goniometricFunctions.sin(angle)).abs().compareTo(allowedDelta) < 0);
+				assertEquals(true, RationalNumber.valueOf(values[2]).subtract(goniometricFunctions.cos(angle)).abs().compareTo(allowedDelta) < 0);
+			}
+		}
+	}
+
+	@Test
+	public void sinAndCosWithTolerance() {
+		RationalNumber tolerance = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(30));
+		RationalNumber expectedSin = RationalNumber.valueOf("0.47942553860420300027328793521557138808180336794");
+		RationalNumber expectedCos = RationalNumber.valueOf("0.86231887228768393410193851395084253551008400853551");
+
+		for (int angleHalvings = 0; angleHalvings <= 2; angleHalvings += 2) {
+			setSystemProperty("ANGLEHALVINGS.value", String.valueOf(angleHalvings));
+			GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+
+			Approximation<RationalNumber> sin = goniometricFunctions.sin(RationalNumber.of(1, 2), tolerance);
+			assertEquals(true, sin.getErrorBound().compareTo(tolerance) < 0);
+			assertEquals(true, expectedSin.subtract(sin.getValue()).abs().compareTo(sin.getErrorBound()) <= 0);
+
+			Approximation<RationalNumber> cos = goniometricFunctions.cos(RationalNumber.of(100), tolerance);
+			assertEquals(true, cos.getErrorBound().compareTo(tolerance) < 0);
+			assertEquals(true, expectedCos.subtract(cos.getValue()).abs().compareTo(cos.getErrorBound()) <= 0);
+		}
+
+		// Small arguments need a few terms only
+		setSystemProperty("ANGLEHALVINGS.value", "0");
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		assertEquals(true, goniometricFunctions.sin(RationalNumber.of(1, 1000), new RationalNumber(1, 1000000000000L)).getNumberOfTerms() <= 3);
+	}
+
+	@Test
+	public void piAndConvertAngle() {
+		GoniometricFunctionsImpl goniometricFunctions = new GoniometricFunctionsImpl();
+		RationalNumber pi = goniometricFunctions.getPI();
+		assertEquals(true, PI.subtract(pi).abs().compareTo(new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(99))) < 0);
+		assertEquals(pi.divide(180), goniometricFunctions.convertAngle(AngleType.DEG, AngleType.RAD));
+		assertEquals(RationalNumber.of(10, 9), goniometricFunctions.convertAngle(AngleType.DEG, AngleType.GRAD));
+		assertEquals(RationalNumber.ONE, goniometricFunctions.convertAngle(AngleType.RAD, AngleType.RAD));
+
+		// A specified pi is used instead of the calculated pi
+		setSystemProperty("PI.value", "3.1415");
+		goniometricFunctions = new GoniometricFunctionsImpl();
+		assertEquals(RationalNumber.valueOf("3.1415"), goniometricFunctions.getPI());
+		assertEquals(RationalNumber.of(200).divide(RationalNumber.valueOf("3.1415")), goniometricFunctions.convertAngle(AngleType.RAD, AngleType.GRAD));
+	}
 }
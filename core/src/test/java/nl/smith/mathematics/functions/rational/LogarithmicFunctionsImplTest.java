@@ -0,0 +1,99 @@
+package nl.smith.mathematics.functions.rational;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+
+import nl.smith.mathematics.functions.Approximation;
+import nl.smith.mathematics.number.RationalNumber;
+import nl.smith.mathematics.utility.SystemPropertyChanger;
+
+import org.junit.Test;
+
+public class LogarithmicFunctionsImplTest extends SystemPropertyChanger {
+
+	private static final RationalNumber E = RationalNumber.valueOf("2.71828182845904523536028747135266249775724709369995957496697");
+
+	private static final RationalNumber TOLERANCE = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(30));
+
+	@Test
+	public void expWithTolerance() {
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+
+		Approximation<RationalNumber> exp = logarithmicFunctions.exp(RationalNumber.ONE, TOLERANCE);
+		assertEquals(true, exp.getErrorBound().compareTo(TOLERANCE) < 0);
+		assertEquals(true, E.subtract(exp.getValue()).abs().compareTo(exp.getErrorBound()) <= 0);
+
+		RationalNumber expected = RationalNumber.valueOf("0.0000453999297624848515355915155605506102379180888665649692590713");
+		exp = logarithmicFunctions.exp(RationalNumber.of(-10), TOLERANCE);
+		assertEquals(true, exp.getErrorBound().compareTo(TOLERANCE) < 0);
+		assertEquals(true, expected.subtract(exp.getValue()).abs().compareTo(exp.getErrorBound()) <= 0);
+
+		// Small arguments need a few terms only
+		exp = logarithmicFunctions.exp(RationalNumber.of(1, 1000), new RationalNumber(1, 1000000000000L));
+		assertEquals(true, exp.getNumberOfTerms() <= 5);
+	}
+
+	@Test
+	public void lnWithTolerance() {
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+
+		// The expected values are accurate up to 10^-120
+		RationalNumber expectedValueError = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(120));
+
+		RationalNumber expected = RationalNumber
+				.valueOf("0.405465108108164381978013115464349136571990423462494197614014324144100671248914251267752427817313401245968548045387180009");
+		Approximation<RationalNumber> ln = logarithmicFunctions.ln(RationalNumber.valueOf("1.5"), TOLERANCE);
+		assertEquals(true, ln.getErrorBound().compareTo(TOLERANCE) < 0);
+		assertEquals(true, expected.subtract(ln.getValue()).abs().compareTo(ln.getErrorBound().add(expectedValueError)) <= 0);
+
+		expected = RationalNumber
+				.valueOf("-0.693147180559945309417232121458176568075500134360255254120680009493393621969694715605863326996418687542001481020570685734");
+		ln = logarithmicFunctions.ln(RationalNumber.valueOf("0.5"), TOLERANCE);
+		assertEquals(true, expected.subtract(ln.getValue()).abs().compareTo(ln.getErrorBound().add(expectedValueError)) <= 0);
+	}
+
+	@Test
+	public void expWithToleranceProperty() {
+		setSystemProperty("TOLERANCE.value", "1E-30");
+		setSystemProperty("INTERMEDIATEPRECISION.value", "40");
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+
+		assertEquals(true, E.subtract(logarithmicFunctions.exp(RationalNumber.ONE)).abs().compareTo(TOLERANCE) < 0);
+	}
+
+	@Test
+	public void lnOfLargeAndSmallNumbers() {
+		String[][] expectedValues = { { "1000", "6.907755278982137052053974364053092622803304465886318928099983702902718" },
+				{ "0.00001", "-11.51292546497022842008995727342182103800550744314386488016663950483786" },
+				{ "2", "0.6931471805599453094172321214581765680755001343602552541206800094933936" },
+				{ "123456789.125", "18.63140176718051804189510529782539821392233837219611638651105393702216" } };
+
+		LogarithmicFunctionsImpl logarithmicFunctions = new LogarithmicFunctionsImpl();
+		RationalNumber allowedDelta = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(60));
+		// The cached value of ln(2) may be more accurate than the expected values
+		RationalNumber expectedValueError = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(69));
+		for (String[] values : expectedValues) {
+			RationalNumber number = RationalNumber.valueOf(values[0]);
+			RationalNumber expected = RationalNumber.valueOf(values[1]);
+
+			Approximation<RationalNumber> ln = logarithmicFunctions.ln(number, TOLERANCE);
+			assertEquals(true, ln.getErrorBound().compareTo(TOLERANCE) < 0);
+			assertEquals(true, expected.subtract(ln.getValue()).abs().compareTo(ln.getErrorBound().add(expectedValueError)) <= 0);
+			// |y| <= 1/5, so each term adds more than a decimal digit
+			assertEquals(true, ln.getNumberOfTerms() <= 30);
+
+			assertEquals(true, expected.subtract(logarithmicFunctions.ln(number)).abs().compareTo(allowedDelta) < 0);
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void lnOfNegativeNumber() {
+		new LogarithmicFunctionsImpl().ln(RationalNumber.of(-3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void expWithNegativeTolerance() {
+		new LogarithmicFunctionsImpl().exp(RationalNumber.ONE, TOLERANCE.negate());
+	}
+}
@@ -0,0 +1,97 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+
+public class DecimalNumberTest {
+
+	@Test
+	public void divide() {
+		DecimalNumber oneThird = new DecimalNumber(1).divide(3);
+		assertEquals("0." + StringUtils.repeat("3", 34), oneThird.toStringExact());
+		assertEquals(DecimalNumber.DEFAULT_MATH_CONTEXT, oneThird.getMathContext());
+		assertEquals(oneThird, new DecimalNumber(3).getReciprocalValue());
+
+		MathContext mathContext = new MathContext(5, RoundingMode.HALF_UP);
+		DecimalNumber twoThirds = new DecimalNumber(BigDecimal.valueOf(2), mathContext).divide(new DecimalNumber(3));
+		assertEquals("0.66667", twoThirds.toStringExact());
+		assertSame(mathContext, twoThirds.getMathContext());
+		assertEquals("0.44445", twoThirds.multiply(twoThirds).toStringExact());
+		assertEquals(new DecimalNumber("0.125"), new DecimalNumber(BigDecimal.ONE, MathContext.UNLIMITED).divide(8));
+	}
+
+	@Test
+	public void signs() {
+		assertEquals(false, new DecimalNumber(0).isPositive());
+		assertEquals(false, new DecimalNumber(0).isNegative());
+		assertEquals(true, new DecimalNumber("0.001").isPositive());
+		assertEquals(true, new DecimalNumber("-0.001").isNegative());
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void divideWithUnlimitedMathContext() {
+		new DecimalNumber(BigDecimal.ONE, MathContext.UNLIMITED).divide(3);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void divideByZero() {
+		new DecimalNumber(1).divide(0);
+	}
+
+	@Test
+	public void withMathContext() {
+		MathContext mathContext = new MathContext(3);
+		DecimalNumber number = new DecimalNumber("3.14159").withMathContext(mathContext);
+		assertEquals("3.14", number.toStringExact());
+		assertSame(mathContext, number.getMathContext());
+		assertSame(number, number.withMathContext(new MathContext(3)));
+	}
+
+	@Test
+	public void pow() {
+		assertEquals(new DecimalNumber("0.25"), new DecimalNumber(2).pow(-2));
+		assertEquals(new DecimalNumber(1024), new DecimalNumber(2).pow(10));
+		assertEquals(new DecimalNumber(1), new DecimalNumber(7).pow(0));
+		assertEquals(new DecimalNumber(-1), new DecimalNumber(-1).pow(BigInteger.valueOf(Long.MAX_VALUE)));
+		assertEquals("1.02E+3", new DecimalNumber(BigDecimal.valueOf(2), new MathContext(3)).pow(10).toString());
+	}
+
+	@Test
+	public void toStringWithLengthArgument() {
+		DecimalNumber number = new DecimalNumber("0.142857");
+		assertEquals("0.143", number.toString(3, false));
+		assertEquals("0.142\n+Delta:\n0.000857", number.toString(3, true));
+		assertEquals("0.142857", number.toString(6, true));
+		assertEquals("-0.0", new DecimalNumber("-0.04").toString(1, false));
+		assertEquals("-3", new DecimalNumber("-2.5").toString(0, false));
+	}
+
+	@Test
+	public void toStringGetDelta() {
+		StringBuffer resultBuffer = new StringBuffer();
+		for (String value : new String[] { "0", "1.5", "-1.5", "0.0999", "-0.0999", "123.456789", "-123.456789" }) {
+			DecimalNumber expected = new DecimalNumber(value);
+			for (int numberOfDigitsAfterDecimalPoint = 0; numberOfDigitsAfterDecimalPoint < 8; numberOfDigitsAfterDecimalPoint++) {
+				DecimalNumber delta = expected.toStringGetDelta(resultBuffer, numberOfDigitsAfterDecimalPoint, true);
+				assertEquals(expected, DecimalNumber.valueOf(resultBuffer.toString()).add(delta));
+				assertEquals(true, delta.abs().compareTo(new DecimalNumber(BigDecimal.ONE.scaleByPowerOfTen(-numberOfDigitsAfterDecimalPoint))) < 0);
+				resultBuffer.delete(0, resultBuffer.length());
+			}
+		}
+	}
+
+	@Test
+	public void valueOf() {
+		assertEquals(new DecimalNumber("1.50"), DecimalNumber.valueOf(" 1.5 "));
+		assertEquals(new DecimalNumber("1.50").hashCode(), DecimalNumber.valueOf("1.5").hashCode());
+		assertEquals(new DecimalNumber("0.3333"), DecimalNumber.valueOf(new RationalNumber(1, 3), new MathContext(4)));
+	}
+}
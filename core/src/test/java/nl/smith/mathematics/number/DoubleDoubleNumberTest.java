@@ -0,0 +1,89 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DoubleDoubleNumberTest {
+
+	/** 2^-100 */
+	private static final BigDecimal ALLOWED_RELATIVE_DELTA = new BigDecimal(Math.scalb(1.0, -100));
+
+	@Test
+	public void arithmetic() {
+		Random random = new Random(1);
+		for (int i = 0; i < 1000; i++) {
+			DoubleDoubleNumber x = randomNumber(random);
+			DoubleDoubleNumber y = randomNumber(random);
+			BigDecimal exactX = x.toBigDecimal();
+			BigDecimal exactY = y.toBigDecimal();
+
+			assertAccurate(exactX.add(exactY), x.add(y));
+			assertAccurate(exactX.subtract(exactY), x.subtract(y));
+			assertAccurate(exactX.multiply(exactY), x.multiply(y));
+			assertAccurate(exactX.divide(exactY, new MathContext(50)), x.divide(y));
+		}
+	}
+
+	@Test
+	public void components() {
+		DoubleDoubleNumber x = new DoubleDoubleNumber(1, Math.scalb(1.0, -60));
+		assertEquals(1, x.doubleValue(), 0);
+		assertEquals(Math.scalb(1.0, -60), x.getLowOrderComponent(), 0);
+		assertEquals(new BigDecimal(Long.MAX_VALUE), new DoubleDoubleNumber(Long.MAX_VALUE).toBigDecimal());
+		assertEquals(new BigDecimal(Long.MIN_VALUE), new DoubleDoubleNumber(Long.MIN_VALUE).toBigDecimal());
+		assertEquals(BigInteger.valueOf(Long.MAX_VALUE), new DoubleDoubleNumber(Long.MAX_VALUE).getIntegerPartAsBigInteger());
+		assertEquals(true, new DoubleDoubleNumber(Long.MAX_VALUE).isNaturalNumber());
+		assertEquals(false, x.isNaturalNumber());
+		assertEquals(1, x.compareTo(DoubleDoubleNumber.ONE));
+	}
+
+	@Test
+	public void integerAndFractionalPart() {
+		DoubleDoubleNumber x = new DoubleDoubleNumber(-3, Math.scalb(1.0, -60));
+		assertEquals(new DoubleDoubleNumber(-2), x.getIntegerPart());
+		assertEquals(new DoubleDoubleNumber(-1, Math.scalb(1.0, -60)), x.getFractionalPart());
+		assertEquals(BigInteger.valueOf(-2), x.getIntegerPartAsBigInteger());
+	}
+
+	@Test
+	public void pow() {
+		DoubleDoubleNumber x = DoubleDoubleNumber.valueOf("1.1");
+		assertAccurate(x.toBigDecimal().pow(10), x.pow(10));
+		assertEquals(DoubleDoubleNumber.ONE, x.pow(0));
+		assertAccurate(BigDecimal.ONE.divide(x.toBigDecimal().pow(3), new MathContext(50)), x.pow(-3));
+		assertEquals(new DoubleDoubleNumber(-1), new DoubleDoubleNumber(-1).pow(BigInteger.valueOf(Long.MAX_VALUE)));
+	}
+
+	@Test
+	public void sum() {
+		DoubleDoubleNumber sum = DoubleDoubleNumber.sum(Arrays.asList(new DoubleDoubleNumber(1e20), new DoubleDoubleNumber(1), new DoubleDoubleNumber(-1e20)));
+		assertEquals(DoubleDoubleNumber.ONE, sum);
+	}
+
+	@Test
+	public void toStringWithLengthArgument() {
+		DoubleDoubleNumber third = DoubleDoubleNumber.ONE.divide(3);
+		assertEquals("0.33333333333333333333333333333333", third.toString());
+		assertEquals("0.3333", third.toString(4, false));
+		assertEquals("-0.6667", third.multiply(-2).toString(4, false));
+		assertEquals("0.1", DoubleDoubleNumber.valueOf("0.1").toString());
+	}
+
+	private static DoubleDoubleNumber randomNumber(Random random) {
+		double hi = (random.nextDouble() - 0.5) * Math.scalb(1.0, random.nextInt(80) - 40);
+
+		return new DoubleDoubleNumber(hi, hi * (random.nextDouble() - 0.5) * DoubleDoubleNumber.EPSILON * (1L << 50));
+	}
+
+	private static void assertAccurate(BigDecimal expected, DoubleDoubleNumber actual) {
+		BigDecimal delta = expected.subtract(actual.toBigDecimal()).abs();
+		assertEquals(true, delta.compareTo(expected.abs().multiply(ALLOWED_RELATIVE_DELTA)) <= 0);
+	}
+}
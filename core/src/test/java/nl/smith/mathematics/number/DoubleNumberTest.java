@@ -0,0 +1,57 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+
+import org.junit.Test;
+
+public class DoubleNumberTest {
+
+	@Test
+	public void arithmetic() {
+		DoubleNumber x = new DoubleNumber(1.5);
+		assertEquals(new DoubleNumber(4), x.add(2.5));
+		assertEquals(new DoubleNumber(-1), x.subtract(BigInteger.valueOf(2)).multiply(2));
+		assertEquals(new DoubleNumber(0.75), x.divide(2));
+		assertEquals(new DoubleNumber(2.25), x.pow(2));
+		assertEquals(new DoubleNumber(1 / 2.25), x.pow(-2));
+		assertEquals(new DoubleNumber(-1), new DoubleNumber(-1).pow(BigInteger.valueOf(Long.MAX_VALUE)));
+		assertEquals(new DoubleNumber(Double.POSITIVE_INFINITY), DoubleNumber.ZERO.getReciprocalValue());
+	}
+
+	@Test
+	public void integerAndFractionalPart() {
+		DoubleNumber x = new DoubleNumber(-2.75);
+		assertEquals(new DoubleNumber(-2), x.getIntegerPart());
+		assertEquals(new DoubleNumber(-0.75), x.getFractionalPart());
+		assertEquals(BigInteger.valueOf(-2), x.getIntegerPartAsBigInteger());
+		assertEquals(false, x.isNaturalNumber());
+		assertEquals(true, new DoubleNumber(1e20).isNaturalNumber());
+		assertEquals(false, new DoubleNumber(Double.POSITIVE_INFINITY).isNaturalNumber());
+		assertEquals(false, DoubleNumber.ZERO.isPositive());
+		assertEquals(false, DoubleNumber.ZERO.isNegative());
+	}
+
+	@Test
+	public void toStringWithLengthArgument() {
+		assertEquals("0.1000000000000000055511151231257827021181583404541015625", new DoubleNumber(0.1).toStringExact());
+		assertEquals("0.13", new DoubleNumber(0.125).toString(2, false));
+		assertEquals("0.12\n+Delta:\n0.005", new DoubleNumber(0.125).toString(2, true));
+		assertEquals("-0.5", new DoubleNumber(-0.5).toString(1, true));
+	}
+
+	@Test
+	public void valueOf() {
+		assertEquals(new DoubleNumber(0.1), DoubleNumber.valueOf(" 0.1 "));
+
+		Map<ArithmeticComponentName, String> numberElements = new HashMap<>();
+		numberElements.put(ArithmeticComponentName.INTEGER_NUMBER, "0");
+		numberElements.put(ArithmeticComponentName.FRACTION_REPEATING_BLOCK, "3");
+		assertEquals(new DoubleNumber(1.0 / 3), new DoubleNumber(numberElements));
+	}
+}
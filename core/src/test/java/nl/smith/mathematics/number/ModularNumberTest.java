@@ -0,0 +1,82 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
+
+import org.junit.Test;
+
+public class ModularNumberTest {
+
+	private static final Modulus SMALL_MODULUS = new Modulus(1000000007);
+
+	@Test
+	public void arithmetic() {
+		Random random = new Random(1);
+		for (Modulus modulus : Arrays.asList(SMALL_MODULUS, ModularNumber.getDefaultModulus(), new Modulus(4611686018427387847L))) {
+			BigInteger m = BigInteger.valueOf(modulus.getValue());
+			for (int i = 0; i < 1000; i++) {
+				BigInteger x = new BigInteger(64, random).mod(m);
+				BigInteger y = new BigInteger(64, random).mod(m);
+				ModularNumber modularX = new ModularNumber(x, modulus);
+				ModularNumber modularY = new ModularNumber(y, modulus);
+
+				assertEquals(x.longValue(), modularX.getResidue());
+				assertEquals(x.add(y).mod(m).longValue(), modularX.add(modularY).getResidue());
+				assertEquals(x.subtract(y).mod(m).longValue(), modularX.subtract(modularY).getResidue());
+				assertEquals(x.multiply(y).mod(m).longValue(), modularX.multiply(modularY).getResidue());
+				assertEquals(x.modPow(BigInteger.valueOf(i), m).longValue(), modularX.pow(i).getResidue());
+				if (y.signum() != 0) {
+					assertEquals(x.multiply(y.modInverse(m)).mod(m).longValue(), modularX.divide(modularY).getResidue());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void conversions() {
+		assertEquals(1000000006, new ModularNumber(-1, SMALL_MODULUS).getResidue());
+		assertEquals(new ModularNumber(2, SMALL_MODULUS), new ModularNumber(Long.MAX_VALUE, SMALL_MODULUS).subtract(Long.MAX_VALUE - 2));
+		assertEquals(500000004, new ModularNumber(new RationalNumber(1, 2), SMALL_MODULUS).getResidue());
+		assertEquals(new ModularNumber(3).getReciprocalValue(), ModularNumber.valueOf("0.{3}R"));
+
+		Map<ArithmeticComponentName, String> numberElements = new HashMap<>();
+		numberElements.put(ArithmeticComponentName.INTEGER_NUMBER, "0");
+		numberElements.put(ArithmeticComponentName.FRACTION_REPEATING_BLOCK, "3");
+		assertEquals(ModularNumber.valueOf("1").divide(3), new ModularNumber(numberElements));
+
+		assertEquals(new ModularNumber(7), new ModularNumber(2).add(5.0));
+		assertEquals("7", new ModularNumber(7).toString());
+		assertEquals("7.00", new ModularNumber(7).toString(2, true));
+	}
+
+	@Test
+	public void reciprocalValue() {
+		ModularNumber x = new ModularNumber(12345, SMALL_MODULUS);
+		assertEquals(new ModularNumber(1, SMALL_MODULUS), x.multiply(x.getReciprocalValue()));
+		assertEquals(x.getReciprocalValue().pow(3), x.pow(-3));
+		assertEquals(x.pow(-3), x.pow(BigInteger.valueOf(-3)));
+		assertEquals(x, x.pow(BigInteger.valueOf(SMALL_MODULUS.getValue())));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void divideByZero() {
+		new ModularNumber(1, SMALL_MODULUS).divide(new ModularNumber(SMALL_MODULUS.getValue(), SMALL_MODULUS));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void differentModuli() {
+		new ModularNumber(1, SMALL_MODULUS).add(new ModularNumber(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void modulusNotPrime() {
+		new Modulus(1000000011L * 3);
+	}
+}
@@ -0,0 +1,62 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ParallelMultiplicationTest {
+
+	private final Random random = new Random(20161018);
+
+	@Test
+	public void multiplyBalancedOperands() {
+		for (int bitLength : new int[] { 300, 1000, 4099, 20000 }) {
+			BigInteger x = new BigInteger(bitLength, random);
+			BigInteger y = new BigInteger(bitLength + 17, random);
+
+			assertEquals(x.multiply(y), ParallelMultiplication.multiply(x, y, RationalSummation.getForkJoinPool(), 256));
+			assertEquals(x.multiply(y).negate(), ParallelMultiplication.multiply(x.negate(), y, RationalSummation.getForkJoinPool(), 256));
+			assertEquals(x.multiply(y), ParallelMultiplication.multiply(x.negate(), y.negate(), RationalSummation.getForkJoinPool(), 256));
+		}
+	}
+
+	@Test
+	public void multiplyUnbalancedOperands() {
+		BigInteger x = new BigInteger(30000, random);
+		BigInteger y = new BigInteger(700, random);
+
+		assertEquals(x.multiply(y), ParallelMultiplication.multiply(x, y, RationalSummation.getForkJoinPool(), 256));
+		assertEquals(x.multiply(y), ParallelMultiplication.multiply(y, x, RationalSummation.getForkJoinPool(), 256));
+	}
+
+	@Test
+	public void multiplySmallOperands() {
+		BigInteger x = new BigInteger(30000, random);
+
+		assertEquals(BigInteger.ZERO, ParallelMultiplication.multiply(x, BigInteger.ZERO, RationalSummation.getForkJoinPool(), 256));
+		assertEquals(x, ParallelMultiplication.multiply(BigInteger.ONE, x, RationalSummation.getForkJoinPool(), 256));
+		assertEquals(BigInteger.valueOf(-6), ParallelMultiplication.multiply(BigInteger.valueOf(2), BigInteger.valueOf(-3)));
+	}
+
+	@Test
+	public void multiplyLargeRationalNumbers() {
+		BigInteger n1 = new BigInteger(ParallelMultiplication.getDefaultThreshold() + 100, random);
+		BigInteger d1 = new BigInteger(ParallelMultiplication.getDefaultThreshold() + 50, random).setBit(0);
+		BigInteger n2 = new BigInteger(ParallelMultiplication.getDefaultThreshold() + 10, random);
+		BigInteger d2 = d1.add(BigInteger.valueOf(2));
+
+		RationalNumber product = new RationalNumber(n1, d1).multiply(new RationalNumber(n2, d2));
+		RationalNumber sum = new RationalNumber(n1, d1).add(new RationalNumber(n2, d2));
+
+		assertEquals(new RationalNumber(n1.multiply(n2), d1.multiply(d2)), product);
+		assertEquals(new RationalNumber(n1.multiply(d2).add(n2.multiply(d1)), d1.multiply(d2)), sum);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void multiplyWithoutForkJoinPool() {
+		ParallelMultiplication.multiply(BigInteger.ONE, BigInteger.TEN, null, 256);
+	}
+}
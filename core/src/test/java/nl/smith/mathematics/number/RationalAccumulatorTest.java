@@ -0,0 +1,74 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RationalAccumulatorTest {
+
+	@Test
+	public void addAndSubtract() {
+		RationalAccumulator accumulator = new RationalAccumulator();
+		assertEquals(RationalNumber.ZERO, accumulator.toRationalNumber());
+
+		accumulator.add(new RationalNumber(1, 6)).add(new RationalNumber(1, 4)).subtract(new RationalNumber(1, 3));
+		assertEquals(new RationalNumber(1, 12), accumulator.toRationalNumber());
+
+		accumulator.reset().addProduct(new RationalNumber(2, 3), new RationalNumber(9, 4)).addScaled(new RationalNumber(1, 2), -3);
+		assertEquals(RationalNumber.ZERO, accumulator.toRationalNumber());
+	}
+
+	@Test
+	public void overflowOfLongComponents() {
+		RationalNumber big = new RationalNumber(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+		RationalAccumulator accumulator = new RationalAccumulator(NormalizationPolicy.EXPLICIT, 0);
+		RationalNumber expected = RationalNumber.ZERO;
+		for (int i = 0; i < 5; i++) {
+			accumulator.add(big).addProduct(big, big).addScaled(big, Long.MAX_VALUE);
+			expected = expected.add(big).add(big.multiply(big)).add(big.multiply(Long.MAX_VALUE));
+		}
+
+		assertEquals(expected, accumulator.toRationalNumber());
+		assertEquals(expected.toString(), accumulator.toRationalNumber().toString());
+	}
+
+	@Test
+	public void accumulatedValueEqualsSumOfRationalNumbers() {
+		Random random = new Random(7);
+		for (NormalizationPolicy normalizationPolicy : NormalizationPolicy.values()) {
+			RationalAccumulator accumulator = new RationalAccumulator(normalizationPolicy, 128);
+			RationalNumber expected = RationalNumber.ZERO;
+			for (int i = 0; i < 200; i++) {
+				RationalNumber augend = new RationalNumber(new BigInteger(1 + random.nextInt(80), random).subtract(BigInteger.valueOf(random.nextInt(1000))),
+						BigInteger.valueOf(1 + random.nextInt(1000)));
+				if (i % 2 == 0) {
+					accumulator.add(augend);
+					expected = expected.add(augend);
+				} else {
+					accumulator.subtract(augend);
+					expected = expected.subtract(augend);
+				}
+			}
+
+			assertEquals(expected, accumulator.toRationalNumber());
+		}
+	}
+
+	@Test
+	public void normalizationPolicy() {
+		RationalAccumulator accumulator = new RationalAccumulator(NormalizationPolicy.EAGER, 0).add(new RationalNumber(1, 4)).add(new RationalNumber(1, 4));
+		assertEquals(2, accumulator.getBitLength());
+
+		accumulator = new RationalAccumulator(NormalizationPolicy.EXPLICIT, 0).add(new RationalNumber(1, 4)).add(new RationalNumber(1, 4));
+		assertEquals(3, accumulator.getBitLength());
+		assertEquals(2, accumulator.reduce().getBitLength());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addNull() {
+		new RationalAccumulator().add(null);
+	}
+}
@@ -0,0 +1,72 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class RationalIntervalTest {
+
+	private static final RationalInterval X = RationalInterval.valueOf("[-1, 2]");
+
+	private static final RationalInterval Y = RationalInterval.valueOf("[3, 4]");
+
+	@Test
+	public void arithmetic() {
+		assertEquals(RationalInterval.valueOf("[2, 6]"), X.add(Y));
+		assertEquals(RationalInterval.valueOf("[-5, -1]"), X.subtract(Y));
+		assertEquals(RationalInterval.valueOf("[-4, 8]"), X.multiply(Y));
+		assertEquals(new RationalInterval(new RationalNumber(-1, 3), new RationalNumber(2, 3)), X.divide(Y));
+		assertEquals(RationalInterval.valueOf("[0, 4]"), X.pow(2));
+		assertEquals(RationalInterval.valueOf("[-1, 8]"), X.pow(3));
+		assertEquals(RationalInterval.valueOf("[9, 16]"), Y.negate().pow(2));
+		assertEquals(RationalInterval.ONE, X.pow(0));
+		assertEquals(RationalInterval.valueOf("[0, 2]"), X.abs());
+		assertEquals(RationalInterval.valueOf("[-2, 1]"), X.negate());
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void divideByIntervalContainingZero() {
+		Y.divide(X);
+	}
+
+	@Test
+	public void outwardRounding() {
+		BigInteger maximumDenominator = BigInteger.valueOf(100);
+		RationalInterval third = new RationalInterval(RationalNumber.ONE, RationalNumber.ONE, maximumDenominator).divide(3);
+		assertEquals(true, third.contains(new RationalNumber(1, 3)));
+		assertEquals(true, third.getLowerBound().getDenominator().compareTo(maximumDenominator) <= 0);
+		assertEquals(true, third.getUpperBound().getDenominator().compareTo(maximumDenominator) <= 0);
+		assertEquals(true, third.getWidth().compareTo(new RationalNumber(1, 1000)) < 0);
+
+		RationalInterval minusThird = third.negate().multiply(1);
+		assertEquals(true, minusThird.contains(new RationalNumber(-1, 3)));
+
+		RationalInterval pi = new RationalInterval(new RationalNumber(355, 113)).withMaximumDenominator(BigInteger.valueOf(10));
+		assertEquals(new RationalInterval(new RationalNumber(31, 10), new RationalNumber(22, 7)), pi);
+	}
+
+	@Test
+	public void integerAndFractionalPart() {
+		RationalInterval x = RationalInterval.valueOf("[2.25, 2.75]");
+		assertEquals(RationalInterval.valueOf("[2, 2]"), x.getIntegerPart());
+		assertEquals(RationalInterval.valueOf("[0.25, 0.75]"), x.getFractionalPart());
+		assertEquals(BigInteger.valueOf(2), x.getIntegerPartAsBigInteger());
+		assertEquals(RationalInterval.valueOf("[-1, 1]"), X.getFractionalPart());
+		assertEquals(false, X.isNaturalNumber());
+		assertEquals(true, RationalInterval.valueOf("7").isNaturalNumber());
+		assertEquals(false, X.isPositive());
+		assertEquals(true, Y.isPositive());
+	}
+
+	@Test
+	public void toStringWithLengthArgument() {
+		RationalInterval third = new RationalInterval(new RationalNumber(1, 3));
+		assertEquals("[0.3333333333333333333333333333333333333333, 0.3333333333333333333333333333333333333334]", third.toString());
+		assertEquals("[0.33, 0.34]", third.toString(2, false));
+		assertEquals("[-0.34, -0.33]", third.negate().toString(2, false));
+		assertEquals("[-1, 2]", X.toString());
+		assertEquals("[-1, 2]", X.toString(0, true));
+	}
+}
@@ -2,6 +2,9 @@ package nl.smith.mathematics.number;
 
 import static org.junit.Assert.assertEquals;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -155,4 +158,35 @@ public class RationalNumberMatrixTest {
 
 	}
 
+	@Test
+	public void negate() {
+		RationalNumber[][] elements = new RationalNumber[][] {
+				{ new RationalNumber(1), new RationalNumber(-2, 3) },
+				{ new RationalNumber(0), new RationalNumber(4) },
+		};
+
+		RationalNumber[][] negatedElements = new RationalNumber[][] {
+				{ new RationalNumber(-1), new RationalNumber(2, 3) },
+				{ new RationalNumber(0), new RationalNumber(-4) },
+		};
+
+		assertEquals(new RationalNumberMatrix(negatedElements), new RationalNumberMatrix(elements).negate());
+	}
+
+	@Test
+	public void binaryEncoding() {
+		RationalNumber[][] elements = new RationalNumber[][] {
+				{ new RationalNumber(1), new RationalNumber(-2, 3), RationalNumber.valueOf("12.345{678}R") },
+				{ new RationalNumber(0), new RationalNumber(BigInteger.TEN.pow(40), BigInteger.valueOf(7)), new RationalNumber(Long.MIN_VALUE) },
+		};
+		RationalNumberMatrix rationalNumberMatrix = new RationalNumberMatrix(elements);
+
+		ByteBuffer buffer = ByteBuffer.allocate(rationalNumberMatrix.getEncodedLength());
+		rationalNumberMatrix.encode(buffer);
+		assertEquals(0, buffer.remaining());
+
+		buffer.flip();
+		assertEquals(rationalNumberMatrix, RationalNumberMatrix.decode(buffer));
+		assertEquals(0, buffer.remaining());
+	}
 }
@@ -4,14 +4,20 @@ import static java.math.BigInteger.ONE;
 import static java.math.BigInteger.TEN;
 import static java.math.BigInteger.ZERO;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
+import nl.smith.mathematics.factory.ArithmeticComponentResolver;
 import nl.smith.mathematics.factory.constant.ArithmeticComponentName;
 
 import org.junit.Test;
@@ -69,6 +75,87 @@ public class RationalNumberTest {
 				new RationalNumber(new BigInteger("4"), new BigInteger("6")).getNormalizedRationalNumber());
 	}
 
+	@Test
+	public void cachedDerivedProperties() {
+		BigInteger big = TEN.pow(30);
+		RationalNumber rationalNumber = new RationalNumber(big.multiply(new BigInteger("-6")), big.multiply(new BigInteger("4")));
+		RationalNumber normalizedRationalNumber = rationalNumber.getNormalizedRationalNumber();
+		assertEquals(new RationalNumber(-3, 2), normalizedRationalNumber);
+		assertSame(normalizedRationalNumber, rationalNumber.getNormalizedRationalNumber());
+		assertSame(normalizedRationalNumber, normalizedRationalNumber.getNormalizedRationalNumber());
+		assertSame(rationalNumber.getIntegerPartAsBigInteger(), rationalNumber.getIntegerPartAsBigInteger());
+		assertEquals(BigInteger.valueOf(-1), rationalNumber.getIntegerPartAsBigInteger());
+		assertEquals(rationalNumber.getBitLength(), rationalNumber.getBitLength());
+		assertEquals(big.multiply(new BigInteger("-6")).bitLength(), rationalNumber.getBitLength());
+		assertEquals(2, normalizedRationalNumber.getBitLength());
+
+		assertEquals(true, rationalNumber.isNegative());
+		assertEquals(false, rationalNumber.isPositive());
+		assertEquals(false, rationalNumber.isNaturalNumber());
+		assertEquals(true, new RationalNumber(big.multiply(TEN), big).isNaturalNumber());
+		assertEquals(true, new RationalNumber(big, big.multiply(TEN)).isPositive());
+		assertEquals(true, new RationalNumber(1, 3).isPositive());
+		assertEquals(false, new RationalNumber(ZERO, big).isPositive());
+		assertEquals(false, new RationalNumber(ZERO, big).isNegative());
+	}
+
+	@Test
+	public void staticFactoryMethods() {
+		assertSame(RationalNumber.ZERO, RationalNumber.of(0));
+		assertSame(RationalNumber.ONE, RationalNumber.of(1));
+		assertSame(RationalNumber.MINUS_ONE, RationalNumber.of(-1));
+		assertSame(RationalNumber.of(127), RationalNumber.of(127));
+		assertSame(RationalNumber.of(-128), RationalNumber.of(-128));
+		assertSame(RationalNumber.of(2), RationalNumber.of(-6, -3));
+		assertSame(RationalNumber.ZERO, RationalNumber.of(0, -7));
+
+		assertEquals(new RationalNumber(128), RationalNumber.of(128));
+		assertEquals("Numerator: -1\nDenominator: 3", RationalNumber.of(2, -6).toString());
+		assertEquals(new RationalNumber(Long.MAX_VALUE), RationalNumber.of(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void normalizeUsingPolicy() {
+		RationalNumber rationalNumber = new RationalNumber(48, 180);
+		assertEquals("Numerator: 4\nDenominator: 15", rationalNumber.normalize(NormalizationPolicy.EAGER, 0).toString());
+		assertEquals(rationalNumber.toString(), rationalNumber.normalize(NormalizationPolicy.EXPLICIT, 0).toString());
+		assertEquals(rationalNumber.toString(), rationalNumber.normalize(NormalizationPolicy.LAZY, 8).toString());
+		assertEquals("Numerator: 4\nDenominator: 15", rationalNumber.normalize(NormalizationPolicy.LAZY, 7).toString());
+
+		BigInteger big = BigInteger.valueOf(5).pow(100);
+		RationalNumber bigRationalNumber = new RationalNumber(big.multiply(BigInteger.valueOf(14)), big.multiply(BigInteger.valueOf(-21)));
+		assertEquals("Numerator: -2\nDenominator: 3", bigRationalNumber.normalize(NormalizationPolicy.EAGER, 0).toString());
+		bigRationalNumber = new RationalNumber(big.multiply(BigInteger.valueOf(14)), BigInteger.valueOf(21));
+		assertEquals(new RationalNumber(big.multiply(BigInteger.valueOf(2)), BigInteger.valueOf(3)).toString(), bigRationalNumber.normalize(NormalizationPolicy.EAGER, 0)
+				.toString());
+	}
+
+	@Test
+	public void arithmeticKeepsNormalizedNumbersNormalized() {
+		Random random = new Random(1);
+		for (int i = 0; i < 1000; i++) {
+			BigInteger n1 = new BigInteger(1 + random.nextInt(100), random).subtract(BigInteger.valueOf(random.nextInt(1000)));
+			BigInteger d1 = new BigInteger(1 + random.nextInt(100), random).add(ONE);
+			BigInteger n2 = new BigInteger(1 + random.nextInt(100), random).subtract(BigInteger.valueOf(random.nextInt(1000)));
+			BigInteger d2 = new BigInteger(1 + random.nextInt(100), random).add(ONE);
+			RationalNumber first = new RationalNumber(n1, d1).getNormalizedRationalNumber();
+			RationalNumber second = new RationalNumber(n2, d2).getNormalizedRationalNumber();
+
+			assertNormalized(new RationalNumber(n1.multiply(d2).add(n2.multiply(d1)), d1.multiply(d2)), first.add(second));
+			assertNormalized(new RationalNumber(n1.multiply(d2).subtract(n2.multiply(d1)), d1.multiply(d2)), first.subtract(second));
+			assertNormalized(new RationalNumber(n1.multiply(n2), d1.multiply(d2)), first.multiply(second));
+			assertNormalized(new RationalNumber(n1.multiply(d2), d1), first.multiply(d2));
+			if (n2.signum() != 0) {
+				assertNormalized(new RationalNumber(n1, d1.multiply(n2)), first.divide(n2));
+			}
+		}
+	}
+
+	private static void assertNormalized(RationalNumber expected, RationalNumber actual) {
+		assertEquals(expected, actual);
+		assertEquals(expected.getNormalizedRationalNumber().toString(), actual.toString());
+	}
+
 	@Test
 	public void toExactString() {
 		RationalNumber oneDivSeven = new RationalNumber(ONE, BigInteger.valueOf(7));
@@ -193,6 +280,230 @@ public class RationalNumberTest {
 
 	}
 
+	@Test
+	public void toFormattedStringOfFiniteDecimals() {
+		assertEquals("  3.000", new RationalNumber(3).toStringFormatted(3, 3));
+		assertEquals(" -0.250", new RationalNumber(-1, 4).toStringFormatted(3, 3));
+		assertEquals("0.14285714285714285714", new RationalNumber(1, 7).toStringFormatted(1, 20));
+	}
+
+	@Test
+	public void valueOfEqualsRegularExpressionParsing() {
+		String[] numbers = { "0", "7", "-7", "123456789012345678", "1234567890123456789012345678901234567890", "0.5", "-0.5", "12.0345", "-12.345{678}R",
+				"0.{3}R", "1.{0010}R", "-0.000{9}R", "1.234567890123456789{0123456789}R", "1E5", "-1E-5", "1.5E0", "-9.25E-30", "1.{3}RE2", "-2.3{456}RE-2",
+				"1.5E40", "3.1415926535897932384626433832795028841971693993751058209749445923078164062862089986280348253421170679" };
+
+		for (String number : numbers) {
+			assertEquals(number, new RationalNumber(ArithmeticComponentResolver.getNumberElements(number)), RationalNumber.valueOf(number));
+		}
+
+		assertEquals(new RationalNumber(-2304, 10000), RationalNumber.valueOf("x-2.304E-1y", 1, 10));
+	}
+
+	@Test
+	public void valueOfRejectsNonNumbers() {
+		String[] nonNumbers = { "-", "-0", "01", "1.", "1.0", "1.50", ".5", "1.{0}R", "1.{}R", "1.{3}", "1.{3}R0", "12E3", "0E1", "0.5E1", "1.50E1", "1E", "1E-0",
+				"1E05", "--1", "+1", " 1", "1 ", "1,5", "1.5e3" };
+
+		for (String nonNumber : nonNumbers) {
+			try {
+				RationalNumber.valueOf(nonNumber);
+				fail(String.format("'%s' should not be accepted", nonNumber));
+			} catch (IllegalArgumentException e) {
+				// Expected
+			}
+		}
+	}
+
+	@Test
+	public void valueOfDouble() {
+		assertEquals(new RationalNumber(BigInteger.valueOf(3602879701896397L), ONE.shiftLeft(55)), RationalNumber.valueOf(0.1));
+		assertEquals(new RationalNumber(-3, 4), RationalNumber.valueOf(-0.75));
+		assertSame(RationalNumber.ZERO, RationalNumber.valueOf(-0.0));
+		assertEquals(new RationalNumber(ONE, ONE.shiftLeft(1074)), RationalNumber.valueOf(Double.MIN_VALUE));
+		assertEquals(new RationalNumber(ONE.shiftLeft(53).subtract(ONE).shiftLeft(971)), RationalNumber.valueOf(Double.MAX_VALUE));
+		assertEquals(new RationalNumber(TEN.pow(20)), RationalNumber.valueOf(1e20));
+		assertEquals(new RationalNumber(7, 4), new RationalNumber(5, 4).add(0.5));
+		assertEquals(new RationalNumber(3, 4), new RationalNumber(5, 4).subtract(0.5));
+		assertEquals(new RationalNumber(5, 8), new RationalNumber(5, 4).multiply(0.5));
+		assertEquals(new RationalNumber(5, 2), new RationalNumber(5, 4).divide(0.5));
+	}
+
+	@Test
+	public void doubleValue() {
+		Random random = new Random(11);
+		for (int i = 0; i < 1000; i++) {
+			double value = Double.longBitsToDouble(random.nextLong());
+			if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+				assertEquals(Double.doubleToLongBits(value == 0 ? 0.0 : value), Double.doubleToLongBits(RationalNumber.valueOf(value).doubleValue()));
+			}
+
+			long numerator = random.nextLong() >> random.nextInt(64);
+			long denominator = 1 + (random.nextLong() >>> (1 + random.nextInt(63)));
+			RationalNumber rationalNumber = new RationalNumber(BigInteger.valueOf(numerator).shiftLeft(random.nextInt(100)), BigInteger.valueOf(denominator));
+			double doubleValue = rationalNumber.doubleValue();
+			// The rounding error is at most half a unit in the last place
+			RationalNumber roundingError = rationalNumber.subtract(RationalNumber.valueOf(doubleValue)).abs();
+			assertEquals(true, RationalNumber.valueOf(Math.ulp(doubleValue)).divide(2).compareTo(roundingError) >= 0);
+		}
+
+		assertEquals(1.0 / 3, new RationalNumber(1, 3).doubleValue(), 0);
+		assertEquals(-2.0 / 3, new RationalNumber(TEN.pow(40).multiply(BigInteger.valueOf(-2)), TEN.pow(40).multiply(BigInteger.valueOf(3))).doubleValue(), 0);
+		assertEquals(0.1, RationalNumber.valueOf("0.1").doubleValue(), 0);
+		assertEquals(Double.MIN_VALUE, new RationalNumber(ONE, ONE.shiftLeft(1074)).doubleValue(), 0);
+		assertEquals(0.0, new RationalNumber(ONE, ONE.shiftLeft(1075)).doubleValue(), 0);
+		assertEquals(Double.MIN_VALUE, new RationalNumber(ONE.shiftLeft(1).add(ONE), ONE.shiftLeft(1076)).doubleValue(), 0);
+		assertEquals(Double.POSITIVE_INFINITY, new RationalNumber(ONE.shiftLeft(1024)).doubleValue(), 0);
+		assertEquals(Double.MAX_VALUE, RationalNumber.valueOf(Double.MAX_VALUE).doubleValue(), 0);
+
+		assertEquals(1.0f / 3, new RationalNumber(1, 3).floatValue(), 0);
+		assertEquals(0.1f, RationalNumber.valueOf("0.1").floatValue(), 0);
+		assertEquals(Float.MIN_VALUE, RationalNumber.valueOf(Float.MIN_VALUE).floatValue(), 0);
+		assertEquals(Float.MAX_VALUE, RationalNumber.valueOf(Float.MAX_VALUE).floatValue(), 0);
+		assertEquals(Float.POSITIVE_INFINITY, RationalNumber.valueOf(Double.MAX_VALUE).floatValue(), 0);
+	}
+
+	@Test
+	public void limitDenominator() {
+		RationalNumber pi = RationalNumber.valueOf("3.1415926535897932384626433832795028841971693993751");
+		assertEquals(new RationalNumber(3), pi.limitDenominator(BigInteger.ONE));
+		assertEquals(new RationalNumber(19, 6), pi.limitDenominator(BigInteger.valueOf(6)));
+		assertEquals(new RationalNumber(22, 7), pi.limitDenominator(BigInteger.valueOf(7)));
+		assertEquals(new RationalNumber(311, 99), pi.limitDenominator(BigInteger.valueOf(100)));
+		assertEquals(new RationalNumber(355, 113), pi.limitDenominator(BigInteger.valueOf(1000)));
+		assertEquals(new RationalNumber(-355, 113), pi.negate().limitDenominator(BigInteger.valueOf(1000)));
+		assertEquals(new RationalNumber(1, 3), new RationalNumber(2, 6).limitDenominator(BigInteger.valueOf(3)));
+		assertEquals(new RationalNumber(1, 2), new RationalNumber(7, 13).limitDenominator(BigInteger.valueOf(2)));
+	}
+
+	@Test
+	public void pow() {
+		RationalNumber x = new RationalNumber(-2, 3);
+		RationalNumber expected = RationalNumber.ONE;
+		for (int exponent = 0; exponent < 100; exponent++) {
+			assertEquals(expected, x.pow(exponent));
+			assertEquals(expected.getReciprocalValue(), x.pow(-exponent));
+			assertEquals(expected, x.pow(BigInteger.valueOf(exponent)));
+			expected = expected.multiply(x);
+		}
+
+		assertEquals("Numerator: -27\nDenominator: 8", new RationalNumber(-2, 3).pow(-3).toString());
+		assertEquals(new RationalNumber(ONE, TEN.pow(60)), new RationalNumber(1, 1000).pow(20));
+
+		RationalNumber normalized = new RationalNumber(2, 3).getNormalizedRationalNumber();
+		RationalNumber power = normalized.pow(50);
+		assertSame(power, power.getNormalizedRationalNumber());
+
+		BigInteger largeExponent = BigInteger.valueOf(Long.MAX_VALUE);
+		assertEquals(RationalNumber.ZERO, RationalNumber.ZERO.pow(largeExponent));
+		assertEquals(RationalNumber.MINUS_ONE, RationalNumber.MINUS_ONE.pow(largeExponent));
+		assertEquals(RationalNumber.ONE, RationalNumber.MINUS_ONE.pow(largeExponent.add(BigInteger.ONE)));
+		assertEquals(RationalNumber.ONE, new RationalNumber(-3, -3).pow(largeExponent.negate()));
+		assertEquals(RationalNumber.ONE, new RationalNumber(5, 7).pow(0));
+
+		try {
+			new RationalNumber(2, 3).pow(largeExponent);
+			fail("ArithmeticException expected");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+
+		try {
+			RationalNumber.ZERO.pow(-1);
+			fail("ArithmeticException expected");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void powerCache() {
+		RationalNumber base = new RationalNumber(-3, 7);
+		PowerCache<RationalNumber> powerCache = new PowerCache<>(base, 8);
+		for (int exponent = 20; exponent >= -2; exponent--) {
+			assertEquals(base.pow(exponent), powerCache.get(exponent));
+		}
+
+		assertSame(powerCache.get(5), powerCache.get(5));
+		assertEquals(true, powerCache.isCacheOf(new RationalNumber(6, -14)));
+		assertEquals(false, powerCache.isCacheOf(base.negate()));
+	}
+
+	@Test
+	public void approximate() {
+		RationalNumber pi = RationalNumber.valueOf("3.1415926535897932384626433832795028841971693993751");
+		assertEquals(new RationalNumber(3), pi.approximate(0));
+		assertEquals(new RationalNumber(22, 7), pi.approximate(2));
+		assertEquals(new RationalNumber(-22, 7), pi.negate().approximate(2));
+		assertEquals(new RationalNumber(355, 113), pi.approximate(6));
+		assertEquals(RationalNumber.ZERO, new RationalNumber(1, 1000).approximate(2));
+		assertEquals(new RationalNumber(1, 3), RationalNumber.valueOf("0.{3}R").approximate(10));
+		assertEquals(new RationalNumber(1, 7), RationalNumber.valueOf("0.14285714285714").approximate(13));
+
+		for (int decimalDigits = 0; decimalDigits < 40; decimalDigits++) {
+			RationalNumber approximation = pi.approximate(decimalDigits);
+			assertEquals(-1, approximation.subtract(pi).abs().compareTo(new RationalNumber(ONE, TEN.pow(decimalDigits))));
+		}
+	}
+
+	@Test
+	public void binaryEncoding() {
+		RationalNumber[] numbers = { RationalNumber.ZERO, new RationalNumber(-1), new RationalNumber(63), new RationalNumber(-64), new RationalNumber(3, 4),
+				new RationalNumber(2, 4), new RationalNumber(Long.MAX_VALUE, Long.MAX_VALUE - 1), new RationalNumber(Long.MIN_VALUE),
+				new RationalNumber(TEN.pow(30).negate(), BigInteger.valueOf(3)), new RationalNumber(ONE, TEN.pow(30)), new RationalNumber(TEN.pow(30).negate()) };
+
+		ByteBuffer buffer = ByteBuffer.allocate(1024);
+		for (RationalNumber number : numbers) {
+			int position = buffer.position();
+			number.encode(buffer);
+			assertEquals(number.getEncodedLength(), buffer.position() - position);
+		}
+
+		buffer.flip();
+		for (RationalNumber number : numbers) {
+			assertEquals(number.toString(), RationalNumber.decode(buffer).toString());
+		}
+		assertEquals(0, buffer.remaining());
+
+		assertEquals(2, new RationalNumber(-64).getEncodedLength());
+		assertEquals(3, new RationalNumber(3, 4).getEncodedLength());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void binaryEncodingWithZeroDenominator() {
+		RationalNumber.decode(ByteBuffer.wrap(new byte[] { 0, 2, 0 }));
+	}
+
+	/** A big numerator with a length of Integer.MAX_VALUE bytes, followed by a single byte */
+	@Test(expected = IllegalArgumentException.class)
+	public void binaryEncodingTruncated() {
+		RationalNumber.decode(ByteBuffer.wrap(new byte[] { 3, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 1 }));
+	}
+
+	@Test
+	public void decimalDigitIterator() {
+		DecimalDigitIterator digitIterator = new DecimalDigitIterator(ONE, BigInteger.valueOf(6));
+		assertEquals(1, digitIterator.getNonRepeatingLength());
+		assertEquals(1, digitIterator.getRepeatingLength());
+		assertEquals(Character.valueOf('1'), digitIterator.next());
+		assertEquals(6, digitIterator.nextDigit());
+
+		digitIterator = new DecimalDigitIterator(ONE, BigInteger.valueOf(4));
+		assertEquals(2, digitIterator.getNonRepeatingLength());
+		assertEquals(0, digitIterator.getRepeatingLength());
+		assertEquals(2, digitIterator.nextDigit());
+		assertEquals(5, digitIterator.nextDigit());
+		assertEquals(false, digitIterator.hasNext());
+
+		assertEquals(96, new DecimalDigitIterator(ONE, BigInteger.valueOf(97)).getRepeatingLength());
+		assertEquals(6, new DecimalDigitIterator(BigInteger.valueOf(3), BigInteger.valueOf(7).multiply(BigInteger.valueOf(2).pow(100))).getRepeatingLength());
+		assertEquals(100, new DecimalDigitIterator(BigInteger.valueOf(3), BigInteger.valueOf(7).multiply(BigInteger.valueOf(2).pow(100))).getNonRepeatingLength());
+
+		StringBuffer resultBuffer = new StringBuffer();
+		RationalNumber.divisionAsString(resultBuffer, ONE, BigInteger.valueOf(12));
+		assertEquals("08{3}R", resultBuffer.toString());
+	}
+
 	@Test
 	public void compareTo() {
 		RationalNumber rationalNumberFirst = new RationalNumber(2, 4);
@@ -212,6 +523,37 @@ public class RationalNumberTest {
 		assertEquals(rationalNumberSecond.compareTo(rationalNumberFirst), 0);
 	}
 
+	@Test
+	public void compareToLargeNumbers() {
+		BigInteger big = BigInteger.valueOf(7).pow(60);
+		RationalNumber large = new RationalNumber(big, BigInteger.valueOf(3));
+		RationalNumber small = new RationalNumber(BigInteger.valueOf(3), big);
+
+		assertEquals(1, large.compareTo(small));
+		assertEquals(-1, small.compareTo(large));
+		assertEquals(-1, large.negate().compareTo(small.negate()));
+		assertEquals(1, small.negate().compareTo(large.negate()));
+		assertEquals(-1, large.negate().compareTo(small));
+		assertEquals(0, large.compareTo(new RationalNumber(big.multiply(TEN), BigInteger.valueOf(30))));
+		assertEquals(1, large.compareTo(new RationalNumber(big.subtract(ONE), BigInteger.valueOf(3))));
+		assertEquals(-1, large.negate().compareTo(new RationalNumber(big.subtract(ONE).negate(), BigInteger.valueOf(3))));
+		assertEquals(1, new RationalNumber(Long.MAX_VALUE, 3).compareTo(new RationalNumber(Long.MAX_VALUE - 1, 3)));
+	}
+
+	@Test
+	public void hashCodeOfEqualNumbers() {
+		assertEquals(new RationalNumber(4, 8).hashCode(), new RationalNumber(-12, -24).hashCode());
+		assertEquals(new RationalNumber(0, 8).hashCode(), new RationalNumber(0).hashCode());
+
+		BigInteger big = BigInteger.valueOf(7).pow(60);
+		assertEquals(new RationalNumber(5, 3).hashCode(), new RationalNumber(big.multiply(BigInteger.valueOf(5)), big.multiply(BigInteger.valueOf(3))).hashCode());
+		assertEquals(new RationalNumber(big, TEN).hashCode(), new RationalNumber(big.multiply(TEN), BigInteger.valueOf(100)).hashCode());
+
+		Map<RationalNumber, String> map = new HashMap<>();
+		map.put(new RationalNumber(1, 3), "one third");
+		assertEquals("one third", map.get(new RationalNumber(2, 6)));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void compareToWithIllegalArgument() {
 		RationalNumber rationalNumberFirst = new RationalNumber(2, 4);
@@ -280,6 +622,44 @@ public class RationalNumberTest {
 		assertEquals(rationalNumber.getFractionalPart(), new RationalNumber(-6, 7));
 	}
 
+	@Test
+	public void roundUp() {
+		assertEquals(new RationalNumber(3, 8), new RationalNumber(1, 3).roundUp(2));
+		assertEquals(new RationalNumber(-5, 16), new RationalNumber(-1, 3).roundUp(3));
+		assertEquals(new RationalNumber(12), new RationalNumber(12).roundUp(2));
+		assertEquals(new RationalNumber(14), new RationalNumber(13).roundUp(2));
+		assertEquals(RationalNumber.ZERO, RationalNumber.ZERO.roundUp(1));
+
+		RationalNumber number = new RationalNumber(BigInteger.valueOf(7).pow(300), BigInteger.valueOf(11).pow(200));
+		RationalNumber upperBound = number.roundUp(32);
+		assertEquals(true, upperBound.compareTo(number) >= 0);
+		assertEquals(true, upperBound.subtract(number).compareTo(number.divide(1L << 30)) < 0);
+	}
+
+	@Test
+	public void valueOfBigDecimal() {
+		assertEquals(new RationalNumber(1, 1000), RationalNumber.valueOf(new BigDecimal("1E-3")));
+		assertEquals(new RationalNumber(-1250), RationalNumber.valueOf(new BigDecimal("-1.25E+3")));
+		assertEquals(new RationalNumber(5, 4), RationalNumber.valueOf(new BigDecimal("1.2500")));
+	}
+
+	@Test
+	public void overflowOfLongComponents() {
+		RationalNumber maxLong = new RationalNumber(Long.MAX_VALUE);
+		BigInteger bigMaxLong = BigInteger.valueOf(Long.MAX_VALUE);
+
+		assertEquals(new RationalNumber(bigMaxLong.add(ONE)), maxLong.add(1));
+		assertEquals(new RationalNumber(bigMaxLong.multiply(bigMaxLong)), maxLong.multiply(maxLong));
+		assertEquals(new RationalNumber(bigMaxLong.negate().subtract(TEN)), maxLong.negate().subtract(10));
+		assertEquals(new RationalNumber(ONE, bigMaxLong.multiply(TEN)), new RationalNumber(1, Long.MAX_VALUE).divide(10));
+		assertEquals(new RationalNumber(Long.MIN_VALUE), new RationalNumber(BigInteger.valueOf(Long.MIN_VALUE)));
+		assertEquals(new RationalNumber(Long.MIN_VALUE, -1), new RationalNumber(bigMaxLong.add(ONE)));
+
+		RationalNumber sum = new RationalNumber(1, Long.MAX_VALUE).add(new RationalNumber(1, Long.MAX_VALUE - 1));
+		assertEquals(new RationalNumber(bigMaxLong.multiply(BigInteger.valueOf(2)).subtract(ONE), bigMaxLong.multiply(bigMaxLong.subtract(ONE))), sum);
+		assertEquals(new RationalNumber(2, 3), new RationalNumber(bigMaxLong.multiply(BigInteger.valueOf(2)), bigMaxLong.multiply(BigInteger.valueOf(3))).getNormalizedRationalNumber());
+	}
+
 	/* Method for manual checking rational numbers. */
 	
 
@@ -0,0 +1,38 @@
+package nl.smith.mathematics.number;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RationalSummationTest {
+
+	@Test
+	public void sumOfHarmonicSeries() {
+		List<RationalNumber> numbers = new ArrayList<>();
+		RationalNumber expected = RationalNumber.ZERO;
+		for (int i = 1; i <= 500; i++) {
+			RationalNumber number = new RationalNumber(i % 3 == 0 ? -1 : 1, i);
+			numbers.add(number);
+			expected = expected.add(number);
+		}
+
+		assertEquals(expected, RationalSummation.sum(numbers));
+		assertEquals(expected.toString(), RationalSummation.sum(numbers).toString());
+		assertEquals(expected, RationalSummation.sum(numbers, RationalSummation.getForkJoinPool(), 20));
+		assertEquals(expected, RationalSummation.sum(numbers, RationalSummation.getForkJoinPool(), 1000));
+	}
+
+	@Test
+	public void sumOfSingleNumber() {
+		assertEquals(new RationalNumber(1, 3), RationalSummation.sum(Collections.singletonList(new RationalNumber(2, 6))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sumOfEmptyList() {
+		RationalSummation.sum(new ArrayList<RationalNumber>());
+	}
+}
@@ -11,11 +11,14 @@ import static org.junit.Assert.assertTrue;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
 import nl.smith.mathematics.functions.AbstractFunction;
+import nl.smith.mathematics.number.DecimalNumber;
 import nl.smith.mathematics.number.NumberOperations;
 import nl.smith.mathematics.number.RationalNumber;
 
@@ -159,6 +162,16 @@ public class FunctionContextHelperTest extends SystemPropertyChanger {
 			return null;
 		}
 
+		@Override
+		public TestNumberOperations pow(int exponent) {
+			return null;
+		}
+
+		@Override
+		public TestNumberOperations pow(BigInteger exponent) {
+			return null;
+		}
+
 		@Override
 		public TestNumberOperations getIntegerPart() {
 			return null;
@@ -261,6 +274,10 @@ public class FunctionContextHelperTest extends SystemPropertyChanger {
 		propertyStringValue = "123.4";
 		propertyType = BigDecimal.class;
 		assertEquals(new BigDecimal(propertyStringValue), FunctionContextHelper.stringToObject(propertyType, propertyStringValue));
+
+		propertyStringValue = "precision=50 roundingMode=HALF_UP";
+		propertyType = MathContext.class;
+		assertEquals(new MathContext(50, RoundingMode.HALF_UP), FunctionContextHelper.stringToObject(propertyType, propertyStringValue));
 	}
 
 	@Test
@@ -311,6 +328,10 @@ public class FunctionContextHelperTest extends SystemPropertyChanger {
 		String propertyStringValue = "1.2{345}R";
 		Class<?> propertyType = RationalNumber.class;
 		FunctionContextHelper.stringToObject(propertyType, propertyStringValue);
+
+		propertyStringValue = "3.1415";
+		propertyType = DecimalNumber.class;
+		assertEquals(new DecimalNumber(propertyStringValue), FunctionContextHelper.stringToObject(propertyType, propertyStringValue));
 	}
 
 	@Test(expected = IllegalArgumentException.class)